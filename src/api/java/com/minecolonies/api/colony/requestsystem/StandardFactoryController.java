@@ -17,6 +17,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Tuple;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.ExecutionException;
@@ -33,6 +34,11 @@ public final class StandardFactoryController implements IFactoryController
     public static final String NBT_DATA = "Data";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
+    /**
+     * Maximum amount of bytes of a type id in a buffer.
+     */
+    private static final int MAX_VAR_INT_BYTES = 5;
+
     /**
      * Instance variable.
      */
@@ -72,6 +78,33 @@ public final class StandardFactoryController implements IFactoryController
     @NotNull
     private final BiMap<String, String> classRenamingHandlers = HashBiMap.create();
 
+    /**
+     * The factories by their type id, used to write objects into buffers without their class name.
+     * Ids are assigned in registration order, the client remaps them to the ids of the server it is connected to.
+     */
+    @NotNull
+    private final List<IFactory> factoriesByTypeId = new ArrayList<>();
+
+    /**
+     * The type ids of the factories.
+     */
+    @NotNull
+    private final Map<IFactory, Integer> typeIdsByFactory = new HashMap<>();
+
+    /**
+     * The local type ids by the type ids of the server, -1 for types unknown here.
+     * Null if the type table of the server matches the local one.
+     */
+    @Nullable
+    private volatile int[] localTypeIdsByRemote = null;
+
+    /**
+     * The type ids of the server by the local type ids, -1 for types unknown to the server.
+     * Null if the type table of the server matches the local one.
+     */
+    @Nullable
+    private volatile int[] remoteTypeIdsByLocal = null;
+
     /**
      * Private constructor. Throws IllegalStateException if already created.
      *
@@ -99,6 +132,10 @@ public final class StandardFactoryController implements IFactoryController
         getInstance().primaryInputMappings.clear();
         getInstance().primaryOutputMappings.clear();
         getInstance().secondaryOutputMappings.clear();
+        getInstance().factoriesByTypeId.clear();
+        getInstance().typeIdsByFactory.clear();
+        getInstance().localTypeIdsByRemote = null;
+        getInstance().remoteTypeIdsByLocal = null;
     }
 
     /**
@@ -214,6 +251,9 @@ public final class StandardFactoryController implements IFactoryController
         primaryInputFactories.add(factory);
         primaryOutputFactories.add(factory);
 
+        typeIdsByFactory.put(factory, factoriesByTypeId.size());
+        factoriesByTypeId.add(factory);
+
         final Set<TypeToken> outputSuperTypes = ReflectionUtils.getSuperClasses(factory.getFactoryOutputType());
 
         outputSuperTypes.remove(factory.getFactoryOutputType());
@@ -285,18 +325,115 @@ public final class StandardFactoryController implements IFactoryController
         return processClassRenaming(this.classRenamingHandlers.get(previousClassName));
     }
 
+    /**
+     * Get the type id used in buffers for objects of a given class.
+     * Renamed classes resolve to the id of their current name.
+     *
+     * @param className the name of the class.
+     * @return the type id of the factory producing the class.
+     * @throws IllegalArgumentException if no factory produces the class.
+     */
+    public int getTypeId(@NotNull final String className) throws IllegalArgumentException
+    {
+        return typeIdsByFactory.get(getFactoryForOutput(processClassRenaming(className)));
+    }
+
+    /**
+     * Get the type table of this side, the names of the output classes of the factories by their type id.
+     * The server sends it to clients when they log in.
+     *
+     * @return the class names.
+     */
+    @NotNull
+    public List<String> getTypeTable()
+    {
+        final List<String> classNames = new ArrayList<>(factoriesByTypeId.size());
+        for (final IFactory factory : factoriesByTypeId)
+        {
+            classNames.add(factory.getFactoryOutputType().getRawType().getName());
+        }
+        return classNames;
+    }
+
+    /**
+     * Set the type table of the server this client is connected to.
+     * Type ids in buffers are translated between the ids of the server and the local ones from then on.
+     *
+     * @param remoteClassNames the class names by the type ids of the server.
+     */
+    public void setRemoteTypeTable(@NotNull final List<String> remoteClassNames)
+    {
+        final int[] localByRemote = new int[remoteClassNames.size()];
+        final int[] remoteByLocal = new int[factoriesByTypeId.size()];
+        Arrays.fill(remoteByLocal, -1);
+
+        boolean identical = remoteClassNames.size() == factoriesByTypeId.size();
+        for (int remoteId = 0; remoteId < remoteClassNames.size(); remoteId++)
+        {
+            int localId;
+            try
+            {
+                localId = typeIdsByFactory.get(getFactoryForOutput(processClassRenaming(remoteClassNames.get(remoteId))));
+            }
+            catch (final IllegalArgumentException e)
+            {
+                Log.getLogger().warn("The server knows the request system type " + remoteClassNames.get(remoteId) + ", which is unknown to this client");
+                localId = -1;
+            }
+
+            localByRemote[remoteId] = localId;
+            if (localId >= 0)
+            {
+                remoteByLocal[localId] = remoteId;
+            }
+            identical &= localId == remoteId;
+        }
+
+        this.localTypeIdsByRemote = identical ? null : localByRemote;
+        this.remoteTypeIdsByLocal = identical ? null : remoteByLocal;
+    }
+
     @Override
+    @SuppressWarnings(Suppression.UNCHECKED)
     public <OUTPUT> void writeToBuffer(@NotNull final ByteBuf buffer, @NotNull final OUTPUT object) throws IllegalArgumentException
     {
-        final NBTTagCompound bufferCompound = serialize(object);
-        ByteBufUtils.writeTag(buffer, bufferCompound);
+        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
+        final int localId = typeIdsByFactory.get(factory);
+
+        final int[] remoteIds = remoteTypeIdsByLocal;
+        final int typeId = remoteIds == null ? localId : remoteIds[localId];
+        if (typeId < 0)
+        {
+            throw new IllegalArgumentException("The type " + object.getClass().getName() + " is unknown to the server");
+        }
+
+        ByteBufUtils.writeVarInt(buffer, typeId, MAX_VAR_INT_BYTES);
+        factory.serialize(this, object, buffer);
     }
 
     @Override
+    @SuppressWarnings(Suppression.UNCHECKED)
     public <OUTPUT> OUTPUT readFromBuffer(@NotNull final ByteBuf buffer) throws IllegalArgumentException
     {
-        final NBTTagCompound bufferCompound = ByteBufUtils.readTag(buffer);
-        return deserialize(bufferCompound);
+        final int remoteId = ByteBufUtils.readVarInt(buffer, MAX_VAR_INT_BYTES);
+
+        final int[] localIds = localTypeIdsByRemote;
+        final int typeId = localIds == null ? remoteId : (remoteId >= 0 && remoteId < localIds.length ? localIds[remoteId] : -1);
+        if (typeId < 0 || typeId >= factoriesByTypeId.size())
+        {
+            throw new IllegalArgumentException("The given buffer holds an unknown type id for this Controller: " + remoteId);
+        }
+
+        final IFactory<?, OUTPUT> factory = factoriesByTypeId.get(typeId);
+        try
+        {
+            return factory.deserialize(this, buffer);
+        }
+        catch (final Throwable throwable)
+        {
+            //The rest of the buffer can not be read anymore, so the error has to be passed on.
+            throw (IllegalArgumentException) new IllegalArgumentException("Failed to read an object of type id " + typeId + " from the buffer").initCause(throwable);
+        }
     }
 
     @Override
@@ -9,4 +9,11 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Get the next sequence number for the token of a new request.
+     * Sequence numbers are never handed out twice by the same store.
+     *
+     * @return the sequence number.
+     */
+    long getNextTokenSequence();
 }
@@ -2,7 +2,31 @@ package com.minecolonies.api.colony.requestsystem.data;
 
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
 
 public interface IRequestableTypeRequestResolverAssignmentDataStore extends IAssignmentDataStore<TypeToken<?>, IToken<?>>
 {
+    /**
+     * Returns the cached dispatch order of the resolvers for a given requestable type.
+     * @param requestType The requestable type.
+     * @return The tokens of the resolvers sorted by priority and type distance, or null when not cached.
+     */
+    @Nullable
+    List<IToken<?>> getCachedResolverOrder(@NotNull TypeToken<?> requestType);
+
+    /**
+     * Caches the dispatch order of the resolvers for a given requestable type.
+     * @param requestType The requestable type.
+     * @param resolverOrder The tokens of the resolvers sorted by priority and type distance.
+     */
+    void cacheResolverOrder(@NotNull TypeToken<?> requestType, @NotNull List<IToken<?>> resolverOrder);
+
+    /**
+     * Invalidates all cached dispatch orders.
+     * Needs to be called whenever the assignments change.
+     */
+    void invalidateResolverOrderCache();
 }
@@ -1,7 +1,9 @@
 package com.minecolonies.api.colony.requestsystem.factory;
 
 import com.google.common.reflect.TypeToken;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -60,4 +62,30 @@ public interface IFactory<Input, Output>
      */
     @NotNull
     Output deserialize(@NotNull IFactoryController controller, @NotNull NBTTagCompound nbt) throws Throwable;
+
+    /**
+     * Method to write a given constructable directly into a buffer.
+     * Falls back to the NBT representation, factories of objects which are synced often should write their fields directly.
+     *
+     * @param controller The controller that can be used to serialize complicated types.
+     * @param output     The object to serialize.
+     * @param buffer     The buffer to write into.
+     */
+    default void serialize(@NotNull final IFactoryController controller, @NotNull final Output output, @NotNull final ByteBuf buffer)
+    {
+        ByteBufUtils.writeTag(buffer, serialize(controller, output));
+    }
+
+    /**
+     * Method to read a given constructable from a buffer, the counterpart of {@link #serialize(IFactoryController, Object, ByteBuf)}.
+     *
+     * @param controller The controller that can be used to deserialize complicated types.
+     * @param buffer     The buffer to read from.
+     * @return The object that corresponds with the data in the buffer.
+     */
+    @NotNull
+    default Output deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer) throws Throwable
+    {
+        return deserialize(controller, ByteBufUtils.readTag(buffer));
+    }
 }
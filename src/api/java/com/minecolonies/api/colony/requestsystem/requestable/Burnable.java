@@ -2,6 +2,7 @@ package com.minecolonies.api.colony.requestsystem.requestable;
 
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntityFurnace;
@@ -52,6 +53,20 @@ public class Burnable implements IDeliverable
         return new Burnable(count, result);
     }
 
+    public static void serialize(final IFactoryController controller, final ByteBuf buffer, final Burnable food)
+    {
+        buffer.writeInt(food.count);
+        ItemStackUtils.writeToBuffer(buffer, food.result);
+    }
+
+    public static Burnable deserialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        final int count = buffer.readInt();
+        final ItemStack result = ItemStackUtils.readFromBuffer(buffer);
+
+        return new Burnable(count, result);
+    }
+
     @Override
     public boolean matches(@NotNull final ItemStack stack)
     {
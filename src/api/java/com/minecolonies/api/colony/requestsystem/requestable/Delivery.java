@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.requestsystem.requestable;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.util.ItemStackUtils;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
@@ -74,6 +75,37 @@ public class Delivery implements IRequestable
         return new Delivery(start, target, stack);
     }
 
+    /**
+     * Write a delivery into a buffer.
+     *
+     * @param controller the controller used to write the locations.
+     * @param buffer     the buffer to write to.
+     * @param delivery   the delivery.
+     */
+    public static void serialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer, final Delivery delivery)
+    {
+        controller.writeToBuffer(buffer, delivery.getStart());
+        controller.writeToBuffer(buffer, delivery.getTarget());
+        ItemStackUtils.writeToBuffer(buffer, delivery.getStack());
+    }
+
+    /**
+     * Read a delivery from a buffer.
+     *
+     * @param controller the controller used to read the locations.
+     * @param buffer     the buffer to read from.
+     * @return the delivery.
+     */
+    @NotNull
+    public static Delivery deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+    {
+        final ILocation start = controller.readFromBuffer(buffer);
+        final ILocation target = controller.readFromBuffer(buffer);
+        final ItemStack stack = ItemStackUtils.readFromBuffer(buffer);
+
+        return new Delivery(start, target, stack);
+    }
+
     @Override
     public boolean equals(final Object o)
     {
@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.requestsystem.requestable;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.item.ItemFood;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
@@ -53,6 +54,20 @@ public class Food implements IDeliverable
         return new Food(count, result);
     }
 
+    public static void serialize(final IFactoryController controller, final ByteBuf buffer, final Food food)
+    {
+        buffer.writeInt(food.count);
+        ItemStackUtils.writeToBuffer(buffer, food.result);
+    }
+
+    public static Food deserialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        final int count = buffer.readInt();
+        final ItemStack result = ItemStackUtils.readFromBuffer(buffer);
+
+        return new Food(count, result);
+    }
+
     @Override
     public boolean matches(@NotNull final ItemStack stack)
     {
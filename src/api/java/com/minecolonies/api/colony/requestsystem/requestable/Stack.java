@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.requestsystem.requestable;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.oredict.OreDictionary;
@@ -158,6 +159,41 @@ public class Stack implements IDeliverable
         return theStack;
     }
 
+    /**
+     * Serialize the deliverable into a buffer.
+     * @param controller the controller.
+     * @param buffer the buffer to write to.
+     * @param input the input.
+     */
+    public static void serialize(final IFactoryController controller, final ByteBuf buffer, final Stack input)
+    {
+        ItemStackUtils.writeToBuffer(buffer, input.theStack);
+        buffer.writeBoolean(input.matchMeta);
+        buffer.writeBoolean(input.matchNBT);
+        buffer.writeBoolean(input.matchOreDic);
+        buffer.writeInt(input.count);
+        ItemStackUtils.writeToBuffer(buffer, input.result);
+    }
+
+    /**
+     * Deserialize the deliverable from a buffer.
+     * @param controller the controller.
+     * @param buffer the buffer to read from.
+     * @return the deliverable.
+     */
+    public static Stack deserialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        final ItemStack stack = ItemStackUtils.readFromBuffer(buffer);
+        final boolean matchMeta = buffer.readBoolean();
+        final boolean matchNBT = buffer.readBoolean();
+        final boolean matchOreDic = buffer.readBoolean();
+        final int size = buffer.readInt();
+        final ItemStack result = ItemStackUtils.readFromBuffer(buffer);
+        final Stack theStack = new Stack(stack, matchMeta, matchNBT, matchOreDic, result);
+        theStack.setCount(size);
+        return theStack;
+    }
+
     @Override
     public boolean matches(@NotNull final ItemStack stack)
     {
@@ -2,9 +2,11 @@ package com.minecolonies.api.colony.requestsystem.requestable;
 
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.oredict.OreDictionary;
 import org.jetbrains.annotations.NotNull;
 
@@ -188,6 +190,50 @@ public class StackList implements IDeliverable
         return new StackList(stacks, matchMeta, matchNBT, matchOreDic, result, desc);
     }
 
+    /**
+     * Serialize the deliverable into a buffer.
+     * @param controller the controller.
+     * @param buffer the buffer to write to.
+     * @param input the input.
+     */
+    public static void serialize(final IFactoryController controller, final ByteBuf buffer, final StackList input)
+    {
+        buffer.writeInt(input.theStacks.size());
+        for (@NotNull final ItemStack resource : input.theStacks)
+        {
+            ItemStackUtils.writeToBuffer(buffer, resource);
+        }
+
+        buffer.writeBoolean(input.matchMeta);
+        buffer.writeBoolean(input.matchNBT);
+        buffer.writeBoolean(input.matchOreDic);
+        ItemStackUtils.writeToBuffer(buffer, input.result);
+        ByteBufUtils.writeUTF8String(buffer, input.description);
+    }
+
+    /**
+     * Deserialize the deliverable from a buffer.
+     * @param controller the controller.
+     * @param buffer the buffer to read from.
+     * @return the deliverable.
+     */
+    public static StackList deserialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        final int size = buffer.readInt();
+        final List<ItemStack> stacks = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i)
+        {
+            stacks.add(ItemStackUtils.readFromBuffer(buffer));
+        }
+
+        final boolean matchMeta = buffer.readBoolean();
+        final boolean matchNBT = buffer.readBoolean();
+        final boolean matchOreDic = buffer.readBoolean();
+        final ItemStack result = ItemStackUtils.readFromBuffer(buffer);
+        final String desc = ByteBufUtils.readUTF8String(buffer);
+        return new StackList(stacks, matchMeta, matchNBT, matchOreDic, result, desc);
+    }
+
     @Override
     public boolean matches(@NotNull final ItemStack stack)
     {
@@ -6,9 +6,11 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
 
+import io.netty.buffer.ByteBuf;
 import net.minecraft.inventory.EntityEquipmentSlot;
 import net.minecraft.item.*;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashSet;
@@ -132,6 +134,39 @@ public class Tool implements IDeliverable
         return new Tool(type, minLevel, maxLevel, result);
     }
 
+    /**
+     * Serializes a Tool into a buffer.
+     *
+     * @param controller The IFactoryController used to serialize sub types.
+     * @param buffer     The buffer to write to.
+     * @param tool       The tool to write.
+     */
+    public static void serialize(final IFactoryController controller, final ByteBuf buffer, final Tool tool)
+    {
+        ByteBufUtils.writeUTF8String(buffer, tool.getToolClass().getName());
+        buffer.writeInt(tool.getMinLevel());
+        buffer.writeInt(tool.getMaxLevel());
+        ItemStackUtils.writeToBuffer(buffer, tool.getResult());
+    }
+
+    /**
+     * Static method that constructs an instance from a buffer.
+     *
+     * @param controller The {@link IFactoryController} to deserialize components with.
+     * @param buffer     The buffer to read from.
+     * @return An instance of Tool with the data contained in the given buffer.
+     */
+    @NotNull
+    public static Tool deserialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        final IToolType type = ToolType.getToolType(ByteBufUtils.readUTF8String(buffer));
+        final Integer minLevel = buffer.readInt();
+        final Integer maxLevel = buffer.readInt();
+        final ItemStack result = ItemStackUtils.readFromBuffer(buffer);
+
+        return new Tool(type, minLevel, maxLevel, result);
+    }
+
     @Override
     public boolean matches(@NotNull final ItemStack stack)
     {
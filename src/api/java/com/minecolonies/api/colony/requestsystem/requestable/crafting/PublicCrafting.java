@@ -2,6 +2,7 @@ package com.minecolonies.api.colony.requestsystem.requestable.crafting;
 
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.ItemStackUtils;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
@@ -49,4 +50,32 @@ public class PublicCrafting extends AbstractCrafting
 
         return new PublicCrafting(stack, count);
     }
+
+    /**
+     * Serialize the deliverable into a buffer.
+     *
+     * @param controller the controller.
+     * @param buffer     the buffer to write to.
+     * @param input      the input.
+     */
+    public static void serialize(final IFactoryController controller, final ByteBuf buffer, final PublicCrafting input)
+    {
+        ItemStackUtils.writeToBuffer(buffer, input.getStack());
+        buffer.writeInt(input.getCount());
+    }
+
+    /**
+     * Deserialize the deliverable from a buffer.
+     *
+     * @param controller the controller.
+     * @param buffer     the buffer to read from.
+     * @return the deliverable.
+     */
+    public static PublicCrafting deserialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        final ItemStack stack = ItemStackUtils.readFromBuffer(buffer);
+        final int count = buffer.readInt();
+
+        return new PublicCrafting(stack, count);
+    }
 }
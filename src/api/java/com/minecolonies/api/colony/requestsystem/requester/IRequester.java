@@ -54,6 +54,18 @@ public interface IRequester
     @NotNull
     void onRequestCancelled(@NotNull final IRequestManager manager, @NotNull final IToken<?> token);
 
+    /**
+     * Method called by the request system to notify this requester that the state of a request changed.
+     * Allows requesters to drop cached views of their requests.
+     *
+     * @param manager The manager of the request.
+     * @param token   The token of the request.
+     */
+    default void onRequestStateChanged(@NotNull final IRequestManager manager, @NotNull final IToken<?> token)
+    {
+        //Most requesters do not cache anything.
+    }
+
     /**
      * Gets the name of the requester that requested the request given by the token.
      *
@@ -3,6 +3,7 @@ package com.minecolonies.api.colony.requestsystem.token;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.util.constant.TypeConstants;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
@@ -62,4 +63,20 @@ public abstract class AbstractTokenFactory<I> implements ITokenFactory<I, Standa
 
         return new StandardToken(id);
     }
+
+    @Override
+    public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardToken request, @NotNull final ByteBuf buffer)
+    {
+        buffer.writeLong(request.getIdentifier().getMostSignificantBits());
+        buffer.writeLong(request.getIdentifier().getLeastSignificantBits());
+    }
+
+    @NotNull
+    @Override
+    public StandardToken deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+    {
+        final long msb = buffer.readLong();
+        final long lsb = buffer.readLong();
+        return new StandardToken(new UUID(msb, lsb));
+    }
 }
@@ -0,0 +1,73 @@
+package com.minecolonies.api.colony.requestsystem.token;
+
+/**
+ * Token backed by a sequence number which is unique within one request manager.
+ * Cheaper to create, hash and serialize than the {@link StandardToken}, which is still used for data created before.
+ */
+public class SequenceToken implements IToken<Long>
+{
+    /**
+     * The sequence number of the token.
+     */
+    private final long id;
+
+    /**
+     * Creates a new token with the given sequence number.
+     *
+     * @param id the sequence number.
+     */
+    public SequenceToken(final long id)
+    {
+        this.id = id;
+    }
+
+    /**
+     * The identifier used to represent a request.
+     *
+     * @return The identifier of the request that this token represents.
+     */
+    @Override
+    public Long getIdentifier()
+    {
+        return id;
+    }
+
+    /**
+     * Get the sequence number without boxing it.
+     *
+     * @return the sequence number.
+     */
+    public long getSequence()
+    {
+        return id;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Long.hashCode(id);
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof SequenceToken))
+        {
+            return false;
+        }
+
+        return id == ((SequenceToken) o).id;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SequenceToken{" +
+                 "id=" + id +
+                 '}';
+    }
+}
@@ -0,0 +1,88 @@
+package com.minecolonies.api.colony.requestsystem.token;
+
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Factory for the {@link SequenceToken}, creates a token from a sequence number.
+ */
+public class SequenceTokenFactory implements ITokenFactory<Long, SequenceToken>
+{
+    ////// --------------------------- NBTConstants --------------------------- \\\\\\
+    public static final String NBT_SEQUENCE = "Seq";
+    ////// --------------------------- NBTConstants --------------------------- \\\\\\
+
+    /**
+     * Maximum amount of bytes of a sequence number in a buffer.
+     */
+    private static final int MAX_VAR_LONG_BYTES = 10;
+
+    @NotNull
+    @Override
+    public TypeToken<SequenceToken> getFactoryOutputType()
+    {
+        return TypeToken.of(SequenceToken.class);
+    }
+
+    @NotNull
+    @Override
+    public TypeToken<Long> getFactoryInputType()
+    {
+        return TypeToken.of(Long.class);
+    }
+
+    @NotNull
+    @Override
+    public SequenceToken getNewInstance(@NotNull final Long input)
+    {
+        return new SequenceToken(input);
+    }
+
+    @NotNull
+    @Override
+    public NBTTagCompound serialize(@NotNull final IFactoryController controller, @NotNull final SequenceToken token)
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setLong(NBT_SEQUENCE, token.getSequence());
+        return compound;
+    }
+
+    @NotNull
+    @Override
+    public SequenceToken deserialize(@NotNull final IFactoryController controller, @NotNull final NBTTagCompound nbt)
+    {
+        return new SequenceToken(nbt.getLong(NBT_SEQUENCE));
+    }
+
+    @Override
+    public void serialize(@NotNull final IFactoryController controller, @NotNull final SequenceToken token, @NotNull final ByteBuf buffer)
+    {
+        long value = token.getSequence();
+        for (int i = 0; i < MAX_VAR_LONG_BYTES - 1 && (value & ~0x7FL) != 0; i++)
+        {
+            buffer.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer.writeByte((int) value);
+    }
+
+    @NotNull
+    @Override
+    public SequenceToken deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+    {
+        long value = 0;
+        int shift = 0;
+        byte part;
+        do
+        {
+            part = buffer.readByte();
+            value |= (long) (part & 0x7F) << shift;
+            shift += 7;
+        }
+        while ((part & 0x80) != 0 && shift < 7 * MAX_VAR_LONG_BYTES);
+        return new SequenceToken(value);
+    }
+}
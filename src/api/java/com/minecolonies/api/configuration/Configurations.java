@@ -70,6 +70,9 @@ public class Configurations
         @Config.Comment("Delay modifier to mine a block (Decreasing it, decreases the delay)")
         public int blockMiningDelayModifier = 500;
 
+        @Config.Comment("The amount of parsed and rotated blueprints kept in memory for builders and miners. Higher uses more memory, lower loads them from disk more often.")
+        public int blueprintCacheSize = 32;
+
         @Config.Comment("Ores for the miner to mine that aren't autodetected")
         public String[] extraOres = new String[]
                                       {
@@ -276,6 +279,9 @@ public class Configurations
         @Config.Comment("AI Update rate, increase to improve performance. Default: 1")
         public int updateRate = 1;
 
+        @Config.Comment("Milliseconds per server tick all citizen AIs may use together before idle and less urgent AI updates are deferred to later ticks. 0 disables the limit. Default: 10")
+        public int citizenAITickBudget = 10;
+
         @Config.Comment("Quantity of dirt per Compost filling. Default: 1")
         public int dirtFromCompost = 1;
 
@@ -488,6 +494,9 @@ public class Configurations
 
         @Config.Comment("Max amount of Nodes(positions) to map during pathfinding. Default 5000: Lowering increases performance, but might lead to pathing glitches")
         public int pathfindingMaxNodes = 5000;
+
+        @Config.Comment("Max amount of pathfinding jobs waiting for a thread. When full, the jobs of the lowest priority are rejected and retried later")
+        public int pathfindingMaxQueueSize = 200;
     }
 
     public static class RequestSystem
@@ -501,6 +510,9 @@ public class Configurations
         @Config.Comment("The amount of ticks between retries of the request system for retryable requests. Lower increases server load.")
         public int delayBetweenRetries = 1200;
 
+        @Config.Comment("The maximal amount of retryable requests the request system reassigns per tick and colony, the remaining ones are retried in the next ticks.")
+        public int maximalRetriesPerTick = 20;
+
         @Config.Comment("The maximal amount of buildings the Delivery Man should try to gather before attempting a drop off at the warehouse.")
         public int maximalBuildingsToGather = 6;
 
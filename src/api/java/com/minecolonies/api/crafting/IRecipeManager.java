@@ -1,9 +1,12 @@
 package com.minecolonies.api.crafting;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The Interface describing the recipeManager which takes care of the recipes discovered by the colonies in this world.
@@ -11,11 +14,29 @@ import org.jetbrains.annotations.NotNull;
 public interface IRecipeManager
 {
     /**
-     * Get a unmodifiable copy of the recipes map.
+     * Get a unmodifiable view of the recipes map.
+     * The view is shared until the next recipe is added, so it is cheap to call.
      * @return a map of Token, RecipeStorage.
      */
     ImmutableMap<IToken, IRecipeStorage> getRecipes();
 
+    /**
+     * Get a recipe by its token.
+     * @param token the token of the recipe.
+     * @return the recipe or null if inexistent.
+     */
+    @Nullable
+    IRecipeStorage getRecipe(final IToken token);
+
+    /**
+     * Get the tokens of all recipes with a given primary output.
+     * The output is matched by item and damage value, ignoring the NBT.
+     * @param output the output to look for.
+     * @return the tokens in the order the recipes were added, empty if there are none.
+     */
+    @NotNull
+    ImmutableList<IToken> getRecipesForOutput(@NotNull final ItemStack output);
+
     /**
      * Add a recipe to the map.
      * @param storage the recipe to add
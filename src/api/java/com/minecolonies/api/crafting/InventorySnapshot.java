@@ -0,0 +1,200 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Counts of the items in a set of inventories, taken in a single pass over all their slots.
+ * <p>
+ * Items are counted by item and damage value, ignoring the NBT, as {@link ItemStack#isItemEqual(ItemStack)} does.
+ * The snapshot does not follow later changes of the inventories, take a new one after items have been moved.
+ */
+public class InventorySnapshot
+{
+    /**
+     * The amount of each item in the inventories.
+     */
+    private final Map<Key, Integer> counts = new HashMap<>();
+
+    /**
+     * Take a snapshot of inventories.
+     *
+     * @param inventories the inventories to count.
+     */
+    public InventorySnapshot(@NotNull final IItemHandler... inventories)
+    {
+        this(Arrays.asList(inventories));
+    }
+
+    /**
+     * Take a snapshot of inventories.
+     *
+     * @param inventories the inventories to count.
+     */
+    public InventorySnapshot(@NotNull final Collection<IItemHandler> inventories)
+    {
+        for (final IItemHandler handler : inventories)
+        {
+            if (handler == null)
+            {
+                continue;
+            }
+
+            for (int slot = 0; slot < handler.getSlots(); slot++)
+            {
+                final ItemStack stack = handler.getStackInSlot(slot);
+                if (!ItemStackUtils.isEmpty(stack))
+                {
+                    counts.merge(new Key(stack), stack.getCount(), Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the amount of an item in the inventories.
+     *
+     * @param stack the item to count.
+     * @return the amount, 0 if there is none.
+     */
+    public int getCount(@NotNull final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return 0;
+        }
+        return counts.getOrDefault(new Key(stack), 0);
+    }
+
+    /**
+     * Check if a recipe can be fullfilled with the items in the inventories.
+     *
+     * @param storage the recipe.
+     * @return true if possible.
+     */
+    public boolean canFullFill(@NotNull final IRecipeStorage storage)
+    {
+        return getFullFillableAmount(storage) > 0;
+    }
+
+    /**
+     * Calculate how many times a recipe can be fullfilled with the items in the inventories.
+     * Ingredients which only differ in their NBT are drawn from the same count.
+     *
+     * @param storage the recipe.
+     * @return the amount of times, 0 if it can not be fullfilled.
+     */
+    public int getFullFillableAmount(@NotNull final IRecipeStorage storage)
+    {
+        final Map<Key, Integer> needed = new HashMap<>();
+        for (final ItemStorage ingredient : getIngredients(storage))
+        {
+            needed.merge(new Key(ingredient.getItemStack()), ingredient.getAmount(), Integer::sum);
+        }
+
+        int times = Integer.MAX_VALUE;
+        for (final Map.Entry<Key, Integer> entry : needed.entrySet())
+        {
+            if (entry.getValue() <= 0)
+            {
+                continue;
+            }
+
+            times = Math.min(times, counts.getOrDefault(entry.getKey(), 0) / entry.getValue());
+            if (times == 0)
+            {
+                return 0;
+            }
+        }
+        return times;
+    }
+
+    /**
+     * Check several recipes against the inventories at once.
+     *
+     * @param storages the recipes.
+     * @return the recipes which can be fullfilled, in the given order, with the amount of times they can be fullfilled.
+     */
+    @NotNull
+    public Map<IRecipeStorage, Integer> getFullFillableRecipes(@NotNull final Collection<? extends IRecipeStorage> storages)
+    {
+        final Map<IRecipeStorage, Integer> result = new LinkedHashMap<>();
+        for (final IRecipeStorage storage : storages)
+        {
+            final int times = getFullFillableAmount(storage);
+            if (times > 0)
+            {
+                result.put(storage, times);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the merged ingredients of a recipe, without copying them for our own recipe storage.
+     *
+     * @param storage the recipe.
+     * @return the ingredients, they must not be modified.
+     */
+    private static List<ItemStorage> getIngredients(@NotNull final IRecipeStorage storage)
+    {
+        if (storage instanceof RecipeStorage)
+        {
+            return ((RecipeStorage) storage).getMergedInput();
+        }
+        return storage.getCleanedInput();
+    }
+
+    /**
+     * An item and damage value to count by.
+     */
+    private static final class Key
+    {
+        /**
+         * The item.
+         */
+        private final Item item;
+
+        /**
+         * The damage value.
+         */
+        private final int damage;
+
+        /**
+         * Create the key of a stack.
+         *
+         * @param stack the stack.
+         */
+        private Key(@NotNull final ItemStack stack)
+        {
+            this.item = stack.getItem();
+            this.damage = stack.getItemDamage();
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return damage == key.damage && item == key.item;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * Objects.hashCode(item) + damage;
+        }
+    }
+}
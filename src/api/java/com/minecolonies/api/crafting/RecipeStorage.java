@@ -44,6 +44,12 @@ public class RecipeStorage implements IRecipeStorage
      */
     private final IToken token;
 
+    /**
+     * The input with air removed and items of equal item and damage value merged, calculated once.
+     */
+    @NotNull
+    private final List<ItemStorage> mergedInput;
+
     /**
      * Create an instance of the recipe storage.
      *
@@ -60,6 +66,7 @@ public class RecipeStorage implements IRecipeStorage
         this.gridSize = gridSize;
         this.intermediate = intermediate;
         this.token = token;
+        this.mergedInput = Collections.unmodifiableList(mergeInput(this.input));
     }
 
     @Override
@@ -70,6 +77,35 @@ public class RecipeStorage implements IRecipeStorage
 
     @Override
     public List<ItemStorage> getCleanedInput()
+    {
+        final List<ItemStorage> items = new ArrayList<>(mergedInput.size());
+        for (final ItemStorage storage : mergedInput)
+        {
+            final ItemStorage copy = new ItemStorage(storage.getItemStack().copy());
+            copy.setAmount(storage.getAmount());
+            items.add(copy);
+        }
+        return items;
+    }
+
+    /**
+     * Get the cleaned up input without copying it.
+     *
+     * @return the shared list, the storages in it must not be modified.
+     */
+    List<ItemStorage> getMergedInput()
+    {
+        return mergedInput;
+    }
+
+    /**
+     * Remove air from the input and put equal items together.
+     * Items which only differ in their NBT are put together, as the ingredients are counted and extracted by item and damage value.
+     *
+     * @param input the input of the recipe.
+     * @return the merged list.
+     */
+    private static List<ItemStorage> mergeInput(final List<ItemStack> input)
     {
         final List<ItemStorage> items = new ArrayList<>();
 
@@ -80,7 +116,8 @@ public class RecipeStorage implements IRecipeStorage
                 continue;
             }
 
-            ItemStorage storage = new ItemStorage(stack.copy());
+            ItemStorage storage = new ItemStorage(stack.copy(), false, true);
+            storage.setAmount(ItemStackUtils.getSize(stack));
             if(items.contains(storage))
             {
                 final int index = items.indexOf(storage);
@@ -121,35 +158,7 @@ public class RecipeStorage implements IRecipeStorage
     @Override
     public boolean canFullFillRecipe(@NotNull final IItemHandler... inventories)
     {
-        final List<ItemStorage> items = getCleanedInput();
-
-        for (final ItemStorage stack : items)
-        {
-            int amountNeeded = stack.getAmount();
-            boolean hasStack = false;
-            for (final IItemHandler handler : inventories)
-            {
-                hasStack = InventoryUtils.hasItemInItemHandler(handler, itemStack -> !ItemStackUtils.isEmpty(itemStack) && itemStack.isItemEqual(stack.getItemStack()));
-
-                if (hasStack)
-                {
-                    final int count = InventoryUtils.getItemCountInItemHandler(handler, itemStack -> !ItemStackUtils.isEmpty(itemStack)
-                            && itemStack.isItemEqual(stack.getItemStack()));
-                    if (count >= amountNeeded)
-                    {
-                        break;
-                    }
-                    hasStack = false;
-                    amountNeeded -= count;
-                }
-            }
-
-            if (!hasStack)
-            {
-                return false;
-            }
-        }
-        return true;
+        return new InventorySnapshot(inventories).canFullFill(this);
     }
 
     @Override
@@ -237,7 +246,7 @@ public class RecipeStorage implements IRecipeStorage
             return false;
         }
 
-        for (final ItemStorage stack : getCleanedInput())
+        for (final ItemStorage stack : mergedInput)
         {
             int amountNeeded = stack.getAmount();
 
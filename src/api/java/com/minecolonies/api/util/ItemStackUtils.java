@@ -5,6 +5,7 @@ import com.minecolonies.api.compatibility.candb.ChiselAndBitsCheck;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.constant.IToolType;
 import com.minecolonies.api.util.constant.ToolType;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.block.*;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
@@ -22,6 +23,7 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.tileentity.*;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.World;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.oredict.OreDictionary;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -70,6 +72,11 @@ public final class ItemStackUtils
      */
     private static final String NBT_TAG_ENCHANT_LEVEL = "lvl";
 
+    /**
+     * Maximum amount of bytes of a count in a buffer.
+     */
+    private static final int MAX_VAR_INT_BYTES = 5;
+
     /**
      * The compound id for fortune enchantment.
      */
@@ -783,6 +790,48 @@ public final class ItemStackUtils
         return new ItemStack(compound);
     }
 
+    /**
+     * Write an ItemStack into a buffer.
+     * Unlike {@link ByteBufUtils#writeItemStack(ByteBuf, ItemStack)} the count is not limited to a byte and the full NBT is written.
+     *
+     * @param buffer The buffer to write to.
+     * @param stack  The ItemStack to write.
+     */
+    public static void writeToBuffer(@NotNull final ByteBuf buffer, @NotNull final ItemStack stack)
+    {
+        if (isEmpty(stack))
+        {
+            buffer.writeShort(-1);
+            return;
+        }
+
+        buffer.writeShort(Item.getIdFromItem(stack.getItem()));
+        ByteBufUtils.writeVarInt(buffer, stack.getCount(), MAX_VAR_INT_BYTES);
+        buffer.writeShort(stack.getItemDamage());
+        ByteBufUtils.writeTag(buffer, stack.getTagCompound());
+    }
+
+    /**
+     * Read an ItemStack written by {@link #writeToBuffer(ByteBuf, ItemStack)}.
+     *
+     * @param buffer The buffer to read from.
+     * @return The ItemStack, EMPTY if an empty stack was written.
+     */
+    @NotNull
+    public static ItemStack readFromBuffer(@NotNull final ByteBuf buffer)
+    {
+        final int id = buffer.readShort();
+        if (id < 0)
+        {
+            return EMPTY;
+        }
+
+        final int count = ByteBufUtils.readVarInt(buffer, MAX_VAR_INT_BYTES);
+        final ItemStack stack = new ItemStack(Item.getItemById(id), count, buffer.readShort());
+        stack.setTagCompound(ByteBufUtils.readTag(buffer));
+        return stack;
+    }
+
     /**
      * Check if the itemStack is some preferrable type of fuel.
      *
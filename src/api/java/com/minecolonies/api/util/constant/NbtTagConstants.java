@@ -248,6 +248,11 @@ public final class NbtTagConstants
      */
     public static final String TAG_MISSING_CHUNKS = "missingChunks";
 
+    /**
+     * Claims of all chunks of a world, indexed by chunk position.
+     */
+    public static final String TAG_CHUNK_OWNERSHIP = "chunkOwnership";
+
     /**
      * Tag used to store the worker to nbt.
      */
@@ -328,6 +333,11 @@ public final class NbtTagConstants
      */
     public static final String TAG_MAIN = "main";
 
+    /**
+     * Tag used to store the position of the warehouse a rack belongs to.
+     */
+    public static final String TAG_WAREHOUSE = "warehouse";
+
     /**
      * Tag used to store the team color of the colony.
      */
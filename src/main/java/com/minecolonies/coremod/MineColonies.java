@@ -16,8 +16,10 @@ import com.minecolonies.coremod.event.EventHandler;
 import com.minecolonies.coremod.event.FMLEventHandler;
 import com.minecolonies.coremod.fixers.TileEntityIdFixer;
 import com.minecolonies.coremod.network.messages.*;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.placementhandlers.MinecoloniesPlacementHandlers;
 import com.minecolonies.coremod.proxy.IProxy;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.util.RecipeHandler;
 import net.minecraft.init.Items;
 import net.minecraft.util.datafix.FixTypes;
@@ -32,7 +34,9 @@ import net.minecraftforge.fml.common.SidedProxy;
 import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLServerStartedEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import net.minecraftforge.fml.common.event.FMLServerStoppedEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.common.network.simpleimpl.SimpleNetworkWrapper;
 import net.minecraftforge.fml.relauncher.Side;
@@ -76,6 +80,7 @@ public class MineColonies
         MinecraftForge.EVENT_BUS.register(new BarbarianSpawnEventHandler());
         MinecraftForge.EVENT_BUS.register(new EventHandler());
         MinecraftForge.EVENT_BUS.register(new FMLEventHandler());
+        MinecraftForge.EVENT_BUS.register(new ColonyPermissionEventDispatcher());
     }
 
     /**
@@ -200,6 +205,7 @@ public class MineColonies
         network = NetworkRegistry.INSTANCE.newSimpleChannel(Constants.MOD_NAME);
 
         getNetwork().registerMessage(ServerUUIDMessage.class, ServerUUIDMessage.class, ++id, Side.CLIENT);
+        getNetwork().registerMessage(RequestSystemTypeTableMessage.class, RequestSystemTypeTableMessage.class, ++id, Side.CLIENT);
 
         //  ColonyView messages
         getNetwork().registerMessage(ColonyViewMessage.class, ColonyViewMessage.class, ++id, Side.CLIENT);
@@ -211,9 +217,9 @@ public class MineColonies
         getNetwork().registerMessage(ColonyStylesMessage.class, ColonyStylesMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewWorkOrderMessage.class, ColonyViewWorkOrderMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewRemoveWorkOrderMessage.class, ColonyViewRemoveWorkOrderMessage.class, ++id, Side.CLIENT);
-        getNetwork().registerMessage(UpdateChunkCapabilityMessage.class, UpdateChunkCapabilityMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(GuardMobAttackListMessage.class, GuardMobAttackListMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(HappinessDataMessage.class,HappinessDataMessage.class,++id,Side.CLIENT);
+        getNetwork().registerMessage(ColonyViewRequestSystemMessage.class, ColonyViewRequestSystemMessage.class, ++id, Side.CLIENT);
 
         //  Permission Request messages
         getNetwork().registerMessage(PermissionsMessage.Permission.class, PermissionsMessage.Permission.class, ++id, Side.SERVER);
@@ -276,6 +282,7 @@ public class MineColonies
         getNetwork().registerMessage(BuildingHiringModeMessage.class, BuildingHiringModeMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(DecorationBuildRequestMessage.class, DecorationBuildRequestMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(DecorationControllUpdateMessage.class, DecorationControllUpdateMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(RequestSystemResyncMessage.class, RequestSystemResyncMessage.class, ++id, Side.SERVER);
 
         //Client side only
         getNetwork().registerMessage(BlockParticleEffectMessage.class, BlockParticleEffectMessage.class, ++id, Side.CLIENT);
@@ -306,4 +313,16 @@ public class MineColonies
         event.registerServerCommand(new CommandEntryPoint());
         event.registerServerCommand(new CommandEntryPointNew());
     }
+
+    @Mod.EventHandler
+    public void serverStarted(final FMLServerStartedEvent event)
+    {
+        BlueprintCache.preloadWorkOrders();
+    }
+
+    @Mod.EventHandler
+    public void serverStopped(final FMLServerStoppedEvent event)
+    {
+        BlueprintCache.clear();
+    }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.minecolonies.coremod.client.gui;
 
 import com.ldtteam.structurize.util.BlockInfo;
 import com.ldtteam.structurize.util.PlacementSettings;
-import com.ldtteam.structurize.util.StructurePlacementUtils;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.Constants;
@@ -19,6 +18,7 @@ import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingBuilderVi
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingMiner;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
+import com.minecolonies.coremod.entity.ai.util.StructureResourceScanner;
 import com.minecolonies.coremod.network.messages.BuildRequestMessage;
 import com.minecolonies.coremod.network.messages.BuildingSetStyleMessage;
 import com.ldtteam.structurize.Structurize;
@@ -28,8 +28,6 @@ import com.ldtteam.structurize.network.messages.SchematicRequestMessage;
 import com.ldtteam.structures.helpers.Settings;
 import com.ldtteam.structures.helpers.Structure;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockBed;
-import net.minecraft.block.BlockDoor;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.init.Blocks;
@@ -71,6 +69,12 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
      */
     private final Map<String, ItemStorage> resources = new HashMap<>();
 
+    /**
+     * The running resource calculation, null if there is none.
+     */
+    @Nullable
+    private StructureResourceScanner resourceScanner;
+
     /**
      * Drop down list for style.
      */
@@ -225,6 +229,7 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
     {
         final World world = Minecraft.getMinecraft().world;
         resources.clear();
+        resourceScanner = null;
 
         final int nextLevel = building.getBuildingLevel() == building.getBuildingMaxLevel() ?
                                 building.getBuildingMaxLevel() : (building.getBuildingLevel() + 1);
@@ -257,39 +262,64 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
 
         structure.setPosition(building.getLocation());
         structure.rotate(BlockPosUtil.getRotationFromRotations(building.getRotation()), world, building.getLocation(), building.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
-        while (structure.findNextBlock())
+        resourceScanner = new StructureResourceScanner(world, structure, new ResourceHandler(world), null);
+        continueResourceScan();
+    }
+
+    /**
+     * Runs the next slice of the resource calculation and shows the resources once it is complete.
+     */
+    private void continueResourceScan()
+    {
+        if (resourceScanner == null || !resourceScanner.scan(StructureResourceScanner.DEFAULT_BUDGET_NANOS))
         {
-            @Nullable final BlockInfo blockInfo = structure.getBlockInfo();
-            @Nullable final IBlockState blockState = blockInfo.getState();
+            return;
+        }
 
-            if (blockState == null)
-            {
-                continue;
-            }
+        resourceScanner = null;
+        window.findPaneOfTypeByID(LIST_RESOURCES, ScrollingList.class).refreshElementPanes();
+        updateResourceList();
+    }
 
-            @Nullable final Block block = blockState.getBlock();
+    @Override
+    public void onUpdate()
+    {
+        super.onUpdate();
+        continueResourceScan();
+    }
 
-            if (StructurePlacementUtils.isStructureBlockEqualWorldBlock(world, structure.getBlockPosition(), blockState)
-                  || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
-                  || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER)))
-            {
-                continue;
-            }
+    /**
+     * Adds the blocks and entities found by the resource calculation to the resources.
+     */
+    private class ResourceHandler implements StructureResourceScanner.IResourceHandler
+    {
+        /**
+         * The client world.
+         */
+        private final World world;
+
+        /**
+         * Create a handler.
+         *
+         * @param world the client world.
+         */
+        private ResourceHandler(final World world)
+        {
+            this.world = world;
+        }
 
+        @Override
+        public void onBlock(@NotNull final Structure structure, @NotNull final BlockInfo blockInfo, @NotNull final IBlockState blockState)
+        {
+            @Nullable final Block block = blockState.getBlock();
             if (block != Blocks.AIR
                   && !AbstractEntityAIStructure.isBlockFree(block, 0)
                   && block != com.ldtteam.structurize.blocks.ModBlocks.blockSolidSubstitution
                   && block != com.ldtteam.structurize.blocks.ModBlocks.blockSubstitution)
             {
-                if (structure.getBlockInfo().getTileEntityData() != null)
+                if (blockInfo.getTileEntityData() != null)
                 {
-                    final List<ItemStack> itemList = new ArrayList<>();
-                    if (structure.getBlockInfo().getState() != null && structure.getBlockInfo().getTileEntityData() != null)
-                    {
-                        itemList.addAll(ItemStackUtils.getItemStacksOfTileEntity(structure.getBlockInfo().getTileEntityData(), world));
-                    }
-
-                    for (final ItemStack stack : itemList)
+                    for (final ItemStack stack : ItemStackUtils.getItemStacksOfTileEntity(blockInfo.getTileEntityData(), world))
                     {
                         addNeededResource(stack, 1);
                     }
@@ -299,22 +329,17 @@ public class WindowBuildBuilding extends AbstractWindowSkeleton
             }
         }
 
-        for (final NBTTagCompound entityInfo : structure.getEntityData())
+        @Override
+        public void onEntity(@NotNull final NBTTagCompound entityInfo)
         {
-            if (entityInfo != null)
+            for (final ItemStorage stack : ItemStackUtils.getListOfStackForEntityInfo(entityInfo, world, Minecraft.getMinecraft().player))
             {
-                for (final ItemStorage stack : ItemStackUtils.getListOfStackForEntityInfo(entityInfo, world, Minecraft.getMinecraft().player))
+                if (!ItemStackUtils.isEmpty(stack.getItemStack()))
                 {
-                    if (!ItemStackUtils.isEmpty(stack.getItemStack()))
-                    {
-                        addNeededResource(stack.getItemStack(), 1);
-                    }
+                    addNeededResource(stack.getItemStack(), 1);
                 }
             }
         }
-
-        window.findPaneOfTypeByID(LIST_RESOURCES, ScrollingList.class).refreshElementPanes();
-        updateResourceList();
     }
 
     /**
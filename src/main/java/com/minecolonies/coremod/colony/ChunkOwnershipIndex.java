@@ -0,0 +1,133 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.util.ChunkLoadStorage;
+import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_CHUNK_STORAGE;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_POS;
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Server side index of the colony claims of all chunks of one world, keyed by {@link ChunkPos#asLong(int, int)}.
+ * Holds a copy of the claim capability of loaded chunks and the pending claims of unloaded chunks,
+ * this way ownership queries never have to load a chunk.
+ * Chunks without any claim are not stored.
+ */
+public class ChunkOwnershipIndex
+{
+    /**
+     * The claims by chunk position.
+     */
+    private final Map<Long, IColonyTagCapability> claims = new HashMap<>();
+
+    /**
+     * Get the claims of a chunk.
+     * The returned capability is owned by the index and must not be changed.
+     *
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return the claims or null if the chunk is not claimed or not indexed yet.
+     */
+    @Nullable
+    public IColonyTagCapability getClaims(final int chunkX, final int chunkZ)
+    {
+        return claims.get(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Replace the indexed claims of a loaded chunk with the claims of its capability.
+     *
+     * @param chunk the chunk.
+     */
+    public void update(@NotNull final Chunk chunk)
+    {
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        final long key = ChunkPos.asLong(chunk.x, chunk.z);
+        if (cap == null || isEmpty(cap))
+        {
+            claims.remove(key);
+            return;
+        }
+
+        final IColonyTagCapability copy = new IColonyTagCapability.Impl();
+        CLOSE_COLONY_CAP.readNBT(copy, null, CLOSE_COLONY_CAP.writeNBT(cap, null));
+        claims.put(key, copy);
+    }
+
+    /**
+     * Apply a pending claim of an unloaded chunk to the index.
+     * The chunk itself receives the claim once it loads.
+     *
+     * @param chunkX  the chunk x coordinate.
+     * @param chunkZ  the chunk z coordinate.
+     * @param storage the pending claim.
+     */
+    public void applyStorage(final int chunkX, final int chunkZ, @NotNull final ChunkLoadStorage storage)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final IColonyTagCapability cap = claims.computeIfAbsent(key, k -> new IColonyTagCapability.Impl());
+        storage.applyToCap(cap);
+        if (isEmpty(cap))
+        {
+            claims.remove(key);
+        }
+    }
+
+    /**
+     * Check if a capability does not hold any claim.
+     *
+     * @param cap the capability.
+     * @return true if so.
+     */
+    private static boolean isEmpty(@NotNull final IColonyTagCapability cap)
+    {
+        return cap.getOwningColony() == 0 && cap.getAllCloseColonies().isEmpty() && cap.getAllClaimingBuildings().isEmpty();
+    }
+
+    /**
+     * Write the index to NBT.
+     *
+     * @return the list of all indexed chunks.
+     */
+    @NotNull
+    public NBTTagList writeToNBT()
+    {
+        final NBTTagList list = new NBTTagList();
+        for (final Map.Entry<Long, IColonyTagCapability> entry : claims.entrySet())
+        {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setLong(TAG_POS, entry.getKey());
+            compound.setTag(TAG_CHUNK_STORAGE, CLOSE_COLONY_CAP.writeNBT(entry.getValue(), null));
+            list.appendTag(compound);
+        }
+        return list;
+    }
+
+    /**
+     * Read the index from NBT, replacing the current content.
+     *
+     * @param list the list written by {@link #writeToNBT()}.
+     */
+    public void readFromNBT(@NotNull final NBTTagList list)
+    {
+        claims.clear();
+        NBTUtils.streamCompound(list).forEach(compound -> {
+            final IColonyTagCapability cap = new IColonyTagCapability.Impl();
+            CLOSE_COLONY_CAP.readNBT(cap, null, compound.getCompoundTag(TAG_CHUNK_STORAGE));
+            if (!isEmpty(cap))
+            {
+                claims.put(compound.getLong(TAG_POS), cap);
+            }
+        });
+    }
+}
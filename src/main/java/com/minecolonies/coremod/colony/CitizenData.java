@@ -45,6 +45,41 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 @SuppressWarnings(Suppression.BIG_CLASS)
 public class CitizenData
 {
+    /**
+     * Dirty flag of the name, entity, buildings, health, skills, status and colony of the citizen.
+     */
+    public static final int DIRTY_BASE = 1;
+
+    /**
+     * Dirty flag of the last position of the citizen.
+     */
+    public static final int DIRTY_POSITION = 2;
+
+    /**
+     * Dirty flag of the saturation of the citizen.
+     */
+    public static final int DIRTY_SATURATION = 4;
+
+    /**
+     * Dirty flag of the happiness of the citizen.
+     */
+    public static final int DIRTY_HAPPINESS = 8;
+
+    /**
+     * Dirty flag of the job, level and experience of the citizen.
+     */
+    public static final int DIRTY_JOB = 16;
+
+    /**
+     * Dirty flag of the inventory of the citizen.
+     */
+    public static final int DIRTY_INVENTORY = 32;
+
+    /**
+     * All dirty flags.
+     */
+    public static final int DIRTY_ALL = DIRTY_BASE | DIRTY_POSITION | DIRTY_SATURATION | DIRTY_HAPPINESS | DIRTY_JOB | DIRTY_INVENTORY;
+
     /**
      * Maximum saturation of a citizen.
      */
@@ -55,6 +90,11 @@ public class CitizenData
      */
     private static final float MAX_HEALTH = 20.0F;
 
+    /**
+     * Squared distance a citizen has to move from the position last sent to clients before it is sent again.
+     */
+    private static final int POSITION_SYNC_DISTANCE_SQ = 8 * 8;
+
     /**
      * Max levels of an attribute a citizen may initially have.
      */
@@ -153,9 +193,9 @@ public class CitizenData
     private AbstractJob job;
 
     /**
-     * If the citizen is dirty (Has to be updated on client side).
+     * The groups of fields which have to be updated on client side, see the DIRTY constants.
      */
-    private boolean dirty;
+    private int dirtyMask;
 
     /**
      * Minimum for citizen stats
@@ -197,6 +237,11 @@ public class CitizenData
      */
     private BlockPos lastPosition = new BlockPos(0, 0, 0);
 
+    /**
+     * The position of the citizen when it was last marked for sending to clients.
+     */
+    private BlockPos syncedPosition = lastPosition;
+
     /**
      * The citizen happiness handler.
      * +
@@ -332,6 +377,8 @@ public class CitizenData
         if (citizen != null)
         {
             entity = new WeakReference<>(citizen);
+            // Citizens without entity are not synced, so the clients need the full view again.
+            markDirty(DIRTY_ALL);
         }
     }
 
@@ -340,7 +387,17 @@ public class CitizenData
      */
     public void markDirty()
     {
-        dirty = true;
+        markDirty(DIRTY_ALL);
+    }
+
+    /**
+     * Marks some fields of the instance dirty, only these are sent to the client.
+     *
+     * @param mask the dirty fields, see the DIRTY constants.
+     */
+    public void markDirty(final int mask)
+    {
+        dirtyMask |= mask;
         colony.getCitizenManager().markCitizensDirty();
     }
 
@@ -592,7 +649,7 @@ public class CitizenData
     {
         this.female = isFemale;
         this.name = generateName(new Random());
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -601,7 +658,7 @@ public class CitizenData
     public void setPaused(final boolean p)
     {
         this.paused = p;
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -631,7 +688,17 @@ public class CitizenData
      */
     public boolean isDirty()
     {
-        return dirty;
+        return dirtyMask != 0;
+    }
+
+    /**
+     * Get the fields which have to be updated on client side.
+     *
+     * @return the dirty mask, see the DIRTY constants.
+     */
+    public int getDirtyMask()
+    {
+        return dirtyMask;
     }
 
     /**
@@ -639,7 +706,7 @@ public class CitizenData
      */
     public void clearDirty()
     {
-        dirty = false;
+        dirtyMask = 0;
     }
 
     /**
@@ -683,13 +750,13 @@ public class CitizenData
         if (homeBuilding != null && building != null && !homeBuilding.equals(building))
         {
             homeBuilding.removeCitizen(this);
-            markDirty();
+            markDirty(DIRTY_BASE);
         }
 
         if (building == null || building instanceof BuildingHome || building instanceof BuildingBarracksTower)
         {
             homeBuilding = building;
-            markDirty();
+            markDirty(DIRTY_BASE);
         }
 
         if (getCitizenEntity().isPresent() && getCitizenEntity().get().getCitizenJobHandler().getColonyJob() == null)
@@ -757,10 +824,7 @@ public class CitizenData
      */
     public void updateCitizenEntityIfNecessary()
     {
-        final List<EntityCitizen> list = colony.getWorld()
-                                           .getEntities(EntityCitizen.class,
-                                             entityCitizen -> entityCitizen.getCitizenColonyHandler().getColonyId() == colony.getID()
-                                                                && entityCitizen.getCitizenData().getId() == getId());
+        final List<EntityCitizen> list = colony.getCitizenManager().getCitizenEntities(getId());
 
         if (!list.isEmpty())
         {
@@ -824,7 +888,7 @@ public class CitizenData
 
         getCitizenEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
-        markDirty();
+        markDirty(DIRTY_JOB);
     }
 
     /**
@@ -911,56 +975,85 @@ public class CitizenData
      */
     public void serializeViewNetworkData(@NotNull final ByteBuf buf)
     {
-        ByteBufUtils.writeUTF8String(buf, name);
-        buf.writeBoolean(female);
+        serializeViewNetworkData(buf, DIRTY_ALL);
+    }
 
-        buf.writeInt(getCitizenEntity().map(Entity::getEntityId).orElse(-1));
+    /**
+     * Write some of the fields of the citizen to a buffer, read by {@link CitizenDataView#deserialize(ByteBuf, int)}.
+     *
+     * @param buf  the buffer.
+     * @param mask the fields to write, see the DIRTY constants.
+     */
+    public void serializeViewNetworkData(@NotNull final ByteBuf buf, final int mask)
+    {
+        if ((mask & DIRTY_BASE) != 0)
+        {
+            ByteBufUtils.writeUTF8String(buf, name);
+            buf.writeBoolean(female);
 
-        buf.writeBoolean(paused);
+            buf.writeInt(getCitizenEntity().map(Entity::getEntityId).orElse(-1));
 
-        buf.writeBoolean(isChild);
+            buf.writeBoolean(paused);
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
-        }
+            buf.writeBoolean(isChild);
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
-        }
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            }
 
-        //  Attributes
-        buf.writeInt(getLevel());
-        buf.writeDouble(getExperience());
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            }
+
+            // If the entity is not present we assumes standard values.
+            buf.writeFloat(getCitizenEntity().map(EntityCitizen::getHealth).orElse(MAX_HEALTH));
+            buf.writeFloat(getCitizenEntity().map(EntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
 
-        // If the entity is not present we assumes standard values.
-        buf.writeFloat(getCitizenEntity().map(EntityCitizen::getHealth).orElse(MAX_HEALTH));
-        buf.writeFloat(getCitizenEntity().map(EntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            //  Attributes
+            buf.writeInt(getStrength());
+            buf.writeInt(getEndurance());
+            buf.writeInt(getCharisma());
+            buf.writeInt(getIntelligence());
+            buf.writeInt(getDexterity());
 
-        buf.writeInt(getStrength());
-        buf.writeInt(getEndurance());
-        buf.writeInt(getCharisma());
-        buf.writeInt(getIntelligence());
-        buf.writeInt(getDexterity());
-        buf.writeDouble(getSaturation());
-        buf.writeDouble(citizenHappinessHandler.getHappiness());
+            writeStatusToBuffer(buf);
 
-        citizenHappinessHandler.serializeViewNetworkData(buf);
+            buf.writeInt(colony.getID());
+        }
 
-        ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+        if ((mask & DIRTY_JOB) != 0)
+        {
+            buf.writeInt(getLevel());
+            buf.writeDouble(getExperience());
+            ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+        }
 
-        writeStatusToBuffer(buf);
+        if ((mask & DIRTY_SATURATION) != 0)
+        {
+            buf.writeDouble(getSaturation());
+        }
 
-        buf.writeInt(colony.getID());
+        if ((mask & DIRTY_HAPPINESS) != 0)
+        {
+            buf.writeDouble(citizenHappinessHandler.getHappiness());
+            citizenHappinessHandler.serializeViewNetworkData(buf);
+        }
 
-        final NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
-        ByteBufUtils.writeTag(buf, compound);
+        if ((mask & DIRTY_INVENTORY) != 0)
+        {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
+            ByteBufUtils.writeTag(buf, compound);
+        }
 
-        BlockPosUtil.writeToByteBuf(buf, lastPosition);
+        if ((mask & DIRTY_POSITION) != 0)
+        {
+            BlockPosUtil.writeToByteBuf(buf, lastPosition);
+        }
     }
 
     /**
@@ -1163,12 +1256,18 @@ public class CitizenData
 
     /**
      * Set the last position of the citizen.
+     * Clients are only updated once the citizen moved a few blocks, as this is called every second while the citizen walks around.
      *
      * @param lastPosition the last position.
      */
     public void setLastPosition(final BlockPos lastPosition)
     {
         this.lastPosition = lastPosition;
+        if (BlockPosUtil.getDistanceSquared(lastPosition, syncedPosition) > POSITION_SYNC_DISTANCE_SQ)
+        {
+            syncedPosition = lastPosition;
+            markDirty(DIRTY_POSITION);
+        }
     }
 
     /**
@@ -1342,7 +1441,7 @@ public class CitizenData
                 dexterity = Math.min(dexterity + 1, levelCap);
                 break;
         }
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -1380,7 +1479,7 @@ public class CitizenData
     public void setIsChild(final boolean isChild)
     {
         this.isChild = isChild;
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -1408,7 +1507,7 @@ public class CitizenData
         {
             this.strength = strength > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : strength;
         }
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -1426,7 +1525,7 @@ public class CitizenData
         {
             this.endurance = endurance > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : endurance;
         }
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -1444,7 +1543,7 @@ public class CitizenData
         {
             this.charisma = charisma > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : charisma;
         }
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -1462,7 +1561,7 @@ public class CitizenData
         {
             this.intelligence = intelligence > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : intelligence;
         }
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -1480,7 +1579,7 @@ public class CitizenData
         {
             this.dexterity = dexterity > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : dexterity;
         }
-        markDirty();
+        markDirty(DIRTY_BASE);
     }
 
     /**
@@ -358,56 +358,89 @@ public class CitizenDataView
      */
     public void deserialize(@NotNull final ByteBuf buf)
     {
-        name = ByteBufUtils.readUTF8String(buf);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
-        paused = buf.readBoolean();
-        isChild = buf.readBoolean();
-
-        homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-        workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-
-        // Attributes
-        level = buf.readInt();
-        experience = buf.readDouble();
-        health = buf.readFloat();
-        maxHealth = buf.readFloat();
-
-        strength = buf.readInt();
-        endurance = buf.readInt();
-        charisma = buf.readInt();
-        intelligence = buf.readInt();
-        dexterity = buf.readInt();
-        saturation = buf.readDouble();
-        happiness = buf.readDouble();
-
-        foodModifier = buf.readDouble();
-        damageModifier = buf.readDouble();
-        houseModifier = buf.readDouble();
-        jobModifier = buf.readDouble();
-        fieldsModifier = buf.readDouble();
-        toolsModifiers = buf.readDouble();
-
-        job = ByteBufUtils.readUTF8String(buf);
-
-        final int length = buf.readInt();
-        for (int i = 0; i < length; i++)
+        deserialize(buf, CitizenData.DIRTY_ALL);
+    }
+
+    /**
+     * Deserialize some of the attributes and variables from transition, written by {@link CitizenData#serializeViewNetworkData(ByteBuf, int)}.
+     *
+     * @param buf
+     *            Byte buffer to deserialize.
+     * @param mask
+     *            the fields contained in the buffer, see the DIRTY constants of {@link CitizenData}.
+     */
+    public void deserialize(@NotNull final ByteBuf buf, final int mask)
+    {
+        if ((mask & CitizenData.DIRTY_BASE) != 0)
+        {
+            name = ByteBufUtils.readUTF8String(buf);
+            female = buf.readBoolean();
+            entityId = buf.readInt();
+            paused = buf.readBoolean();
+            isChild = buf.readBoolean();
+
+            homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
+
+            // Attributes
+            strength = buf.readInt();
+            endurance = buf.readInt();
+            charisma = buf.readInt();
+            intelligence = buf.readInt();
+            dexterity = buf.readInt();
+
+            final int length = buf.readInt();
+            for (int i = 0; i < length; i++)
+            {
+                final String textComp = ByteBufUtils.readUTF8String(buf);
+                final TextComponentTranslation textComponent = new TextComponentTranslation(textComp);
+                latestStatus[i] = textComponent;
+            }
+
+            colonyId = buf.readInt();
+        }
+
+        if ((mask & CitizenData.DIRTY_JOB) != 0)
         {
-            final String textComp = ByteBufUtils.readUTF8String(buf);
-            final TextComponentTranslation textComponent = new TextComponentTranslation(textComp);
-            latestStatus[i] = textComponent;
+            level = buf.readInt();
+            experience = buf.readDouble();
+            job = ByteBufUtils.readUTF8String(buf);
         }
 
-        colonyId = buf.readInt();
+        if ((mask & CitizenData.DIRTY_SATURATION) != 0)
+        {
+            saturation = buf.readDouble();
+        }
+
+        if ((mask & CitizenData.DIRTY_HAPPINESS) != 0)
+        {
+            happiness = buf.readDouble();
+
+            foodModifier = buf.readDouble();
+            damageModifier = buf.readDouble();
+            houseModifier = buf.readDouble();
+            jobModifier = buf.readDouble();
+            fieldsModifier = buf.readDouble();
+            toolsModifiers = buf.readDouble();
+        }
 
-        final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-        inventory = new InventoryCitizen(this.name, true);
-        final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
-        this.inventory.readFromNBT(nbttaglist);
-        this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
-        this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
+        if ((mask & CitizenData.DIRTY_INVENTORY) != 0)
+        {
+            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
+            inventory = new InventoryCitizen(this.name, true);
+            final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
+            this.inventory.readFromNBT(nbttaglist);
+            this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
+            this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
+        }
 
-        position = BlockPosUtil.readFromByteBuf(buf);
+        if ((mask & CitizenData.DIRTY_POSITION) != 0)
+        {
+            position = BlockPosUtil.readFromByteBuf(buf);
+        }
     }
 
     /**
@@ -21,8 +21,11 @@ import com.minecolonies.coremod.colony.requestsystem.management.manager.Standard
 import com.minecolonies.coremod.colony.workorders.WorkManager;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.mobs.util.MobEventsUtils;
+import com.minecolonies.coremod.entity.ai.util.CitizenAIScheduler;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
+import com.minecolonies.coremod.util.ChunkDataHelper;
 import com.minecolonies.coremod.util.ServerUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
@@ -36,8 +39,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
@@ -50,7 +51,6 @@ import static com.minecolonies.api.util.constant.ColonyConstants.*;
 import static com.minecolonies.api.util.constant.Constants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
-import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
  * This class describes a colony and contains all the data and methods for
@@ -119,6 +119,16 @@ public class Colony implements IColony
      */
     private final IProgressManager progressManager = new ProgressManager(this);
 
+    /**
+     * The threat manager of the colony, shared by its guards.
+     */
+    private final IThreatManager threatManager = new ThreatManager(this);
+
+    /**
+     * The scheduler of the AI evaluations of the citizens of the colony.
+     */
+    private final CitizenAIScheduler aiScheduler = new CitizenAIScheduler();
+
     /**
      * The Positions which players can freely interact.
      */
@@ -134,6 +144,11 @@ public class Colony implements IColony
      */
     private final ColonyPermissionEventHandler eventHandler;
 
+    /**
+     * Cache of the paths computed for the citizens of the colony.
+     */
+    private final PathCache pathCache;
+
     /**
      * Whether or not this colony may be auto-deleted.
      */
@@ -266,9 +281,9 @@ public class Colony implements IColony
         }
         this.permissions = new Permissions(this);
 
-        // Register a new event handler
+        // Create the permission handler, events are passed on by the global dispatcher
         eventHandler = new ColonyPermissionEventHandler(this);
-        MinecraftForge.EVENT_BUS.register(eventHandler);
+        pathCache = new PathCache(id);
 
         for (final String s : Configurations.gameplay.freeToInteractBlocks)
         {
@@ -514,6 +529,16 @@ public class Colony implements IColony
         return eventHandler;
     }
 
+    /**
+     * Get the path cache of the colony.
+     *
+     * @return the PathCache.
+     */
+    public PathCache getPathCache()
+    {
+        return pathCache;
+    }
+
     /**
      * Write colony to save data.
      *
@@ -679,6 +704,7 @@ public class Colony implements IColony
             {
                 visitingPlayers.remove(player);
                 attackingPlayers.remove(new AttackingPlayer(player));
+                threatManager.removeThreat(player);
             }
         }
     }
@@ -955,9 +981,8 @@ public class Colony implements IColony
             return false;
         }
 
-        final Chunk chunk = w.getChunk(pos);
-        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
-        return cap.getOwningColony() == this.getID();
+        final IColonyTagCapability claims = ChunkDataHelper.getClaims(w, pos);
+        return claims != null && claims.getOwningColony() == this.getID();
     }
 
     @Override
@@ -1311,6 +1336,26 @@ public class Colony implements IColony
         return raidManager;
     }
 
+    /**
+     * Get the threat manager of the colony.
+     *
+     * @return the threatManager.
+     */
+    public IThreatManager getThreatManager()
+    {
+        return threatManager;
+    }
+
+    /**
+     * Get the scheduler of the AI evaluations of the citizens.
+     *
+     * @return the aiScheduler.
+     */
+    public CitizenAIScheduler getAIScheduler()
+    {
+        return aiScheduler;
+    }
+
     /**
      * Get the packagemanager of the colony.
      *
@@ -1472,6 +1517,7 @@ public class Colony implements IColony
                 final AttackingPlayer attackingPlayer = new AttackingPlayer(visitingPlayer);
                 attackingPlayer.addGuard(entityCitizen);
                 attackingPlayers.add(attackingPlayer);
+                threatManager.addThreat(visitingPlayer);
                 LanguageHandler.sendPlayersMessage(getMessageEntityPlayers(), "Beware, " + visitingPlayer.getName() + " is attacking you and he brought guards.");
             }
         }
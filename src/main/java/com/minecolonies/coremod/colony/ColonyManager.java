@@ -18,6 +18,7 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
 import com.minecolonies.coremod.util.BackUpHelper;
+import com.minecolonies.coremod.util.ChunkCapabilitySyncTracker;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
@@ -29,7 +30,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -203,7 +203,6 @@ public final class ColonyManager
                 }
             }
 
-            MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
@@ -300,13 +299,12 @@ public final class ColonyManager
      */
     public static Colony getColonyByPosFromWorld(@NotNull final World w, @NotNull final BlockPos pos)
     {
-        final Chunk centralChunk = w.getChunk(pos);
-        final int id = centralChunk.getCapability(CLOSE_COLONY_CAP, null).getOwningColony();
-        if (id == 0)
+        final IColonyTagCapability claims = ChunkDataHelper.getClaims(w, pos);
+        if (claims == null || claims.getOwningColony() == 0)
         {
             return null;
         }
-        return getColonyByWorld(id, w);
+        return getColonyByWorld(claims.getOwningColony(), w);
     }
 
     /**
@@ -350,6 +348,7 @@ public final class ColonyManager
         if (storage != null)
         {
             storage.applyToCap(colonyCap);
+            ChunkDataHelper.updateOwnershipIndex(w, centralChunk);
         }
         return !colonyCap.getAllCloseColonies().isEmpty();
     }
@@ -560,13 +559,12 @@ public final class ColonyManager
      */
     public static Colony getClosestColony(@NotNull final World w, @NotNull final BlockPos pos)
     {
-        final Chunk chunk = w.getChunk(pos);
-        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
-        if (cap.getOwningColony() != 0)
+        final IColonyTagCapability cap = ChunkDataHelper.getClaims(w, pos);
+        if (cap != null && cap.getOwningColony() != 0)
         {
             return getColonyByWorld(cap.getOwningColony(), w);
         }
-        else if (!cap.getAllCloseColonies().isEmpty())
+        else if (cap != null && !cap.getAllCloseColonies().isEmpty())
         {
             @Nullable Colony closestColony = null;
             long closestDist = Long.MAX_VALUE;
@@ -710,6 +708,9 @@ public final class ColonyManager
             {
                 c.onServerTick(event);
             }
+
+            ChunkDataHelper.processPendingClaims();
+            ChunkCapabilitySyncTracker.sendPendingUpdates();
         }
     }
 
@@ -907,6 +908,19 @@ public final class ColonyManager
         serverUUID = uuid;
     }
 
+    /**
+     * When a world is saved, the colonies which changed are written to their files in the background.
+     *
+     * @param world World.
+     */
+    public static void onWorldSave(@NotNull final World world)
+    {
+        if (!world.isRemote && !(world instanceof WorldServerMulti) && loaded)
+        {
+            BackUpHelper.saveColonies(false);
+        }
+    }
+
     /**
      * When a world unloads, all colonies in that world are informed.
      * Additionally, when the last world is unloaded, delete all colonies.
@@ -957,6 +971,24 @@ public final class ColonyManager
         view.handleColonyViewMessage(colonyData, world, isNewSubscription);
     }
 
+    /**
+     * Apply a request system snapshot or delta to the {@link ColonyView} of a colony, if known.
+     *
+     * @param colonyId   ID of the colony.
+     * @param buf        {@link ByteBuf} with the request system data.
+     * @param isSnapshot true if the data is a full snapshot.
+     * @param dim        the dimension.
+     */
+    public static void handleColonyViewRequestSystemMessage(final int colonyId, @NotNull final ByteBuf buf, final boolean isSnapshot, final int dim)
+    {
+        final ColonyView view = getColonyView(colonyId, dim);
+        if (view == null)
+        {
+            return;
+        }
+        view.handleColonyViewRequestSystemMessage(buf, isSnapshot);
+    }
+
     /**
      * Get ColonyView by ID.
      *
@@ -996,23 +1028,22 @@ public final class ColonyManager
     }
 
     /**
-     * Returns result of {@link ColonyView#handleColonyViewCitizensMessage(int,
-     * ByteBuf)} if {@link #getColonyView(int, int)} gives a not-null result. If
+     * Returns result of {@link ColonyView#handleColonyViewCitizensMessage(ByteBuf)}
+     * if {@link #getColonyView(int, int)} gives a not-null result. If
      * {@link #getColonyView(int, int)} is null, returns null.
      *
      * @param colonyId  ID of the colony.
-     * @param citizenId ID of the citizen.
-     * @param buf       {@link ByteBuf} with colony data.
+     * @param buf       {@link ByteBuf} with the citizen data.
      * @param dim       the dimension.
      */
-    public static void handleColonyViewCitizensMessage(final int colonyId, final int citizenId, final ByteBuf buf, final int dim)
+    public static void handleColonyViewCitizensMessage(final int colonyId, final ByteBuf buf, final int dim)
     {
         final ColonyView view = getColonyView(colonyId, dim);
         if (view == null)
         {
             return;
         }
-        view.handleColonyViewCitizensMessage(citizenId, buf);
+        view.handleColonyViewCitizensMessage(buf);
     }
 
     /**
@@ -1164,8 +1195,8 @@ public final class ColonyManager
      */
     public static boolean isCoordinateInAnyColony(@NotNull final World world, final BlockPos pos)
     {
-        final Chunk centralChunk = world.getChunk(pos);
-        return centralChunk.getCapability(CLOSE_COLONY_CAP, null).getOwningColony() != 0;
+        final IColonyTagCapability claims = ChunkDataHelper.getClaims(world, pos);
+        return claims != null && claims.getOwningColony() != 0;
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.minecolonies.coremod.colony;
 
+import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -20,8 +22,21 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(@NotNull final World worldIn, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState, final int flags)
     {
-        //Not needed
+        //  Tile entities resend their unchanged state, that does not affect any path
+        if (oldState == newState)
+        {
+            return;
+        }
 
+        final IColonyTagCapability cap = ChunkDataHelper.getClaims(worldIn, pos);
+        if (cap != null && cap.getOwningColony() != 0)
+        {
+            final Colony colony = ColonyManager.getColonyByWorld(cap.getOwningColony(), worldIn);
+            if (colony != null)
+            {
+                colony.getPathCache().invalidate(pos);
+            }
+        }
     }
 
     @Override
@@ -83,7 +98,14 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     {
         if (entity instanceof EntityCitizen)
         {
-            ((EntityCitizen) entity).getCitizenColonyHandler().updateColonyServer();
+            final EntityCitizen entityCitizen = (EntityCitizen) entity;
+            entityCitizen.getCitizenColonyHandler().updateColonyServer();
+
+            final CitizenData citizen = entityCitizen.getCitizenData();
+            if (citizen != null && !entityCitizen.isDead)
+            {
+                citizen.getColony().getCitizenManager().registerCitizenEntity(citizen.getId(), entityCitizen);
+            }
         }
     }
 
@@ -97,6 +119,7 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
             {
                 citizen.setLastPosition(((EntityCitizen) entity).getCurrentPosition());
                 citizen.setCitizenEntity(null);
+                citizen.getColony().getCitizenManager().unregisterCitizenEntity(citizen.getId(), (EntityCitizen) entity);
             }
         }
     }
@@ -8,15 +8,19 @@ import com.minecolonies.api.colony.permissions.Rank;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.registry.BuildingRegistry;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.permissions.PermissionsView;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSystemSyncTracker;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.colony.workorders.WorkOrderView;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
+import com.minecolonies.coremod.network.messages.RequestSystemResyncMessage;
 import com.minecolonies.coremod.network.messages.TownHallRenameMessage;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
@@ -40,10 +44,6 @@ import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
  */
 public final class ColonyView implements IColony
 {
-    /**
-     * Max allowed NBTTagCompound in bytes 
-     */
-    private static final int MAX_BYTES_NBTCOMPOUND = (int) 1e6;
 
     //  General Attributes
     private final int id;
@@ -130,6 +130,16 @@ public final class ColonyView implements IColony
      */
     private IRequestManager requestManager;
 
+    /**
+     * The version of the request system state the request manager is at.
+     */
+    private int requestSystemVersion = -1;
+
+    /**
+     * If a snapshot of the request system was requested and not yet received.
+     */
+    private boolean awaitingRequestSystemSnapshot = false;
+
     /**
      * The number of raiders in the horde.
      */
@@ -221,27 +231,7 @@ public final class ColonyView implements IColony
         buf.writeInt(colony.getLastContactInHours());
         buf.writeBoolean(colony.isManualHousing());
         buf.writeBoolean(colony.canMoveIn());
-        //  Citizens are sent as a separate packet
-
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
-        {
-            final int preSize = buf.writerIndex();
-            final int preState = buf.readerIndex();
-            buf.writeBoolean(true);
-            ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= MAX_BYTES_NBTCOMPOUND)
-            {
-                colony.getRequestManager().reset();
-                buf.setIndex(preState, preSize);
-                buf.writeBoolean(true);
-                ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
-            }
-        }
-        else
-        {
-            buf.writeBoolean(false);
-        }
+        //  Citizens and the request system are sent as separate packets
 
         buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
         for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
@@ -574,13 +564,6 @@ public final class ColonyView implements IColony
         this.manualHousing = buf.readBoolean();
         this.moveIn = buf.readBoolean();
 
-        if (buf.readBoolean())
-        {
-            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserializeNBT(compound);
-        }
-
         final int barbSpawnListSize = buf.readInt();
         for (int i = 0; i < barbSpawnListSize; i++)
         {
@@ -623,31 +606,112 @@ public final class ColonyView implements IColony
     @Nullable
     public IMessage handleColonyViewWorkOrderMessage(final ByteBuf buf)
     {
-        @Nullable final WorkOrderView workOrder = AbstractWorkOrder.createWorkOrderView(buf);
-        if (workOrder != null)
+        final int count = ByteBufUtils.readVarInt(buf, 5);
+        for (int i = 0; i < count; i++)
         {
-            workOrders.put(workOrder.getId(), workOrder);
+            @Nullable final WorkOrderView workOrder = AbstractWorkOrder.createWorkOrderView(buf.readSlice(buf.readInt()));
+            if (workOrder != null)
+            {
+                workOrders.put(workOrder.getId(), workOrder);
+            }
         }
 
         return null;
     }
 
+    /**
+     * Update the request system of the ColonyView.
+     * A snapshot replaces the request manager, a delta is applied to it if it continues the current version.
+     *
+     * @param buf        Network data.
+     * @param isSnapshot true if the data is a full snapshot.
+     */
+    public void handleColonyViewRequestSystemMessage(@NotNull final ByteBuf buf, final boolean isSnapshot)
+    {
+        if (isSnapshot)
+        {
+            final int version = buf.readInt();
+            final NBTTagCompound compound = RequestSystemSyncTracker.readSnapshot(buf);
+            if (compound != null)
+            {
+                this.requestManager = new StandardRequestManager(this);
+                this.requestManager.deserializeNBT(compound);
+                this.requestSystemVersion = version;
+                this.awaitingRequestSystemSnapshot = false;
+            }
+            return;
+        }
+
+        final int fromVersion = buf.readInt();
+        final int toVersion = buf.readInt();
+        if (!(requestManager instanceof IStandardRequestManager) || fromVersion != requestSystemVersion)
+        {
+            if (!awaitingRequestSystemSnapshot)
+            {
+                awaitingRequestSystemSnapshot = true;
+                MineColonies.getNetwork().sendToServer(new RequestSystemResyncMessage(this));
+            }
+            return;
+        }
+
+        try
+        {
+            RequestSystemSyncTracker.readDelta((IStandardRequestManager) requestManager, buf);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            Log.getLogger().warn("Failed to read the request system delta of colony: " + id + ", requesting a snapshot", e);
+            requestSystemVersion = -1;
+            awaitingRequestSystemSnapshot = true;
+            MineColonies.getNetwork().sendToServer(new RequestSystemResyncMessage(this));
+            return;
+        }
+
+        requestSystemVersion = toVersion;
+    }
+
     /**
      * Update a ColonyView's citizens given a network data ColonyView update
-     * packet. This uses a full-replacement - citizens do not get updated and
-     * are instead overwritten.
+     * packet. Citizens sent with all their fields are replaced, the others
+     * only get their dirty fields updated.
      *
-     * @param id  ID of the citizen.
      * @param buf Network data.
      * @return null == no response.
      */
     @Nullable
-    public IMessage handleColonyViewCitizensMessage(final int id, final ByteBuf buf)
+    public IMessage handleColonyViewCitizensMessage(final ByteBuf buf)
     {
-        final CitizenDataView citizen = CitizenData.createCitizenDataView(id, buf);
-        if (citizen != null)
+        final int count = ByteBufUtils.readVarInt(buf, 5);
+        for (int i = 0; i < count; i++)
         {
-            citizens.put(citizen.getId(), citizen);
+            final int id = buf.readInt();
+            final int mask = buf.readUnsignedByte();
+            final ByteBuf data = buf.readSlice(buf.readInt());
+
+            if (mask == CitizenData.DIRTY_ALL)
+            {
+                final CitizenDataView citizen = CitizenData.createCitizenDataView(id, data);
+                if (citizen != null)
+                {
+                    citizens.put(citizen.getId(), citizen);
+                }
+                continue;
+            }
+
+            // A partial update without a full view before can't be applied, the next full update will contain it.
+            final CitizenDataView citizen = citizens.get(id);
+            if (citizen != null)
+            {
+                try
+                {
+                    citizen.deserialize(data, mask);
+                }
+                catch (final RuntimeException ex)
+                {
+                    Log.getLogger().error(String.format("A CitizenData.View for #%d has thrown an exception during an update, its state cannot be restored.", id), ex);
+                    citizens.remove(id);
+                }
+            }
         }
 
         return null;
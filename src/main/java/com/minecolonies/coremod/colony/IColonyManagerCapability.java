@@ -75,6 +75,13 @@ public interface IColonyManagerCapability
      */
     int getTopID();
 
+    /**
+     * Get the index of the colony claims of all chunks of the world.
+     * @return the index.
+     */
+    @NotNull
+    ChunkOwnershipIndex getChunkOwnershipIndex();
+
     /**
      * The implementation of the colonyTagCapability.
      */
@@ -91,6 +98,12 @@ public interface IColonyManagerCapability
          */
         private int missingChunksToLoad = 0;
 
+        /**
+         * The index of the colony claims of all chunks.
+         */
+        @NotNull
+        private final ChunkOwnershipIndex chunkOwnershipIndex = new ChunkOwnershipIndex();
+
         @Override
         public Colony createColony(@NotNull final World w, @NotNull final BlockPos pos)
         {
@@ -138,6 +151,13 @@ public interface IColonyManagerCapability
         {
             return colonies.getTopID();
         }
+
+        @NotNull
+        @Override
+        public ChunkOwnershipIndex getChunkOwnershipIndex()
+        {
+            return chunkOwnershipIndex;
+        }
     }
 
     /**
@@ -151,6 +171,7 @@ public interface IColonyManagerCapability
             final NBTTagCompound compound = new NBTTagCompound();
             compound.setTag(TAG_COLONIES, instance.getColonies().stream().map(Colony::getColonyTag).filter(Objects::nonNull).collect(NBTUtils.toNBTTagList()));
             compound.setInteger(TAG_MISSING_CHUNKS, instance.getMissingChunksToLoad());
+            compound.setTag(TAG_CHUNK_OWNERSHIP, instance.getChunkOwnershipIndex().writeToNBT());
             return compound;
         }
 
@@ -164,6 +185,7 @@ public interface IColonyManagerCapability
                 NBTUtils.streamCompound(((NBTTagCompound) nbt).getTagList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
                   .map(colonyCompound -> Colony.loadColony(colonyCompound, null)).filter(Objects::nonNull).forEach(instance::addColony);
                 instance.setMissingChunksToLoad(compound.getInteger(TAG_MISSING_CHUNKS));
+                instance.getChunkOwnershipIndex().readFromNBT(compound.getTagList(TAG_CHUNK_OWNERSHIP, Constants.NBT.TAG_COMPOUND));
             }
         }
     }
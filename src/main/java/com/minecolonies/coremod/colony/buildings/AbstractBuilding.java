@@ -23,7 +23,6 @@ import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
-import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
@@ -86,6 +85,11 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
     @NotNull
     private IToken<?> rsDataStoreToken;
 
+    /**
+     * Cached views of the open and completed requests of the citizens.
+     */
+    private final BuildingRequestIndex requestIndex = new BuildingRequestIndex();
+
     /**
      * The ID of the building. Needed in the request system to identify it.
      */
@@ -735,6 +739,45 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         return colony.getRequestManager().getDataStoreManager().get(rsDataStoreToken, TypeConstants.REQUEST_SYSTEM_BUILDING_DATA_STORE);
     }
 
+    /**
+     * Get the request index, dropping its views if the data store was replaced.
+     *
+     * @return the index.
+     */
+    private BuildingRequestIndex getRequestIndex()
+    {
+        requestIndex.validate(getDataStore());
+        return requestIndex;
+    }
+
+    /**
+     * Called by the request manager when the state of a request of this building changed, before the request is moved or removed.
+     * The maps of the building drop the views of the citizen again when they change afterwards.
+     *
+     * @param manager the manager.
+     * @param token   the token of the request.
+     */
+    @Override
+    public void onRequestStateChanged(@NotNull final IRequestManager manager, @NotNull final IToken<?> token)
+    {
+        final Integer citizenId = getCitizensByRequest().get(token);
+        if (citizenId != null)
+        {
+            requestIndex.invalidate(citizenId);
+            return;
+        }
+
+        //Completed requests are only known by the completed requests of their citizen.
+        for (final Map.Entry<Integer, Collection<IToken<?>>> entry : getCompletedRequestsByCitizen().entrySet())
+        {
+            if (entry.getValue().contains(token))
+            {
+                requestIndex.invalidate(entry.getKey());
+                return;
+            }
+        }
+    }
+
     private Map<TypeToken<?>, Collection<IToken<?>>> getOpenRequestsByRequestableType()
     {
         return getDataStore().getOpenRequestsByRequestableType();
@@ -823,6 +866,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
             getOpenRequestsByCitizen().put(citizenId, new ArrayList<>());
         }
         getOpenRequestsByCitizen().get(citizenId).add(requestToken);
+        requestIndex.invalidate(citizenId);
     }
 
     public boolean hasWorkerOpenRequests(@NotNull final CitizenData citizen)
@@ -833,18 +877,48 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
     @SuppressWarnings(RAWTYPES)
     public ImmutableList<IRequest> getOpenRequests(@NotNull final CitizenData data)
     {
-        if (!getOpenRequestsByCitizen().containsKey(data.getId()))
+        return getRequestIndex().getOpenRequests(data.getId(), () -> loadOpenRequests(data.getId()));
+    }
+
+    /**
+     * Resolve the open requests of a citizen, used to fill the request index.
+     *
+     * @param citizenId the id of the citizen.
+     * @return the requests.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private ImmutableList<IRequest> loadOpenRequests(final int citizenId)
+    {
+        if (!getOpenRequestsByCitizen().containsKey(citizenId))
         {
             return ImmutableList.of();
         }
 
-        return ImmutableList.copyOf(getOpenRequestsByCitizen().get(data.getId())
+        return ImmutableList.copyOf(getOpenRequestsByCitizen().get(citizenId)
                                       .stream()
                                       .map(getColony().getRequestManager()::getRequestForToken)
                                       .filter(Objects::nonNull)
                                       .iterator());
     }
 
+    /**
+     * Resolve the completed requests of a citizen, used to fill the request index.
+     *
+     * @param citizenId the id of the citizen.
+     * @return the requests.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private ImmutableList<IRequest> loadCompletedRequests(final int citizenId)
+    {
+        if (!getCompletedRequestsByCitizen().containsKey(citizenId))
+        {
+            return ImmutableList.of();
+        }
+
+        return ImmutableList.copyOf(getCompletedRequestsByCitizen().get(citizenId).stream()
+                                      .map(getColony().getRequestManager()::getRequestForToken).filter(Objects::nonNull).iterator());
+    }
+
     @SuppressWarnings(RAWTYPES)
     public boolean hasWorkerOpenRequestsFiltered(@NotNull final CitizenData citizen, @NotNull final Predicate<IRequest> selectionPredicate)
     {
@@ -861,13 +935,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
       @NotNull final CitizenData citizenData,
       final TypeToken<R> requestType)
     {
-        return ImmutableList.copyOf(getOpenRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          return requestTypes.contains(requestType);
-                                      })
-                                      .map(request -> (IRequest<? extends R>) request)
-                                      .iterator());
+        return (ImmutableList) getRequestIndex().getOpenRequestsOfType(citizenData.getId(), requestType, () -> loadOpenRequests(citizenData.getId()));
     }
 
     public boolean hasCitizenCompletedRequests(@NotNull final CitizenData data)
@@ -878,25 +946,13 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
     @SuppressWarnings(RAWTYPES)
     public ImmutableList<IRequest> getCompletedRequests(@NotNull final CitizenData data)
     {
-        if (!getCompletedRequestsByCitizen().containsKey(data.getId()))
-        {
-            return ImmutableList.of();
-        }
-
-        return ImmutableList.copyOf(getCompletedRequestsByCitizen().get(data.getId()).stream()
-                                      .map(getColony().getRequestManager()::getRequestForToken).filter(Objects::nonNull).iterator());
+        return getRequestIndex().getCompletedRequests(data.getId(), () -> loadCompletedRequests(data.getId()));
     }
 
     @SuppressWarnings({GENERIC_WILDCARD, RAWTYPES, UNCHECKED})
     public <R> ImmutableList<IRequest<? extends R>> getCompletedRequestsOfType(@NotNull final CitizenData citizenData, final TypeToken<R> requestType)
     {
-        return ImmutableList.copyOf(getCompletedRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          return requestTypes.contains(requestType);
-                                      })
-                                      .map(request -> (IRequest<? extends R>) request)
-                                      .iterator());
+        return (ImmutableList) getRequestIndex().getCompletedRequestsOfType(citizenData.getId(), requestType, () -> loadCompletedRequests(citizenData.getId()));
     }
 
     @SuppressWarnings({GENERIC_WILDCARD, RAWTYPES, UNCHECKED})
@@ -905,12 +961,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
       final TypeToken<R> requestType,
       final Predicate<IRequest<? extends R>> filter)
     {
-        return ImmutableList.copyOf(getCompletedRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          return requestTypes.contains(requestType);
-                                      })
-                                      .map(request -> (IRequest<? extends R>) request)
+        return ImmutableList.copyOf(getCompletedRequestsOfType(citizenData, requestType).stream()
                                       .filter(filter)
                                       .iterator());
     }
@@ -927,6 +978,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         {
             getCompletedRequestsByCitizen().remove(data.getId());
         }
+        requestIndex.invalidate(data.getId());
 
         getColony().getRequestManager().updateRequestState(token, RequestState.RECEIVED);
         markDirty();
@@ -961,6 +1013,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         {
             getCompletedRequestsByCitizen().remove(data.getId());
         }
+        requestIndex.invalidate(data.getId());
 
         markDirty();
     }
@@ -1038,12 +1091,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
       final TypeToken<R> requestType,
       final Predicate<IRequest<? extends R>> filter)
     {
-        return ImmutableList.copyOf(getOpenRequests(citizenData).stream()
-                                      .filter(request -> {
-                                          final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-                                          return requestTypes.contains(requestType);
-                                      })
-                                      .map(request -> (IRequest<? extends R>) request)
+        return ImmutableList.copyOf(getOpenRequestsOfType(citizenData, requestType).stream()
                                       .filter(filter)
                                       .iterator());
     }
@@ -1203,6 +1251,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
             getCompletedRequestsByCitizen().put(citizenThatRequested, new ArrayList<>());
         }
         getCompletedRequestsByCitizen().get(citizenThatRequested).add(token);
+        requestIndex.invalidate(citizenThatRequested);
 
         markDirty();
     }
@@ -1233,6 +1282,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         {
             getColony().getCitizenManager().getCitizen(citizenThatRequested).onRequestCancelled(token);
         }
+        requestIndex.invalidate(citizenThatRequested);
         markDirty();
     }
 
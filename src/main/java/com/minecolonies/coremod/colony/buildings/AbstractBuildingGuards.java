@@ -21,6 +21,7 @@ import com.minecolonies.coremod.colony.jobs.JobRanger;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.network.messages.GuardMobAttackListMessage;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
 import net.minecraft.entity.ai.attributes.AttributeModifier;
 import net.minecraft.entity.monster.EntityMob;
@@ -163,6 +164,11 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker
      */
     private List<MobEntryView> mobsToAttack = new ArrayList<>();
 
+    /**
+     * Whether an entity class may be attacked, filled from the mob list on first use of each class.
+     */
+    private final Map<Class<?>, Boolean> attackableClasses = new HashMap<>();
+
     /**
      * The player the guard has been set to follow.
      */
@@ -240,6 +246,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker
                 mobsToAttack.add(mobEntry);
             }
         }
+        attackableClasses.clear();
 
         guardPos = NBTUtil.getPosFromTag(compound.getCompoundTag(NBT_GUARD));
     }
@@ -301,6 +308,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker
         if (mobsToAttack.isEmpty())
         {
             mobsToAttack.addAll(calculateMobs());
+            attackableClasses.clear();
         }
 
         buf.writeInt(mobsToAttack.size());
@@ -672,6 +680,27 @@ public abstract class AbstractBuildingGuards extends AbstractBuildingWorker
     {
         this.mobsToAttack.clear();
         this.mobsToAttack = new ArrayList<>(list);
+        this.attackableClasses.clear();
+    }
+
+    /**
+     * Check if the guards of this building may attack an entity, by the mob list.
+     *
+     * @param entity the entity to check.
+     * @return true if one of the mob entries with attack enabled matches its class.
+     */
+    public boolean canAttack(@NotNull final Entity entity)
+    {
+        return attackableClasses.computeIfAbsent(entity.getClass(), entityClass -> {
+            for (final MobEntryView mobEntry : mobsToAttack)
+            {
+                if (mobEntry.hasAttack() && mobEntry.getEntityEntry() != null && mobEntry.getEntityEntry().getEntityClass().isAssignableFrom(entityClass))
+                {
+                    return true;
+                }
+            }
+            return false;
+        });
     }
 
     /**
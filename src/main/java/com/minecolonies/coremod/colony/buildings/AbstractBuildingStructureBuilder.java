@@ -55,6 +55,11 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
      */
     private static final String TAG_PROGRESS_STAGE = "progressStage";
 
+    /**
+     * Tag to store the position of the resource scan to nbt.
+     */
+    private static final String TAG_RESOURCE_SCAN_POS = "resourceScanPos";
+
     /**
      * Progress amount to mark building dirty.
      */
@@ -70,6 +75,12 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
      */
     private StructureIterator.Stage progressStage;
 
+    /**
+     * Last position scanned by the resource calculation of the current structure, null if it is not running.
+     */
+    @Nullable
+    private BlockPos resourceScanPos;
+
     /**
      * Contains all resources needed for a certain build.
      */
@@ -146,6 +157,11 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
             progressPos = BlockPosUtil.readFromNBT(compound, TAG_PROGRESS_POS);
             progressStage = StructureIterator.Stage.values()[compound.getInteger(TAG_PROGRESS_STAGE)];
         }
+
+        if (compound.hasKey(TAG_RESOURCE_SCAN_POS))
+        {
+            resourceScanPos = BlockPosUtil.readFromNBT(compound, TAG_RESOURCE_SCAN_POS);
+        }
     }
 
     @Override
@@ -169,6 +185,11 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
             BlockPosUtil.writeToNBT(compound, TAG_PROGRESS_POS, progressPos);
             compound.setInteger(TAG_PROGRESS_STAGE, progressStage.ordinal());
         }
+
+        if (resourceScanPos != null)
+        {
+            BlockPosUtil.writeToNBT(compound, TAG_RESOURCE_SCAN_POS, resourceScanPos);
+        }
     }
 
     /**
@@ -343,9 +364,32 @@ public abstract class AbstractBuildingStructureBuilder extends AbstractBuildingW
     public void resetNeededResources()
     {
         neededResources = new HashMap<>();
+        resourceScanPos = null;
         this.markDirty();
     }
 
+    /**
+     * Get the last position scanned by the resource calculation.
+     *
+     * @return the local position in the structure or null if no calculation is running.
+     */
+    @Nullable
+    public BlockPos getResourceScanPos()
+    {
+        return resourceScanPos;
+    }
+
+    /**
+     * Set the last position scanned by the resource calculation.
+     * It is stored together with the needed resources, which already mark the building dirty.
+     *
+     * @param resourceScanPos the local position in the structure or null once the calculation is done.
+     */
+    public void setResourceScanPos(@Nullable final BlockPos resourceScanPos)
+    {
+        this.resourceScanPos = resourceScanPos;
+    }
+
     /**
      * Check if the structureBuilder requires a certain ItemStack for the current construction.
      *
@@ -6,7 +6,9 @@ import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.InventorySnapshot;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.NBTUtils;
@@ -159,15 +161,47 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
     @Nullable
     public IRecipeStorage getFirstRecipe(final ItemStack stack)
     {
-        for(final IToken token : recipes)
+        final List<IRecipeStorage> candidates = getKnownRecipesForOutput(stack);
+        return candidates.isEmpty() ? null : candidates.get(0);
+    }
+
+    /**
+     * Get the recipes the worker knows which produce a stack, looked up by output in the recipe manager.
+     * @param stack the stack which should be crafted.
+     * @return the recipes in the priority order of the worker.
+     */
+    private List<IRecipeStorage> getKnownRecipesForOutput(final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
         {
-            final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
-            if (storage != null && storage.getPrimaryOutput().isItemEqual(stack))
+            return Collections.emptyList();
+        }
+
+        final IRecipeManager recipeManager = ColonyManager.getRecipeManager();
+        final List<IToken> known = new ArrayList<>();
+        for (final IToken token : recipeManager.getRecipesForOutput(stack))
+        {
+            if (recipes.contains(token))
             {
-                return storage;
+                known.add(token);
             }
         }
-        return null;
+
+        if (known.size() > 1)
+        {
+            known.sort(Comparator.comparingInt(recipes::indexOf));
+        }
+
+        final List<IRecipeStorage> result = new ArrayList<>(known.size());
+        for (final IToken token : known)
+        {
+            final IRecipeStorage storage = recipeManager.getRecipe(token);
+            if (storage != null)
+            {
+                result.add(storage);
+            }
+        }
+        return result;
     }
 
     /**
@@ -178,9 +212,10 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
     @Nullable
     public IRecipeStorage getFirstRecipe(final Predicate<ItemStack> stackPredicate)
     {
+        final IRecipeManager recipeManager = ColonyManager.getRecipeManager();
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = recipeManager.getRecipe(token);
             if (storage != null && stackPredicate.test(storage.getPrimaryOutput()))
             {
                 return storage;
@@ -196,16 +231,18 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
      */
     public IRecipeStorage getFirstFullFillableRecipe(final ItemStack tempStack)
     {
-        for(final IToken token : recipes)
+        final List<IRecipeStorage> candidates = getKnownRecipesForOutput(tempStack);
+        if (candidates.isEmpty())
         {
-            final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
-            if(storage != null && storage.getPrimaryOutput().isItemEqual(tempStack))
+            return null;
+        }
+
+        final InventorySnapshot snapshot = new InventorySnapshot(getHandlers());
+        for(final IRecipeStorage storage : candidates)
+        {
+            if(snapshot.canFullFill(storage))
             {
-                final List<IItemHandler> handlers = getHandlers();
-                if(storage.canFullFillRecipe(handlers.toArray(new IItemHandler[handlers.size()])))
-                {
-                    return storage;
-                }
+                return storage;
             }
         }
         return null;
@@ -218,13 +255,18 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
      */
     public IRecipeStorage getFirstFullFillableRecipe(final Predicate<ItemStack> stackPredicate)
     {
+        final IRecipeManager recipeManager = ColonyManager.getRecipeManager();
+        InventorySnapshot snapshot = null;
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = recipeManager.getRecipe(token);
             if(storage != null && stackPredicate.test(storage.getPrimaryOutput()))
             {
-                final List<IItemHandler> handlers = getHandlers();
-                if(storage.canFullFillRecipe(handlers.toArray(new IItemHandler[handlers.size()])))
+                if (snapshot == null)
+                {
+                    snapshot = new InventorySnapshot(getHandlers());
+                }
+                if(snapshot.canFullFill(storage))
                 {
                     return storage;
                 }
@@ -494,7 +536,7 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding
         final List<IRecipeStorage> storages = new ArrayList<>();
         for(final IToken token: new ArrayList<>(recipes))
         {
-            final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipe(token);
             if(storage == null)
             {
                 removeRecipe(token);
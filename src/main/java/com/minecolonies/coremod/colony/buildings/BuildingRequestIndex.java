@@ -0,0 +1,183 @@
+package com.minecolonies.coremod.colony.buildings;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.util.ReflectionUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the open and completed requests of the citizens of a building, and of these requests filtered by requestable type.
+ * The views are built on first access and dropped when the building is told that the requests of a citizen changed,
+ * which happens from the state transitions of the request manager and from the request maps of the building.
+ */
+@SuppressWarnings("rawtypes")
+public class BuildingRequestIndex
+{
+    /**
+     * The super types of each requestable type, shared by all buildings.
+     */
+    private static final Map<TypeToken<?>, Set<TypeToken>> SUPER_TYPES = new ConcurrentHashMap<>();
+
+    /**
+     * The open requests by citizen id.
+     */
+    private final Map<Integer, ImmutableList<IRequest>> openRequests = new HashMap<>();
+
+    /**
+     * The completed requests by citizen id.
+     */
+    private final Map<Integer, ImmutableList<IRequest>> completedRequests = new HashMap<>();
+
+    /**
+     * The open requests by citizen id and requestable super type.
+     */
+    private final Map<Integer, Map<TypeToken<?>, ImmutableList<IRequest>>> openRequestsByType = new HashMap<>();
+
+    /**
+     * The completed requests by citizen id and requestable super type.
+     */
+    private final Map<Integer, Map<TypeToken<?>, ImmutableList<IRequest>>> completedRequestsByType = new HashMap<>();
+
+    /**
+     * The data store the cached views were built from.
+     */
+    private Object source;
+
+    /**
+     * Get the open requests of a citizen.
+     *
+     * @param citizenId the id of the citizen.
+     * @param loader    builds the list if it is not cached.
+     * @return the cached list.
+     */
+    @NotNull
+    public ImmutableList<IRequest> getOpenRequests(final int citizenId, @NotNull final Supplier<ImmutableList<IRequest>> loader)
+    {
+        return openRequests.computeIfAbsent(citizenId, id -> loader.get());
+    }
+
+    /**
+     * Get the completed requests of a citizen.
+     *
+     * @param citizenId the id of the citizen.
+     * @param loader    builds the list if it is not cached.
+     * @return the cached list.
+     */
+    @NotNull
+    public ImmutableList<IRequest> getCompletedRequests(final int citizenId, @NotNull final Supplier<ImmutableList<IRequest>> loader)
+    {
+        return completedRequests.computeIfAbsent(citizenId, id -> loader.get());
+    }
+
+    /**
+     * Get the open requests of a citizen whose requestable is of a given type.
+     *
+     * @param citizenId   the id of the citizen.
+     * @param requestType the type.
+     * @param loader      builds the unfiltered list if it is not cached.
+     * @return the cached list.
+     */
+    @NotNull
+    public ImmutableList<IRequest> getOpenRequestsOfType(
+      final int citizenId,
+      @NotNull final TypeToken<?> requestType,
+      @NotNull final Supplier<ImmutableList<IRequest>> loader)
+    {
+        return openRequestsByType.computeIfAbsent(citizenId, id -> new HashMap<>())
+                 .computeIfAbsent(requestType, type -> filterByType(getOpenRequests(citizenId, loader), type));
+    }
+
+    /**
+     * Get the completed requests of a citizen whose requestable is of a given type.
+     *
+     * @param citizenId   the id of the citizen.
+     * @param requestType the type.
+     * @param loader      builds the unfiltered list if it is not cached.
+     * @return the cached list.
+     */
+    @NotNull
+    public ImmutableList<IRequest> getCompletedRequestsOfType(
+      final int citizenId,
+      @NotNull final TypeToken<?> requestType,
+      @NotNull final Supplier<ImmutableList<IRequest>> loader)
+    {
+        return completedRequestsByType.computeIfAbsent(citizenId, id -> new HashMap<>())
+                 .computeIfAbsent(requestType, type -> filterByType(getCompletedRequests(citizenId, loader), type));
+    }
+
+    /**
+     * Drop all views if they were built from another data store, for example after the colony was loaded again.
+     *
+     * @param dataStore the current data store of the building.
+     */
+    public void validate(@NotNull final Object dataStore)
+    {
+        if (source != dataStore)
+        {
+            invalidateAll();
+            source = dataStore;
+        }
+    }
+
+    /**
+     * Drop the views of a citizen.
+     *
+     * @param citizenId the id of the citizen.
+     */
+    public void invalidate(final int citizenId)
+    {
+        openRequests.remove(citizenId);
+        completedRequests.remove(citizenId);
+        openRequestsByType.remove(citizenId);
+        completedRequestsByType.remove(citizenId);
+    }
+
+    /**
+     * Drop all views.
+     */
+    public void invalidateAll()
+    {
+        openRequests.clear();
+        completedRequests.clear();
+        openRequestsByType.clear();
+        completedRequestsByType.clear();
+    }
+
+    /**
+     * Check if the requestable type of a request is a given type or a sub type of it.
+     *
+     * @param request     the request.
+     * @param requestType the type.
+     * @return true if so.
+     */
+    public static boolean isOfType(@NotNull final IRequest request, @NotNull final TypeToken<?> requestType)
+    {
+        return SUPER_TYPES.computeIfAbsent(request.getRequestType(), ReflectionUtils::getSuperClasses).contains(requestType);
+    }
+
+    /**
+     * Filter a list of requests by requestable type.
+     *
+     * @param requests    the requests.
+     * @param requestType the type.
+     * @return the matching requests.
+     */
+    @NotNull
+    private static ImmutableList<IRequest> filterByType(@NotNull final ImmutableList<IRequest> requests, @NotNull final TypeToken<?> requestType)
+    {
+        final ImmutableList.Builder<IRequest> builder = ImmutableList.builder();
+        for (final IRequest request : requests)
+        {
+            if (isOfType(request, requestType))
+            {
+                builder.add(request);
+            }
+        }
+        return builder.build();
+    }
+}
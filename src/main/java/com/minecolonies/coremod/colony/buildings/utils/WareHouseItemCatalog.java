@@ -0,0 +1,222 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Warehouse wide index of the items stored in its containers.
+ * The containers push their content into the catalog when it changes,
+ * this way count and location queries are map lookups instead of full inventory scans.
+ */
+public class WareHouseItemCatalog
+{
+    /**
+     * The last known content of each indexed container.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> contentByContainer = new HashMap<>();
+
+    /**
+     * The total amount of each item over all containers.
+     */
+    private final Map<ItemStorage, Integer> totals = new HashMap<>();
+
+    /**
+     * The containers holding each item.
+     */
+    private final Map<ItemStorage, Set<BlockPos>> locations = new HashMap<>();
+
+    /**
+     * Containers which content has to be scanned again before the next query.
+     */
+    private final Set<BlockPos> staleContainers = new HashSet<>();
+
+    /**
+     * Replace the content of a container in the catalog.
+     *
+     * @param pos     the position of the container.
+     * @param content the new content of the container, item to amount.
+     */
+    public void updateContainer(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        removeContent(pos);
+        final Map<ItemStorage, Integer> copy = new HashMap<>(content);
+        for (final Map.Entry<ItemStorage, Integer> entry : copy.entrySet())
+        {
+            totals.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            locations.computeIfAbsent(entry.getKey(), key -> new LinkedHashSet<>()).add(pos);
+        }
+        contentByContainer.put(pos, copy);
+        staleContainers.remove(pos);
+    }
+
+    /**
+     * Remove a container from the catalog.
+     *
+     * @param pos the position of the container.
+     */
+    public void removeContainer(@NotNull final BlockPos pos)
+    {
+        removeContent(pos);
+        contentByContainer.remove(pos);
+        staleContainers.remove(pos);
+    }
+
+    /**
+     * Subtract the known content of a container from the totals and locations.
+     *
+     * @param pos the position of the container.
+     */
+    private void removeContent(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> oldContent = contentByContainer.get(pos);
+        if (oldContent == null)
+        {
+            return;
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> entry : oldContent.entrySet())
+        {
+            final int remaining = totals.getOrDefault(entry.getKey(), 0) - entry.getValue();
+            if (remaining > 0)
+            {
+                totals.put(entry.getKey(), remaining);
+            }
+            else
+            {
+                totals.remove(entry.getKey());
+            }
+
+            final Set<BlockPos> positions = locations.get(entry.getKey());
+            if (positions != null)
+            {
+                positions.remove(pos);
+                if (positions.isEmpty())
+                {
+                    locations.remove(entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Mark a container to be scanned again before the catalog is queried.
+     *
+     * @param pos the position of the container.
+     */
+    public void markStale(@NotNull final BlockPos pos)
+    {
+        staleContainers.add(pos);
+    }
+
+    /**
+     * Get the containers which have to be scanned again.
+     *
+     * @return a copy of the set of stale positions.
+     */
+    @NotNull
+    public Set<BlockPos> getStaleContainers()
+    {
+        return new HashSet<>(staleContainers);
+    }
+
+    /**
+     * Check if a container is indexed by the catalog.
+     *
+     * @param pos the position of the container.
+     * @return true if so.
+     */
+    public boolean isIndexed(@NotNull final BlockPos pos)
+    {
+        return contentByContainer.containsKey(pos);
+    }
+
+    /**
+     * Get all indexed containers.
+     *
+     * @return a copy of the set of positions.
+     */
+    @NotNull
+    public Set<BlockPos> getContainers()
+    {
+        return new HashSet<>(contentByContainer.keySet());
+    }
+
+    /**
+     * Get the total amount of a certain item in all containers.
+     *
+     * @param storage the item.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemStorage storage)
+    {
+        return totals.getOrDefault(storage, 0);
+    }
+
+    /**
+     * Get the total amount of all items matching a predicate in all containers.
+     *
+     * @param predicate the predicate to test the items against.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : totals.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the positions of all containers holding a certain item.
+     *
+     * @param storage the item.
+     * @return an unmodifiable view of the positions, empty if none.
+     */
+    @NotNull
+    public Set<BlockPos> getLocations(@NotNull final ItemStorage storage)
+    {
+        final Set<BlockPos> positions = locations.get(storage);
+        return positions == null ? Collections.emptySet() : Collections.unmodifiableSet(positions);
+    }
+
+    /**
+     * Get the position of the first container holding an item matching a predicate.
+     *
+     * @param predicate the predicate to test the items against.
+     * @return the position or null if no container holds a matching item.
+     */
+    @Nullable
+    public BlockPos getFirstLocation(@NotNull final Predicate<ItemStack> predicate)
+    {
+        for (final Map.Entry<ItemStorage, Set<BlockPos>> entry : locations.entrySet())
+        {
+            if (!entry.getValue().isEmpty() && predicate.test(entry.getKey().getItemStack()))
+            {
+                return entry.getValue().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Clear the whole catalog.
+     */
+    public void clear()
+    {
+        contentByContainer.clear();
+        totals.clear();
+        locations.clear();
+        staleContainers.clear();
+    }
+}
@@ -78,7 +78,7 @@ public class BuildingBlacksmith extends AbstractBuildingCrafter
             return false;
         }
 
-        final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
+        final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipe(token);
         if(storage == null)
         {
             return false;
@@ -85,7 +85,7 @@ public class BuildingSawmill extends AbstractBuildingCrafter
             return false;
         }
 
-        final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
+        final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipe(token);
         if(storage == null)
         {
             return false;
@@ -81,7 +81,7 @@ public class BuildingStoneSmeltery extends AbstractBuildingSmelterCrafter
             return false;
         }
 
-        final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
+        final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipe(token);
         if (storage == null)
         {
             return false;
@@ -87,7 +87,7 @@ public class BuildingStonemason extends AbstractBuildingCrafter
             return false;
         }
 
-        final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipes().get(token);
+        final IRecipeStorage storage = ColonyManager.getRecipeManager().getRecipe(token);
         if(storage == null)
         {
             return false;
@@ -5,6 +5,7 @@ import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBuilder;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -68,6 +69,10 @@ public abstract class AbstractJobStructure extends AbstractJob
      */
     public void setStructure(final Structure structure)
     {
+        if (this.structure != structure)
+        {
+            BlueprintCache.release(this.structure);
+        }
         this.structure = structure;
     }
 
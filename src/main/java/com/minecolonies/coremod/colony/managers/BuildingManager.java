@@ -159,8 +159,10 @@ public class BuildingManager implements IBuildingManager
     @Override
     public void sendPackets(final Set<EntityPlayerMP> oldSubscribers, final boolean hasNewSubscribers, final Set<EntityPlayerMP> subscribers)
     {
-        sendBuildingPackets(oldSubscribers, hasNewSubscribers, subscribers);
-        sendFieldPackets(hasNewSubscribers, subscribers);
+        // Each building view is encoded once and shared by all its receivers.
+        final Map<AbstractBuilding, ColonyViewBuildingViewMessage> messages = new HashMap<>();
+        sendBuildingPackets(oldSubscribers, hasNewSubscribers, subscribers, messages);
+        sendFieldPackets(hasNewSubscribers, subscribers, messages);
         isBuildingsDirty = false;
         isFieldsDirty    = false;
     }
@@ -491,8 +493,14 @@ public class BuildingManager implements IBuildingManager
      *
      * @param oldSubscribers    the existing subscribers.
      * @param hasNewSubscribers the new subscribers.
+     * @param subscribers       all subscribers.
+     * @param messages          the messages already encoded this tick.
      */
-    private void sendBuildingPackets(@NotNull final Set<EntityPlayerMP> oldSubscribers, final boolean hasNewSubscribers, final Set<EntityPlayerMP> subscribers)
+    private void sendBuildingPackets(
+      @NotNull final Set<EntityPlayerMP> oldSubscribers,
+      final boolean hasNewSubscribers,
+      final Set<EntityPlayerMP> subscribers,
+      @NotNull final Map<AbstractBuilding, ColonyViewBuildingViewMessage> messages)
     {
         if (isBuildingsDirty || hasNewSubscribers)
         {
@@ -502,7 +510,7 @@ public class BuildingManager implements IBuildingManager
                 {
                     subscribers.stream()
                             .filter(player -> building.isDirty() || !oldSubscribers.contains(player))
-                            .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                            .forEach(player -> MineColonies.getNetwork().sendTo(messages.computeIfAbsent(building, ColonyViewBuildingViewMessage::new), player));
                 }
             }
         }
@@ -512,8 +520,13 @@ public class BuildingManager implements IBuildingManager
      * Sends packages to update the fields.
      *
      * @param hasNewSubscribers the new subscribers.
+     * @param subscribers       all subscribers.
+     * @param messages          the messages already encoded this tick.
      */
-    private void sendFieldPackets(final boolean hasNewSubscribers, final Set<EntityPlayerMP> subscribers)
+    private void sendFieldPackets(
+      final boolean hasNewSubscribers,
+      final Set<EntityPlayerMP> subscribers,
+      @NotNull final Map<AbstractBuilding, ColonyViewBuildingViewMessage> messages)
     {
         if (isFieldsDirty || hasNewSubscribers)
         {
@@ -521,7 +534,8 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    subscribers.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    final ColonyViewBuildingViewMessage message = messages.computeIfAbsent(building, ColonyViewBuildingViewMessage::new);
+                    subscribers.forEach(player -> MineColonies.getNetwork().sendTo(message, player));
                 }
             }
         }
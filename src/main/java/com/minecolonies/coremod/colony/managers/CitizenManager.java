@@ -46,6 +46,12 @@ public class CitizenManager implements ICitizenManager
     @NotNull
     private final Map<Integer, CitizenData> citizens = new HashMap<>();
 
+    /**
+     * Map of the entities in the world by citizen id, kept up to date when entities join or leave the world.
+     */
+    @NotNull
+    private final Map<Integer, List<EntityCitizen>> citizenEntities = new HashMap<>();
+
     /**
      * Variables to determine if citizens have to be updated on the client side.
      */
@@ -111,19 +117,37 @@ public class CitizenManager implements ICitizenManager
     {
         if (isCitizensDirty || hasNewSubscribers)
         {
+            final List<CitizenData> allCitizens = new ArrayList<>();
+            final List<CitizenData> dirtyCitizens = new ArrayList<>();
             for (@NotNull final CitizenData citizen : citizens.values())
             {
                 if (citizen.getCitizenEntity().isPresent())
                 {
-                    if (citizen.isDirty() || hasNewSubscribers)
+                    allCitizens.add(citizen);
+                    if (citizen.isDirty())
                     {
-                        subscribers.stream()
-                          .filter(player -> citizen.isDirty() || !oldSubscribers.contains(player))
-                          .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                        dirtyCitizens.add(citizen);
                     }
                 }
             }
 
+            // Each message is encoded once and shared by all its receivers.
+            if (hasNewSubscribers && !allCitizens.isEmpty())
+            {
+                final ColonyViewCitizenViewMessage fullMessage = new ColonyViewCitizenViewMessage(colony, allCitizens, true);
+                subscribers.stream()
+                  .filter(player -> !oldSubscribers.contains(player))
+                  .forEach(player -> MineColonies.getNetwork().sendTo(fullMessage, player));
+            }
+
+            if (!dirtyCitizens.isEmpty())
+            {
+                final ColonyViewCitizenViewMessage dirtyMessage = new ColonyViewCitizenViewMessage(colony, dirtyCitizens, false);
+                subscribers.stream()
+                  .filter(oldSubscribers::contains)
+                  .forEach(player -> MineColonies.getNetwork().sendTo(dirtyMessage, player));
+            }
+
             subscribers.stream()
               .filter(player -> !oldSubscribers.contains(player))
               .forEach(player -> MineColonies.getNetwork().sendTo(new HappinessDataMessage(colony, colony.getHappinessData()), player));
@@ -169,7 +193,11 @@ public class CitizenManager implements ICitizenManager
             entity.getCitizenColonyHandler().initEntityCitizenValues(colony, citizenData);
 
             entity.setPosition(spawnPoint.getX() + HALF_BLOCK, spawnPoint.getY() + SLIGHTLY_UP, spawnPoint.getZ() + HALF_BLOCK);
-            world.spawnEntity(entity);
+            if (!world.spawnEntity(entity))
+            {
+                // The entity never made it into the world, don't keep it registered.
+                entity.setDead();
+            }
 
             colony.getProgressManager().progressCitizenSpawn(citizens.size(), citizens.values().stream().filter(tempDate -> tempDate.getJob() != null).collect(Collectors.toList()).size());
             colony.getStatsManager().checkAchievements();
@@ -304,6 +332,49 @@ public class CitizenManager implements ICitizenManager
         return citizens.get(citizenId);
     }
 
+    @Override
+    public void registerCitizenEntity(final int citizenId, @NotNull final EntityCitizen entity)
+    {
+        final List<EntityCitizen> entities = citizenEntities.computeIfAbsent(citizenId, id -> new ArrayList<>());
+        if (!entities.contains(entity))
+        {
+            entities.add(entity);
+        }
+    }
+
+    @Override
+    public void unregisterCitizenEntity(final int citizenId, @NotNull final EntityCitizen entity)
+    {
+        final List<EntityCitizen> entities = citizenEntities.get(citizenId);
+        if (entities != null)
+        {
+            entities.remove(entity);
+            if (entities.isEmpty())
+            {
+                citizenEntities.remove(citizenId);
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<EntityCitizen> getCitizenEntities(final int citizenId)
+    {
+        final List<EntityCitizen> entities = citizenEntities.get(citizenId);
+        if (entities == null)
+        {
+            return Collections.emptyList();
+        }
+
+        entities.removeIf(entity -> entity.isDead || entity.world != colony.getWorld());
+        if (entities.isEmpty())
+        {
+            citizenEntities.remove(citizenId);
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(entities);
+    }
+
     @Override
     public void clearDirty()
     {
@@ -5,12 +5,15 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.managers.interfaces.IColonyPackageManager;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.RequestSystemSyncTracker;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewMessage;
+import com.minecolonies.coremod.network.messages.ColonyViewRequestSystemMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewWorkOrderMessage;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.util.ColonyUtils;
@@ -22,8 +25,7 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.MAX_SQ_DIST_OLD_SUBSCRIBER_UPDATE;
 import static com.minecolonies.api.util.constant.ColonyConstants.MAX_SQ_DIST_SUBSCRIBER_UPDATE;
@@ -68,6 +70,17 @@ public class ColonyPackageManager implements IColonyPackageManager
      */
     private final Colony colony;
 
+    /**
+     * Tracks the request system state known to the subscribers.
+     */
+    private final RequestSystemSyncTracker requestSystemSyncTracker = new RequestSystemSyncTracker();
+
+    /**
+     * Subscribers which asked for a full request system snapshot.
+     */
+    @NotNull
+    private final Set<EntityPlayerMP> requestSystemSnapshotRequests = new HashSet<>();
+
     /**
      * Creates the ColonyPackageManager for a colony.
      * @param colony the colony.
@@ -175,6 +188,9 @@ public class ColonyPackageManager implements IColonyPackageManager
             //ColonyView
             sendColonyViewPackets(oldSubscribers, hasNewSubscribers);
 
+            //RequestSystem
+            sendRequestSystemPackets(oldSubscribers, hasNewSubscribers);
+
             //Permissions
             sendPermissionsPackets(oldSubscribers, hasNewSubscribers);
 
@@ -208,16 +224,80 @@ public class ColonyPackageManager implements IColonyPackageManager
         {
             final ByteBuf colonyByteBuf = Unpooled.buffer();
             ColonyView.serializeNetworkData(colony, colonyByteBuf, hasNewSubscribers);
+            final ColonyViewMessage newSubscriberMessage = new ColonyViewMessage(colony, colonyByteBuf, true);
+            final ColonyViewMessage oldSubscriberMessage = new ColonyViewMessage(colony, colonyByteBuf, false);
             for (final EntityPlayerMP player : subscribers)
             {
                 final boolean isNewSubscriber = !oldSubscribers.contains(player);
                 if (isDirty || isNewSubscriber)
                 {
-                    MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, colonyByteBuf, isNewSubscriber), player);
+                    MineColonies.getNetwork().sendTo(isNewSubscriber ? newSubscriberMessage : oldSubscriberMessage, player);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void sendRequestSystemPackets(@NotNull final Set<EntityPlayerMP> oldSubscribers, final boolean hasNewSubscribers)
+    {
+        if (!(colony.getRequestManager() instanceof IStandardRequestManager))
+        {
+            return;
+        }
+
+        final IStandardRequestManager requestManager = (IStandardRequestManager) colony.getRequestManager();
+        requestSystemSnapshotRequests.retainAll(subscribers);
+        if (!requestManager.isDirty() && !hasNewSubscribers && requestSystemSnapshotRequests.isEmpty())
+        {
+            return;
+        }
+
+        final Set<EntityPlayerMP> snapshotReceivers = new HashSet<>(requestSystemSnapshotRequests);
+        final ByteBuf deltaByteBuf = Unpooled.buffer();
+        if (requestSystemSyncTracker.writeDelta(requestManager, deltaByteBuf))
+        {
+            if (RequestSystemSyncTracker.hasChanges(deltaByteBuf))
+            {
+                for (final EntityPlayerMP player : subscribers)
+                {
+                    if (oldSubscribers.contains(player) && !snapshotReceivers.contains(player))
+                    {
+                        MineColonies.getNetwork().sendTo(new ColonyViewRequestSystemMessage(colony, deltaByteBuf, false), player);
+                    }
                 }
             }
         }
-        colony.getRequestManager().setDirty(false);
+        else
+        {
+            snapshotReceivers.addAll(subscribers);
+        }
+
+        for (final EntityPlayerMP player : subscribers)
+        {
+            if (!oldSubscribers.contains(player))
+            {
+                snapshotReceivers.add(player);
+            }
+        }
+
+        if (!snapshotReceivers.isEmpty())
+        {
+            final ByteBuf snapshotByteBuf = Unpooled.buffer();
+            requestSystemSyncTracker.writeSnapshot(requestManager, snapshotByteBuf);
+            for (final EntityPlayerMP player : snapshotReceivers)
+            {
+                MineColonies.getNetwork().sendTo(new ColonyViewRequestSystemMessage(colony, snapshotByteBuf, true), player);
+            }
+        }
+
+        requestSystemSnapshotRequests.clear();
+        requestManager.setDirty(false);
+    }
+
+    @Override
+    public void requestRequestSystemSnapshot(@NotNull final EntityPlayerMP player)
+    {
+        requestSystemSnapshotRequests.add(player);
     }
 
     @Override
@@ -226,12 +306,14 @@ public class ColonyPackageManager implements IColonyPackageManager
         final Permissions permissions = colony.getPermissions();
         if (permissions.isDirty() || hasNewSubscribers || colony.getWorld().rand.nextInt(CHANCE_TO_UPDATE) <= 1)
         {
+            // The view only depends on the rank of the viewer, so it is encoded once per rank.
+            final Map<Rank, PermissionsMessage.View> messages = new EnumMap<>(Rank.class);
             subscribers
                     .stream()
                     .filter(player -> permissions.isDirty() || !oldSubscribers.contains(player)).forEach(player ->
             {
                 final Rank rank = permissions.getRank(player);
-                MineColonies.getNetwork().sendTo(new PermissionsMessage.View(colony, rank), player);
+                MineColonies.getNetwork().sendTo(messages.computeIfAbsent(rank, r -> new PermissionsMessage.View(colony, r)), player);
             });
         }
     }
@@ -242,15 +324,22 @@ public class ColonyPackageManager implements IColonyPackageManager
         final WorkManager workManager = colony.getWorkManager();
         if (workManager.isDirty() || hasNewSubscribers)
         {
+            final List<AbstractWorkOrder> workOrders = new ArrayList<>();
             for (final AbstractWorkOrder workOrder : workManager.getWorkOrders().values())
             {
                 if (!(workOrder instanceof WorkOrderBuildMiner))
                 {
-                    subscribers.stream().filter(player -> workManager.isDirty() || !oldSubscribers.contains(player))
-                            .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewWorkOrderMessage(colony, workOrder), player));
+                    workOrders.add(workOrder);
                 }
             }
 
+            if (!workOrders.isEmpty())
+            {
+                final ColonyViewWorkOrderMessage message = new ColonyViewWorkOrderMessage(colony, workOrders);
+                subscribers.stream().filter(player -> workManager.isDirty() || !oldSubscribers.contains(player))
+                        .forEach(player -> MineColonies.getNetwork().sendTo(message, player));
+            }
+
             workManager.setDirty(false);
         }
     }
@@ -191,11 +191,13 @@ public class RaidManager implements IRaiderManager
     public void registerRaider(@NotNull final AbstractEntityMinecoloniesMob raider)
     {
         this.horde.add(raider.getUniqueID());
+        colony.getThreatManager().addThreat(raider);
     }
 
     @Override
     public void unregisterRaider(@NotNull final AbstractEntityMinecoloniesMob raider, final WorldServer world)
     {
+        colony.getThreatManager().removeThreat(raider);
         for(final UUID uuid : new ArrayList<>(horde))
         {
             final Entity raiderEntity = world.getEntityFromUuid(uuid);
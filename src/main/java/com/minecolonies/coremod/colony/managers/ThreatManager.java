@@ -0,0 +1,195 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
+import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
+import com.minecolonies.coremod.colony.managers.interfaces.IThreatManager;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.GuardConstants.DEFAULT_VISION;
+import static com.minecolonies.api.util.constant.GuardConstants.Y_VISION;
+
+/**
+ * The threat manager of a colony.
+ * <p>
+ * Raiders and attacking players are pushed to it when they appear, all other entities around the guards are found by one scan of the area covered
+ * by all guards every {@link #SCAN_INTERVAL} ticks. Guards query it by their own search area instead of scanning the world themselves.
+ */
+public class ThreatManager implements IThreatManager
+{
+    /**
+     * Ticks between two scans of the area covered by the guards.
+     */
+    private static final int SCAN_INTERVAL = 10;
+
+    /**
+     * Ticks a line of sight check stays valid.
+     */
+    private static final int SIGHT_CACHE_TICKS = 10;
+
+    /**
+     * Blocks added around the search area of every guard, as guards move between two scans.
+     */
+    private static final int SCAN_MARGIN = 4;
+
+    /**
+     * The colony of the manager.
+     */
+    private final Colony colony;
+
+    /**
+     * Threats which were pushed to the manager.
+     */
+    private final Set<EntityLivingBase> trackedThreats = new LinkedHashSet<>();
+
+    /**
+     * The entities found by the last scan.
+     */
+    private final List<EntityLivingBase> scannedThreats = new ArrayList<>();
+
+    /**
+     * Cached line of sight checks by the ids of the viewer and target, with the tick they expire at.
+     * The lowest bit of the value is the result, the other bits the expiry tick.
+     */
+    private final Map<Long, Long> sightCache = new HashMap<>();
+
+    /**
+     * The world tick of the last scan.
+     */
+    private long lastScan = Long.MIN_VALUE;
+
+    /**
+     * Creates the threat manager for a colony.
+     * @param colony the colony.
+     */
+    public ThreatManager(final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public void addThreat(@NotNull final EntityLivingBase entity)
+    {
+        trackedThreats.add(entity);
+    }
+
+    @Override
+    public void removeThreat(@NotNull final EntityLivingBase entity)
+    {
+        trackedThreats.remove(entity);
+        scannedThreats.remove(entity);
+    }
+
+    @Override
+    public List<EntityLivingBase> getThreatsInArea(@NotNull final AxisAlignedBB area)
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return Collections.emptyList();
+        }
+
+        if (world.getTotalWorldTime() - lastScan >= SCAN_INTERVAL)
+        {
+            scan(world);
+        }
+
+        final List<EntityLivingBase> result = new ArrayList<>();
+        trackedThreats.removeIf(entity -> !isInWorld(entity));
+        for (final EntityLivingBase entity : trackedThreats)
+        {
+            if (area.intersects(entity.getEntityBoundingBox()))
+            {
+                result.add(entity);
+            }
+        }
+
+        for (final EntityLivingBase entity : scannedThreats)
+        {
+            if (isInWorld(entity) && !trackedThreats.contains(entity) && area.intersects(entity.getEntityBoundingBox()))
+            {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check if an entity is alive and still the one its world knows by its id.
+     * Entities of unloaded chunks are not dead, but the world drops them and creates new ones when the chunk loads again.
+     * @param entity the entity to check.
+     * @return true if it is a valid target.
+     */
+    private static boolean isInWorld(@NotNull final EntityLivingBase entity)
+    {
+        return entity.isEntityAlive() && entity.isAddedToWorld() && entity.world.getEntityByID(entity.getEntityId()) == entity;
+    }
+
+    @Override
+    public boolean canSee(@NotNull final EntityLivingBase viewer, @NotNull final Entity target)
+    {
+        final long now = viewer.world.getTotalWorldTime();
+        final long key = ((long) viewer.getEntityId() << Integer.SIZE) | (target.getEntityId() & 0xFFFFFFFFL);
+        final Long cached = sightCache.get(key);
+        if (cached != null && (cached >> 1) > now)
+        {
+            return (cached & 1) == 1;
+        }
+
+        final boolean seen = viewer.canEntityBeSeen(target);
+        sightCache.put(key, ((now + SIGHT_CACHE_TICKS) << 1) | (seen ? 1 : 0));
+        return seen;
+    }
+
+    /**
+     * Scan the area covered by the guards of the colony for living entities and drop expired line of sight checks.
+     * @param world the world of the colony.
+     */
+    private void scan(@NotNull final World world)
+    {
+        lastScan = world.getTotalWorldTime();
+        scannedThreats.clear();
+        sightCache.values().removeIf(value -> (value >> 1) <= lastScan);
+
+        final AxisAlignedBB area = getGuardedArea();
+        if (area != null)
+        {
+            scannedThreats.addAll(world.getEntitiesWithinAABB(EntityLivingBase.class, area, Entity::isEntityAlive));
+        }
+    }
+
+    /**
+     * Calculate the smallest box containing the search areas of all guards of the colony.
+     * @return the box or null if there are no guards around.
+     */
+    @Nullable
+    private AxisAlignedBB getGuardedArea()
+    {
+        AxisAlignedBB area = null;
+        for (final CitizenData citizen : colony.getCitizenManager().getCitizens())
+        {
+            final AbstractBuildingWorker building = citizen.getWorkBuilding();
+            final Optional<EntityCitizen> entity = citizen.getCitizenEntity();
+            if (!(building instanceof AbstractBuildingGuards) || !entity.isPresent())
+            {
+                continue;
+            }
+
+            final EntityCitizen guard = entity.get();
+            final double range = DEFAULT_VISION + ((AbstractBuildingGuards) building).getBonusVision() + SCAN_MARGIN;
+            final AxisAlignedBB guardArea = new AxisAlignedBB(guard.posX - range, guard.posY - Y_VISION - SCAN_MARGIN, guard.posZ - range,
+              guard.posX + range, guard.posY + Y_VISION + SCAN_MARGIN, guard.posZ + range);
+            area = area == null ? guardArea : area.union(guardArea);
+        }
+        return area;
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony.managers.interfaces;
 
 import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.entity.EntityCitizen;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
@@ -61,6 +62,31 @@ public interface ICitizenManager
      */
     CitizenData getCitizen(final int citizenId);
 
+    /**
+     * Register an entity which represents a citizen of this colony in the world.
+     *
+     * @param citizenId the id of the citizen.
+     * @param entity    the entity.
+     */
+    void registerCitizenEntity(final int citizenId, @NotNull final EntityCitizen entity);
+
+    /**
+     * Unregister an entity when it left the world or represents another citizen now.
+     *
+     * @param citizenId the id of the citizen it was registered for.
+     * @param entity    the entity.
+     */
+    void unregisterCitizenEntity(final int citizenId, @NotNull final EntityCitizen entity);
+
+    /**
+     * Get all living entities in the world which represent a certain citizen, in the order they were registered.
+     *
+     * @param citizenId the id of the citizen.
+     * @return a copy of the list of entities, more than one means duplicates.
+     */
+    @NotNull
+    List<EntityCitizen> getCitizenEntities(final int citizenId);
+
     /**
      * Spawn a citizen with specific citizen data.
      *
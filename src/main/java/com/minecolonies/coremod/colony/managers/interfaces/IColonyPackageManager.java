@@ -40,6 +40,22 @@ public interface IColonyPackageManager
      */
     void sendColonyViewPackets(@NotNull final Set<EntityPlayerMP> oldSubscribers, final boolean hasNewSubscribers);
 
+    /**
+     * Sends packages to update the request system.
+     * Existing subscribers get the changes since the last update, new subscribers a full snapshot.
+     *
+     * @param oldSubscribers    the existing subscribers.
+     * @param hasNewSubscribers if there are new subs.
+     */
+    void sendRequestSystemPackets(@NotNull final Set<EntityPlayerMP> oldSubscribers, final boolean hasNewSubscribers);
+
+    /**
+     * Request a full request system snapshot for a subscriber with the next update.
+     *
+     * @param player the subscriber.
+     */
+    void requestRequestSystemSnapshot(@NotNull final EntityPlayerMP player);
+
     /**
      * Sends packages to update the permissions.
      *
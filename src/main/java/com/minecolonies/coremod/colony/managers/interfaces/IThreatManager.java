@@ -0,0 +1,42 @@
+package com.minecolonies.coremod.colony.managers.interfaces;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Interface of the manager which keeps track of the threats around a colony, shared by all its guards.
+ */
+public interface IThreatManager
+{
+    /**
+     * Track an entity as a threat until it dies, is removed or leaves the world, for example a raider or an attacking player.
+     * @param entity the entity to track.
+     */
+    void addThreat(@NotNull final EntityLivingBase entity);
+
+    /**
+     * Stop tracking an entity.
+     * @param entity the entity to remove.
+     */
+    void removeThreat(@NotNull final EntityLivingBase entity);
+
+    /**
+     * Get the living threats within an area.
+     * This includes the tracked threats and all living entities around the guards of the colony, which are rescanned periodically.
+     * @param area the area to search in.
+     * @return the entities in the area.
+     */
+    List<EntityLivingBase> getThreatsInArea(@NotNull final AxisAlignedBB area);
+
+    /**
+     * Check if an entity can see another one, the result is cached for a few ticks.
+     * @param viewer the looking entity.
+     * @param target the entity to look at.
+     * @return true if it can be seen.
+     */
+    boolean canSee(@NotNull final EntityLivingBase viewer, @NotNull final Entity target);
+}
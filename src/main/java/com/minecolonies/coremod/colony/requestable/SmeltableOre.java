@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.coremod.colony.ColonyManager;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -57,6 +58,20 @@ public class SmeltableOre implements IDeliverable
         return new SmeltableOre(count, result);
     }
 
+    public static void serialize(final IFactoryController controller, final ByteBuf buffer, final SmeltableOre food)
+    {
+        buffer.writeInt(food.count);
+        ItemStackUtils.writeToBuffer(buffer, food.result == null ? ItemStackUtils.EMPTY : food.result);
+    }
+
+    public static SmeltableOre deserialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        final int count = buffer.readInt();
+        final ItemStack result = ItemStackUtils.readFromBuffer(buffer);
+
+        return new SmeltableOre(count, result);
+    }
+
     @Override
     public boolean matches(@NotNull final ItemStack stack)
     {
@@ -10,6 +10,7 @@ import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.SequenceToken;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.TypeConstants;
 import net.minecraft.nbt.NBTTagCompound;
@@ -25,23 +26,37 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
  * A default implementation of the {@link IRequestIdentitiesDataStore} interface.
+ * The identities stay keyed by {@link IToken} objects, as the store exposes them as a {@link BiMap}.
+ * New requests use {@link SequenceToken}s, which hash and compare a single long, the sequence is saved with the store.
  */
 public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDataStore
 {
+    ////// --------------------------- NBTConstants --------------------------- \\\\\\
+    private static final String NBT_NEXT_SEQUENCE = "NextSequence";
+    ////// --------------------------- NBTConstants --------------------------- \\\\\\
+
     private IToken<?>                     id;
     private final BiMap<IToken<?>, IRequest<?>> map;
 
+    /**
+     * The sequence number of the next request token.
+     */
+    private long nextSequence;
+
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
-      final BiMap<IToken<?>, IRequest<?>> map) {
+      final BiMap<IToken<?>, IRequest<?>> map,
+      final long nextSequence) {
         this.id = id;
         this.map = map;
+        this.nextSequence = nextSequence;
     }
 
     public StandardRequestIdentitiesDataStore()
     {
         this.id = StandardFactoryController.getInstance().getNewInstance(TypeConstants.ITOKEN);
         this.map = HashBiMap.create();
+        this.nextSequence = 1;
     }
 
     @Override
@@ -62,6 +77,12 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         this.id = id;
     }
 
+    @Override
+    public long getNextTokenSequence()
+    {
+        return nextSequence++;
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardRequestIdentitiesDataStore>
     {
 
@@ -101,6 +122,7 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
                 mapCompound.setTag(TAG_REQUEST, controller.serialize(standardRequestIdentitiesDataStore.getIdentities().get(token)));
                 return mapCompound;
             }).collect(NBTUtils.toNBTTagList()));
+            systemCompound.setLong(NBT_NEXT_SEQUENCE, standardRequestIdentitiesDataStore.nextSequence);
 
             return systemCompound;
         }
@@ -121,7 +143,17 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
 
             final BiMap<IToken<?>, IRequest<?>> biMap = HashBiMap.create(map);
 
-            return new StandardRequestIdentitiesDataStore(token, biMap);
+            //Stores saved before sequence tokens existed only hold UUID tokens, continue after the highest known sequence otherwise.
+            long nextSequence = nbt.hasKey(NBT_NEXT_SEQUENCE) ? nbt.getLong(NBT_NEXT_SEQUENCE) : 1;
+            for (final IToken<?> key : biMap.keySet())
+            {
+                if (key instanceof SequenceToken)
+                {
+                    nextSequence = Math.max(nextSequence, ((SequenceToken) key).getSequence() + 1);
+                }
+            }
+
+            return new StandardRequestIdentitiesDataStore(token, biMap, nextSequence);
         }
     }
 }
@@ -14,9 +14,11 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -25,6 +27,7 @@ public class StandardRequestableTypeRequestResolverAssignmentDataStore implement
 
     private IToken<?> id;
     private final Map<TypeToken<?>, Collection<IToken<?>>> assignments;
+    private final Map<TypeToken<?>, List<IToken<?>>> resolverOrderCache = new HashMap<>();
 
     public StandardRequestableTypeRequestResolverAssignmentDataStore(
       final IToken<?> id,
@@ -45,6 +48,25 @@ public class StandardRequestableTypeRequestResolverAssignmentDataStore implement
         return assignments;
     }
 
+    @Nullable
+    @Override
+    public List<IToken<?>> getCachedResolverOrder(@NotNull final TypeToken<?> requestType)
+    {
+        return resolverOrderCache.get(requestType);
+    }
+
+    @Override
+    public void cacheResolverOrder(@NotNull final TypeToken<?> requestType, @NotNull final List<IToken<?>> resolverOrder)
+    {
+        resolverOrderCache.put(requestType, resolverOrder);
+    }
+
+    @Override
+    public void invalidateResolverOrderCache()
+    {
+        resolverOrderCache.clear();
+    }
+
     @Override
     public IToken<?> getId()
     {
@@ -5,6 +5,7 @@ import com.minecolonies.api.colony.requestsystem.factory.standard.IntegerFactory
 import com.minecolonies.api.colony.requestsystem.factory.standard.TypeTokenFactory;
 import com.minecolonies.api.colony.requestsystem.token.InitializedTokenFactory;
 import com.minecolonies.api.colony.requestsystem.token.RandomSeededTokenFactory;
+import com.minecolonies.api.colony.requestsystem.token.SequenceTokenFactory;
 import com.minecolonies.api.colony.requestsystem.token.StandardTokenFactory;
 import com.minecolonies.api.crafting.RecipeStorageFactory;
 import com.minecolonies.coremod.colony.requestsystem.data.*;
@@ -32,6 +33,7 @@ public final class StandardFactoryControllerInitializer
         StandardFactoryController.getInstance().registerNewFactory(new StandardTokenFactory());
         StandardFactoryController.getInstance().registerNewFactory(new InitializedTokenFactory());
         StandardFactoryController.getInstance().registerNewFactory(new RandomSeededTokenFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new SequenceTokenFactory());
         StandardFactoryController.getInstance().registerNewFactory(new StaticLocation.Factory());
         StandardFactoryController.getInstance().registerNewFactory(new EntityLocation.Factory());
         StandardFactoryController.getInstance().registerNewFactory(new StandardRequestFactories.ItemStackRequestFactory());
@@ -4,6 +4,7 @@ import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.location.ILocationFactory;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
@@ -163,6 +164,22 @@ public class EntityLocation implements ILocation
             return new EntityLocation(uuid);
         }
 
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final EntityLocation request, @NotNull final ByteBuf buffer)
+        {
+            buffer.writeLong(request.uuid.getMostSignificantBits());
+            buffer.writeLong(request.uuid.getLeastSignificantBits());
+        }
+
+        @NotNull
+        @Override
+        public EntityLocation deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            final long msb = buffer.readLong();
+            final long lsb = buffer.readLong();
+            return new EntityLocation(new UUID(msb, lsb));
+        }
+
         /**
          * Method to get a new instance of a location given the input.
          *
@@ -4,6 +4,7 @@ import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.location.ILocationFactory;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
@@ -167,6 +168,21 @@ public class StaticLocation implements ILocation
             return new StaticLocation(pos, dim);
         }
 
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final StaticLocation request, @NotNull final ByteBuf buffer)
+        {
+            buffer.writeLong(request.getInDimensionLocation().toLong());
+            buffer.writeInt(request.getDimension());
+        }
+
+        @NotNull
+        @Override
+        public StaticLocation deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            final BlockPos pos = BlockPos.fromLong(buffer.readLong());
+            return new StaticLocation(pos, buffer.readInt());
+        }
+
         @NotNull
         @Override
         public StaticLocation getNewInstance(@NotNull final IFactoryController factoryController, @NotNull final BlockPos blockPos, @NotNull final Object... context)
@@ -1,7 +1,9 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
 import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.manager.AssigningStrategy;
 import com.minecolonies.api.colony.requestsystem.manager.RequestMappingHandler;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -34,7 +36,7 @@ public final class RequestHandler
     @SuppressWarnings(UNCHECKED)
     public static <Request extends IRequestable> IRequest<Request> createRequest(final IStandardRequestManager manager, final IRequester requester, final Request request)
     {
-        final IToken<UUID> token = TokenHandler.generateNewToken(manager);
+        final IToken<?> token = TokenHandler.generateNewToken(manager);
 
         final IRequest<Request> constructedRequest = manager.getFactoryController()
                                                        .getNewInstance(TypeToken.of((Class<? extends IRequest<Request>>) RequestMappingHandler.getRequestableMappings()
@@ -100,6 +102,50 @@ public final class RequestHandler
         return null;
     }
 
+    /**
+     * Method used to get the tokens of the resolvers that can handle a given requestable type, sorted by priority and type distance.
+     * The order is cached in the requestable type data store until a resolver is registered or removed.
+     *
+     * @param manager     The manager to get the resolvers from.
+     * @param requestType The requestable type.
+     * @return The sorted tokens of the resolvers.
+     */
+    @SuppressWarnings(RAWTYPES)
+    private static List<IToken<?>> getResolverOrder(final IStandardRequestManager manager, final TypeToken<?> requestType)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore dataStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        final List<IToken<?>> cachedOrder = dataStore.getCachedResolverOrder(requestType);
+        if (cachedOrder != null)
+        {
+            return cachedOrder;
+        }
+
+        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(requestType);
+        requestTypes.remove(TypeConstants.OBJECT);
+
+        final Map<TypeToken, Integer> typeIndex = new HashMap<>();
+        for (final TypeToken type : requestTypes)
+        {
+            typeIndex.putIfAbsent(type, typeIndex.size());
+        }
+
+        final List<IToken<?>> resolverOrder = ImmutableList.copyOf(requestTypes.stream()
+                                                                     .filter(typeToken -> dataStore.getAssignments().containsKey(typeToken))
+                                                                     .flatMap(type -> dataStore.getAssignments()
+                                                                                        .get(type)
+                                                                                        .stream()
+                                                                                        .map(iToken -> ResolverHandler.getResolver(manager, iToken)))
+                                                                     .filter(iRequestResolver -> typeIndex.containsKey(iRequestResolver.getRequestType()))
+                                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndex.get(r.getRequestType())))
+                                                                     .map(IRequestResolver::getRequesterId)
+                                                                     .distinct()
+                                                                     .collect(Collectors.toList()));
+
+        dataStore.cacheResolverOrder(requestType, resolverOrder);
+        return resolverOrder;
+    }
+
     /**
      * Method used to assign a given request to a resolver. Does take a given blacklist of resolvers into account.
      * Uses the default assigning strategy: {@link AssigningStrategy#PRIORITY_BASED}
@@ -121,32 +167,18 @@ public final class RequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getRequestType());
-        requestTypes.remove(TypeConstants.OBJECT);
-
-        final List<TypeToken> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> ResolverHandler.getResolver(manager, iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
+        final List<IToken<?>> resolverOrder = getResolverOrder(manager, request.getRequestType());
 
-
-        for (final IRequestResolver<?> resolver : resolvers)
+        for (final IToken<?> resolverToken : resolverOrder)
         {
             //Skip when the resolver is in the blacklist.
-            if (resolverTokenBlackList.contains(resolver.getRequesterId()))
+            if (resolverTokenBlackList.contains(resolverToken))
             {
                 continue;
             }
 
+            final IRequestResolver<?> resolver = ResolverHandler.getResolver(manager, resolverToken);
+
             //Skip if preliminary check fails
             if (!resolver.canResolve(manager, request))
             {
@@ -83,6 +83,7 @@ public final class ResolverHandler
             LogHandler.log("Registering resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getRequesterId());
         });
+        manager.getRequestableTypeRequestResolverAssignmentDataStore().invalidateResolverOrderCache();
 
         return resolver.getRequesterId();
     }
@@ -214,6 +215,7 @@ public final class ResolverHandler
             LogHandler.log("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getRequesterId());
         });
+        manager.getRequestableTypeRequestResolverAssignmentDataStore().invalidateResolverOrderCache();
     }
 
     /**
@@ -1,10 +1,8 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
-import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.constant.TypeConstants;
-
-import java.util.UUID;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 
 /**
  * Class used to handle the inner workings of the request system with regards to tokens.
@@ -14,13 +12,14 @@ public final class TokenHandler
 
     /**
      * Generates a new Token for the request system.
+     * Uses the next sequence number of the colony, tokens of older requests may still be UUID based.
      *
      * @param manager The manager to generate a new token for.
      * @return The new token.
      */
-    public static IToken generateNewToken(final IRequestManager manager)
+    public static IToken generateNewToken(final IStandardRequestManager manager)
     {
         //Force generic type to be correct.
-        return manager.getFactoryController().getNewInstance(TypeConstants.ITOKEN, UUID.randomUUID());
+        return manager.getFactoryController().getNewInstance(TypeConstants.ITOKEN, manager.getRequestIdentitiesDataStore().getNextTokenSequence());
     }
 }
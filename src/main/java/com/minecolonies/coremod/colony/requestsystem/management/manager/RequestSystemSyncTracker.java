@@ -0,0 +1,337 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Tracks which state of the request system has been sent to the clients of a colony.
+ * Subscribers get a full snapshot once, afterwards only the requests which were added, changed or removed are sent.
+ * <p>
+ * Delta layout: from version, to version, removed tokens, changed requests with their assigned resolver.
+ * Tokens and requests in a delta are written with the buffer codec of the factory controller, using the type ids negotiated on login.
+ * Snapshot layout: version, compressed request manager NBT, as it restores the whole request manager including its resolvers and data stores.
+ */
+public class RequestSystemSyncTracker
+{
+    /**
+     * Snapshots above this size are logged, they are still sent since they are compressed and split by the network layer.
+     */
+    private static final int MAX_BYTES_SNAPSHOT = (int) 1e6;
+
+    /**
+     * The version of the state last written, increased with every change.
+     */
+    private int version = 0;
+
+    /**
+     * The encoded requests as last sent to the clients.
+     */
+    private final Map<IToken<?>, byte[]> syncedRequests = new HashMap<>();
+
+    /**
+     * Buffer the requests are encoded into to compare them with the last sent ones, reused between calls.
+     */
+    private final ByteBuf requestBuffer = Unpooled.buffer();
+
+    /**
+     * The request to resolver assignments as last sent to the clients.
+     */
+    private final Map<IToken<?>, IToken<?>> syncedAssignments = new HashMap<>();
+
+    /**
+     * The registered resolvers as last sent to the clients.
+     */
+    private final Set<IToken<?>> syncedResolvers = new HashSet<>();
+
+    /**
+     * The provider to resolver assignments as last sent to the clients.
+     */
+    private final Map<IToken<?>, Set<IToken<?>>> syncedProviders = new HashMap<>();
+
+    /**
+     * Get the version of the last written state.
+     *
+     * @return the version.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Writes all requests which changed since the last call into the buffer.
+     * Requests are compared by their encoded form, so changes made directly on a request are picked up as well.
+     *
+     * @param manager the manager to sync.
+     * @param buf     the buffer to write the delta to.
+     * @return false if resolvers or providers changed, in that case nothing is written and all clients need a snapshot.
+     */
+    public boolean writeDelta(@NotNull final IStandardRequestManager manager, @NotNull final ByteBuf buf)
+    {
+        final int fromVersion = version;
+        final boolean structureChanged = updateStructure(manager);
+        final Map<IToken<?>, IToken<?>> assignments = getAssignmentsByRequest(manager);
+        final Map<IToken<?>, IRequest<?>> identities = manager.getRequestIdentitiesDataStore().getIdentities();
+
+        final List<IToken<?>> removed = new ArrayList<>();
+        for (final Iterator<IToken<?>> iterator = syncedRequests.keySet().iterator(); iterator.hasNext(); )
+        {
+            final IToken<?> token = iterator.next();
+            if (!identities.containsKey(token))
+            {
+                iterator.remove();
+                syncedAssignments.remove(token);
+                removed.add(token);
+            }
+        }
+
+        final List<byte[]> changed = new ArrayList<>();
+        final List<IToken<?>> changedResolvers = new ArrayList<>();
+        for (final Map.Entry<IToken<?>, IRequest<?>> entry : identities.entrySet())
+        {
+            requestBuffer.clear();
+            StandardFactoryController.getInstance().writeToBuffer(requestBuffer, entry.getValue());
+            final IToken<?> resolver = assignments.get(entry.getKey());
+            final byte[] synced = syncedRequests.get(entry.getKey());
+            if (!isSame(requestBuffer, synced) || !Objects.equals(resolver, syncedAssignments.get(entry.getKey())))
+            {
+                final byte[] encoded = new byte[requestBuffer.readableBytes()];
+                requestBuffer.getBytes(requestBuffer.readerIndex(), encoded);
+                syncedRequests.put(entry.getKey(), encoded);
+                if (resolver == null)
+                {
+                    syncedAssignments.remove(entry.getKey());
+                }
+                else
+                {
+                    syncedAssignments.put(entry.getKey(), resolver);
+                }
+                changed.add(encoded);
+                changedResolvers.add(resolver);
+            }
+        }
+
+        if (structureChanged || !removed.isEmpty() || !changed.isEmpty())
+        {
+            version++;
+        }
+
+        if (structureChanged)
+        {
+            return false;
+        }
+
+        buf.writeInt(fromVersion);
+        buf.writeInt(version);
+        buf.writeInt(removed.size());
+        for (final IToken<?> token : removed)
+        {
+            StandardFactoryController.getInstance().writeToBuffer(buf, token);
+        }
+
+        buf.writeInt(changed.size());
+        for (int i = 0; i < changed.size(); i++)
+        {
+            buf.writeBytes(changed.get(i));
+            final IToken<?> resolver = changedResolvers.get(i);
+            buf.writeBoolean(resolver != null);
+            if (resolver != null)
+            {
+                StandardFactoryController.getInstance().writeToBuffer(buf, resolver);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Applies the changes of a delta written by {@link #writeDelta(IStandardRequestManager, ByteBuf)} to the request manager of a client.
+     *
+     * @param manager the manager to update.
+     * @param buf     the buffer to read from, the versions have to be read already.
+     * @throws IllegalArgumentException if the delta holds a type unknown to this side, the rest of the delta can not be read then.
+     */
+    public static void readDelta(@NotNull final IStandardRequestManager manager, @NotNull final ByteBuf buf) throws IllegalArgumentException
+    {
+        final int removedCount = buf.readInt();
+        for (int i = 0; i < removedCount; i++)
+        {
+            final IToken<?> token = StandardFactoryController.getInstance().readFromBuffer(buf);
+            manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            removeRequestAssignment(manager, token);
+        }
+
+        final int changedCount = buf.readInt();
+        for (int i = 0; i < changedCount; i++)
+        {
+            final IRequest<?> request = StandardFactoryController.getInstance().readFromBuffer(buf);
+            final IToken<?> resolver = buf.readBoolean() ? StandardFactoryController.getInstance().readFromBuffer(buf) : null;
+
+            manager.getRequestIdentitiesDataStore().getIdentities().forcePut(request.getToken(), request);
+            removeRequestAssignment(manager, request.getToken());
+            if (resolver != null)
+            {
+                manager.getRequestResolverRequestAssignmentDataStore().getAssignments().computeIfAbsent(resolver, key -> new HashSet<>()).add(request.getToken());
+            }
+        }
+    }
+
+    /**
+     * Remove a request from the resolver it is assigned to.
+     *
+     * @param manager the manager to modify.
+     * @param token   the token of the request.
+     */
+    private static void removeRequestAssignment(@NotNull final IStandardRequestManager manager, @NotNull final IToken<?> token)
+    {
+        final Iterator<Collection<IToken<?>>> iterator = manager.getRequestResolverRequestAssignmentDataStore().getAssignments().values().iterator();
+        while (iterator.hasNext())
+        {
+            final Collection<IToken<?>> requests = iterator.next();
+            if (requests.remove(token) && requests.isEmpty())
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Check if the readable bytes of a buffer equal the bytes last sent.
+     *
+     * @param buffer the buffer.
+     * @param synced the bytes last sent, null if none were sent.
+     * @return true if they are the same.
+     */
+    private static boolean isSame(@NotNull final ByteBuf buffer, @Nullable final byte[] synced)
+    {
+        if (synced == null || synced.length != buffer.readableBytes())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < synced.length; i++)
+        {
+            if (synced[i] != buffer.getByte(buffer.readerIndex() + i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if a written delta contains any change.
+     *
+     * @param buf the buffer the delta was written to.
+     * @return true if the versions differ.
+     */
+    public static boolean hasChanges(@NotNull final ByteBuf buf)
+    {
+        return buf.getInt(buf.readerIndex()) != buf.getInt(buf.readerIndex() + Integer.BYTES);
+    }
+
+    /**
+     * Writes the full state of the request system into the buffer.
+     * Needs to be called after {@link #writeDelta(IStandardRequestManager, ByteBuf)} in the same tick so that the version matches.
+     *
+     * @param manager the manager to sync.
+     * @param buf     the buffer to write the snapshot to.
+     */
+    public void writeSnapshot(@NotNull final IStandardRequestManager manager, @NotNull final ByteBuf buf)
+    {
+        final int preSize = buf.writerIndex();
+        buf.writeInt(version);
+        try
+        {
+            CompressedStreamTools.writeCompressed(manager.serializeNBT(), new ByteBufOutputStream(buf));
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Failed to write the request system snapshot of colony: " + manager.getColony().getID(), e);
+        }
+
+        if (buf.writerIndex() - preSize >= MAX_BYTES_SNAPSHOT)
+        {
+            Log.getLogger().warn("Request system snapshot of colony: " + manager.getColony().getID() + " is " + (buf.writerIndex() - preSize) + " bytes large.");
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #writeSnapshot(IStandardRequestManager, ByteBuf)}.
+     *
+     * @param buf the buffer to read from, the version has to be read already.
+     * @return the NBT of the request manager or null if it could not be read.
+     */
+    @Nullable
+    public static NBTTagCompound readSnapshot(@NotNull final ByteBuf buf)
+    {
+        try
+        {
+            return CompressedStreamTools.readCompressed(new ByteBufInputStream(buf));
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().error("Failed to read the request system snapshot", e);
+            return null;
+        }
+    }
+
+    /**
+     * Compare the registered resolvers and providers with the last synced ones.
+     *
+     * @param manager the manager to check.
+     * @return true if they changed.
+     */
+    private boolean updateStructure(@NotNull final IStandardRequestManager manager)
+    {
+        final Set<IToken<?>> resolvers = manager.getRequestResolverIdentitiesDataStore().getIdentities().keySet();
+        final Map<IToken<?>, Set<IToken<?>>> providers = new HashMap<>();
+        for (final Map.Entry<IToken<?>, Collection<IToken<?>>> entry : manager.getProviderResolverAssignmentDataStore().getAssignments().entrySet())
+        {
+            providers.put(entry.getKey(), new HashSet<>(entry.getValue()));
+        }
+
+        if (syncedResolvers.equals(resolvers) && syncedProviders.equals(providers))
+        {
+            return false;
+        }
+
+        syncedResolvers.clear();
+        syncedResolvers.addAll(resolvers);
+        syncedProviders.clear();
+        syncedProviders.putAll(providers);
+        return true;
+    }
+
+    /**
+     * Invert the resolver to requests assignments of the manager.
+     *
+     * @param manager the manager.
+     * @return the assignments, request token to resolver token.
+     */
+    private static Map<IToken<?>, IToken<?>> getAssignmentsByRequest(@NotNull final IStandardRequestManager manager)
+    {
+        final Map<IToken<?>, IToken<?>> assignments = new HashMap<>();
+        for (final Map.Entry<IToken<?>, Collection<IToken<?>>> entry : manager.getRequestResolverRequestAssignmentDataStore().getAssignments().entrySet())
+        {
+            for (final IToken<?> request : entry.getValue())
+            {
+                assignments.put(request, entry.getKey());
+            }
+        }
+        return assignments;
+    }
+}
@@ -2,19 +2,22 @@ package com.minecolonies.coremod.colony.requestsystem.management.manager;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 import java.util.stream.Collectors;
 
 public class StandardRecipeManager implements IRecipeManager
@@ -29,16 +32,60 @@ public class StandardRecipeManager implements IRecipeManager
      */
     private final BiMap<IToken, IRecipeStorage> recipes = HashBiMap.create();
 
+    /**
+     * Tokens of the recipes by the hash of their content, see {@link #contentHash(IRecipeStorage)}.
+     */
+    private final Map<Integer, List<IToken>> tokensByContent = new HashMap<>();
+
+    /**
+     * Tokens of the recipes by their primary output, matched by item and damage value.
+     */
+    private final Map<ItemStorage, ImmutableList<IToken>> tokensByOutput = new HashMap<>();
+
+    /**
+     * Read only copy of the recipes, null when it has to be rebuilt after a change.
+     */
+    @Nullable
+    private ImmutableMap<IToken, IRecipeStorage> recipesView;
+
     @Override
     public ImmutableMap<IToken, IRecipeStorage> getRecipes()
     {
-        return ImmutableMap.copyOf(recipes);
+        if (recipesView == null)
+        {
+            recipesView = ImmutableMap.copyOf(recipes);
+        }
+        return recipesView;
+    }
+
+    @Nullable
+    @Override
+    public IRecipeStorage getRecipe(final IToken token)
+    {
+        return recipes.get(token);
+    }
+
+    @NotNull
+    @Override
+    public ImmutableList<IToken> getRecipesForOutput(@NotNull final ItemStack output)
+    {
+        final ImmutableList<IToken> tokens = tokensByOutput.get(new ItemStorage(output, false, true));
+        return tokens == null ? ImmutableList.of() : tokens;
     }
 
     @Override
     public IToken addRecipe(final IRecipeStorage storage)
     {
-        recipes.put(storage.getToken(), storage);
+        final IRecipeStorage previous = recipes.put(storage.getToken(), storage);
+        if (previous != null)
+        {
+            rebuildIndexes();
+        }
+        else
+        {
+            index(storage);
+        }
+        recipesView = null;
         return storage.getToken();
     }
 
@@ -56,16 +103,71 @@ public class StandardRecipeManager implements IRecipeManager
     @Override
     public IToken getRecipeId(final IRecipeStorage storage)
     {
-        for(final Map.Entry<IToken, IRecipeStorage> tempStorage: recipes.entrySet())
+        final List<IToken> candidates = tokensByContent.get(contentHash(storage));
+        if (candidates == null)
         {
-            if(tempStorage.getValue().equals(storage))
+            return null;
+        }
+
+        for (final IToken token : candidates)
+        {
+            if (recipes.get(token).equals(storage))
             {
-                return tempStorage.getKey();
+                return token;
             }
         }
         return null;
     }
 
+    /**
+     * Add a recipe to the content and output indexes.
+     *
+     * @param storage the recipe.
+     */
+    private void index(@NotNull final IRecipeStorage storage)
+    {
+        tokensByContent.computeIfAbsent(contentHash(storage), hash -> new ArrayList<>()).add(storage.getToken());
+
+        final ItemStorage output = new ItemStorage(storage.getPrimaryOutput(), false, true);
+        final ImmutableList<IToken> tokens = tokensByOutput.get(output);
+        tokensByOutput.put(output, tokens == null
+                                     ? ImmutableList.of(storage.getToken())
+                                     : ImmutableList.<IToken>builder().addAll(tokens).add(storage.getToken()).build());
+    }
+
+    /**
+     * Rebuild the content and output indexes from the recipes.
+     */
+    private void rebuildIndexes()
+    {
+        tokensByContent.clear();
+        tokensByOutput.clear();
+        for (final IRecipeStorage storage : recipes.values())
+        {
+            index(storage);
+        }
+    }
+
+    /**
+     * Calculate a hash of a recipe which is consistent with the equals of the recipe storage.
+     * Inputs count with their item and damage value, the primary output only with its item as its durability is ignored.
+     *
+     * @param storage the recipe.
+     * @return the hash.
+     */
+    private static int contentHash(@NotNull final IRecipeStorage storage)
+    {
+        int result = storage.getGridSize();
+        for (final ItemStack stack : storage.getInput())
+        {
+            result = 31 * result + Objects.hashCode(stack.getItem());
+            result = 31 * result + stack.getItemDamage();
+        }
+        result = 31 * result + Objects.hashCode(storage.getPrimaryOutput().getItem());
+        result = 31 * result + Objects.hashCode(storage.getIntermediate());
+        return result;
+    }
+
     @Override
     public void writeToNBT(@NotNull final NBTTagCompound compound)
     {
@@ -81,5 +183,7 @@ public class StandardRecipeManager implements IRecipeManager
                 .map(recipeCompound -> (IRecipeStorage) StandardFactoryController.getInstance().deserialize(recipeCompound))
                 .filter(Objects::nonNull)
                 .collect(Collectors.toMap(IRecipeStorage::getToken, recipe -> recipe)));
+        rebuildIndexes();
+        recipesView = null;
     }
 }
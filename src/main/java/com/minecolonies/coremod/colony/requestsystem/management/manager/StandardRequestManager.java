@@ -271,6 +271,9 @@ public class StandardRequestManager implements IStandardRequestManager
         request.setState(new WrappedStaticStateRequestManager(this), state);
         markDirty();
 
+        //Lets the requester drop cached views of the request while it can still tell which of its citizens the request belongs to.
+        request.getRequester().onRequestStateChanged(this, token);
+
         switch (request.getState())
         {
             case COMPLETED:
@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentString;
@@ -57,6 +58,20 @@ public class BuildingBasedRequester implements IBuildingBasedRequester
         return compound;
     }
 
+    public static BuildingBasedRequester deserialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        final ILocation location = controller.readFromBuffer(buffer);
+        final IToken<?> token = controller.readFromBuffer(buffer);
+
+        return new BuildingBasedRequester(location, token);
+    }
+
+    public void serialize(final IFactoryController controller, final ByteBuf buffer)
+    {
+        controller.writeToBuffer(buffer, getRequesterLocation());
+        controller.writeToBuffer(buffer, getRequesterId());
+    }
+
     @Override
     public IToken<?> getRequesterId()
     {
@@ -82,6 +97,12 @@ public class BuildingBasedRequester implements IBuildingBasedRequester
         getBuilding(manager, token).ifPresent(requester -> requester.onRequestCancelled(manager, token));
     }
 
+    @Override
+    public void onRequestStateChanged(@NotNull final IRequestManager manager, @NotNull final IToken<?> token)
+    {
+        getBuilding(manager, token).ifPresent(requester -> requester.onRequestStateChanged(manager, token));
+    }
+
     @NotNull
     @Override
     public ITextComponent getDisplayName(@NotNull final IRequestManager manager, @NotNull final IToken<?> token)
@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.requestsystem.requesters.BuildingBasedRequester;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
@@ -56,4 +57,17 @@ public class BuildingBasedRequesterFactory implements IFactory<AbstractBuilding,
     {
         return BuildingBasedRequester.deserialize(controller, nbt);
     }
+
+    @Override
+    public void serialize(@NotNull final IFactoryController controller, @NotNull final BuildingBasedRequester output, @NotNull final ByteBuf buffer)
+    {
+        output.serialize(controller, buffer);
+    }
+
+    @NotNull
+    @Override
+    public BuildingBasedRequester deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+    {
+        return BuildingBasedRequester.deserialize(controller, buffer);
+    }
 }
@@ -12,14 +12,17 @@ import com.minecolonies.api.colony.requestsystem.requestable.crafting.PrivateCra
 import com.minecolonies.api.colony.requestsystem.requestable.crafting.PublicCrafting;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.colony.requestable.SmeltableOre;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagInt;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -42,6 +45,11 @@ public final class StandardRequestFactories
     private static final String NBT_DELIVERIES = "Deliveries";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
+    /**
+     * Maximum amount of bytes of a size in a buffer.
+     */
+    private static final int MAX_VAR_INT_BYTES = 5;
+
     @SuppressWarnings(Suppression.BIG_CLASS)
     public static final class ItemStackRequestFactory implements IRequestFactory<Stack, StandardRequests.ItemStackRequest>
     {
@@ -113,6 +121,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardRequests.ItemStackRequest request, @NotNull final ByteBuf buffer)
+        {
+            serializeToBuffer(controller, request, buffer, Stack::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.ItemStackRequest deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return deserializeFromBuffer(controller, buffer, Stack::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.ItemStackRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -186,6 +212,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardRequests.ItemStackListRequest request, @NotNull final ByteBuf buffer)
+        {
+            serializeToBuffer(controller, request, buffer, StackList::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.ItemStackListRequest deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return deserializeFromBuffer(controller, buffer, StackList::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.ItemStackListRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -242,6 +286,24 @@ public final class StandardRequestFactories
                 requestState));
         }
 
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardRequests.DeliveryRequest request, @NotNull final ByteBuf buffer)
+        {
+            serializeToBuffer(controller, request, buffer, Delivery::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.DeliveryRequest deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return deserializeFromBuffer(controller, buffer, Delivery::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.DeliveryRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
+
         /**
          * Method to get a new instance of a request given the input and token.
          *
@@ -270,17 +332,22 @@ public final class StandardRequestFactories
         private final Class<R> rClass;
         private final IObjectToNBTConverter<C> serializer;
         private final INBTToObjectConverter<C> deserializer;
+        private final IObjectToBufferConverter<C> bufferSerializer;
+        private final IBufferToObjectConverter<C> bufferDeserializer;
 
         protected AbstractCraftingRequestFactory(
           final IObjectConstructor<C, R> constructor,
           final Class<C> cClass,
           final Class<R> rClass,
-          final IObjectToNBTConverter<C> serializer, final INBTToObjectConverter<C> deserializer) {
+          final IObjectToNBTConverter<C> serializer, final INBTToObjectConverter<C> deserializer,
+          final IObjectToBufferConverter<C> bufferSerializer, final IBufferToObjectConverter<C> bufferDeserializer) {
             this.constructor = constructor;
             this.cClass = cClass;
             this.rClass = rClass;
             this.serializer = serializer;
             this.deserializer = deserializer;
+            this.bufferSerializer = bufferSerializer;
+            this.bufferDeserializer = bufferDeserializer;
         }
 
         @Override
@@ -321,6 +388,23 @@ public final class StandardRequestFactories
               requester,
               requestState));
         }
+
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final R r, @NotNull final ByteBuf buffer)
+        {
+            serializeToBuffer(controller, r, buffer, bufferSerializer);
+        }
+
+        @NotNull
+        @Override
+        public R deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return deserializeFromBuffer(controller, buffer, bufferDeserializer, (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(rClass),
+              requested,
+              token,
+              requester,
+              requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -333,6 +417,8 @@ public final class StandardRequestFactories
               PrivateCrafting.class,
               StandardRequests.PrivateCraftingRequest.class,
               PrivateCrafting::serialize,
+              PrivateCrafting::deserialize,
+              PrivateCrafting::serialize,
               PrivateCrafting::deserialize);
         }
     }
@@ -347,6 +433,8 @@ public final class StandardRequestFactories
               PublicCrafting.class,
               StandardRequests.PublicCraftingRequest.class,
               PublicCrafting::serialize,
+              PublicCrafting::deserialize,
+              PublicCrafting::serialize,
               PublicCrafting::deserialize);
         }
     }
@@ -397,6 +485,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardRequests.ToolRequest request, @NotNull final ByteBuf buffer)
+        {
+            serializeToBuffer(controller, request, buffer, Tool::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.ToolRequest deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return deserializeFromBuffer(controller, buffer, Tool::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.ToolRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -445,6 +551,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardRequests.FoodRequest request, @NotNull final ByteBuf buffer)
+        {
+            serializeToBuffer(controller, request, buffer, Food::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.FoodRequest deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return deserializeFromBuffer(controller, buffer, Food::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.FoodRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -493,6 +617,24 @@ public final class StandardRequestFactories
                             requester,
                             requestState));
         }
+
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardRequests.SmeltAbleOreRequest request, @NotNull final ByteBuf buffer)
+        {
+            serializeToBuffer(controller, request, buffer, SmeltableOre::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.SmeltAbleOreRequest deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return deserializeFromBuffer(controller, buffer, SmeltableOre::deserialize,
+                    (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.SmeltAbleOreRequest.class),
+                            requested,
+                            token,
+                            requester,
+                            requestState));
+        }
     }
 
     @SuppressWarnings(Suppression.BIG_CLASS)
@@ -541,6 +683,24 @@ public final class StandardRequestFactories
                 requester,
                 requestState));
         }
+
+        @Override
+        public void serialize(@NotNull final IFactoryController controller, @NotNull final StandardRequests.BurnableRequest request, @NotNull final ByteBuf buffer)
+        {
+            serializeToBuffer(controller, request, buffer, Burnable::serialize);
+        }
+
+        @NotNull
+        @Override
+        public StandardRequests.BurnableRequest deserialize(@NotNull final IFactoryController controller, @NotNull final ByteBuf buffer)
+        {
+            return deserializeFromBuffer(controller, buffer, Burnable::deserialize,
+              (requested, token, requester, requestState) -> controller.getNewInstance(TypeToken.of(StandardRequests.BurnableRequest.class),
+                requested,
+                token,
+                requester,
+                requestState));
+        }
     }
 
     /**
@@ -632,6 +792,108 @@ public final class StandardRequestFactories
         return request;
     }
 
+    /**
+     * Write a request directly into a buffer, the compact counterpart of {@link #serializeToNBT(IFactoryController, IRequest, IObjectToNBTConverter)}.
+     * The tokens and the requester are written through the buffer codec of the controller, the requestable through its own buffer codec.
+     *
+     * @param controller        the controller used to write the tokens and the requester.
+     * @param request           the request to write.
+     * @param buffer            the buffer to write into.
+     * @param typeSerialization the buffer serializer of the requestable.
+     * @param <T>               the type of the requestable.
+     */
+    public static <T extends IRequestable> void serializeToBuffer(
+      final IFactoryController controller,
+      final IRequest<T> request,
+      final ByteBuf buffer,
+      final IObjectToBufferConverter<T> typeSerialization)
+    {
+        controller.writeToBuffer(buffer, request.getRequester());
+        controller.writeToBuffer(buffer, request.getToken());
+        ByteBufUtils.writeVarInt(buffer, request.getState().ordinal(), MAX_VAR_INT_BYTES);
+        typeSerialization.apply(controller, buffer, request.getRequest());
+
+        buffer.writeBoolean(request.hasResult());
+        if (request.hasResult())
+        {
+            typeSerialization.apply(controller, buffer, request.getResult());
+        }
+
+        buffer.writeBoolean(request.hasParent());
+        if (request.hasParent())
+        {
+            controller.writeToBuffer(buffer, request.getParent());
+        }
+
+        ByteBufUtils.writeVarInt(buffer, request.getChildren().size(), MAX_VAR_INT_BYTES);
+        for (final IToken token : request.getChildren())
+        {
+            controller.writeToBuffer(buffer, token);
+        }
+
+        ByteBufUtils.writeVarInt(buffer, request.getDeliveries().size(), MAX_VAR_INT_BYTES);
+        for (final ItemStack stack : request.getDeliveries())
+        {
+            ItemStackUtils.writeToBuffer(buffer, stack);
+        }
+    }
+
+    /**
+     * Read a request written by {@link #serializeToBuffer(IFactoryController, IRequest, ByteBuf, IObjectToBufferConverter)}.
+     *
+     * @param controller          the controller used to read the tokens and the requester.
+     * @param buffer              the buffer to read from.
+     * @param typeDeserialization the buffer deserializer of the requestable.
+     * @param objectConstructor   the constructor of the request.
+     * @param <T>                 the type of the requestable.
+     * @param <R>                 the type of the request.
+     * @return the request.
+     */
+    public static <T extends IRequestable, R extends IRequest<T>> R deserializeFromBuffer(
+      final IFactoryController controller,
+      final ByteBuf buffer,
+      final IBufferToObjectConverter<T> typeDeserialization,
+      final IObjectConstructor<T, R> objectConstructor)
+    {
+        final IRequester requester = controller.readFromBuffer(buffer);
+        final IToken token = controller.readFromBuffer(buffer);
+        final RequestState state = RequestState.values()[ByteBufUtils.readVarInt(buffer, MAX_VAR_INT_BYTES)];
+        final T requested = typeDeserialization.apply(controller, buffer);
+
+        final R request = objectConstructor.construct(requested, token, requester, state);
+
+        if (buffer.readBoolean())
+        {
+            request.setResult(typeDeserialization.apply(controller, buffer));
+        }
+
+        if (buffer.readBoolean())
+        {
+            request.setParent(controller.readFromBuffer(buffer));
+        }
+
+        final int childCount = ByteBufUtils.readVarInt(buffer, MAX_VAR_INT_BYTES);
+        final List<IToken> childTokens = new ArrayList<>(childCount);
+        for (int i = 0; i < childCount; i++)
+        {
+            childTokens.add(controller.readFromBuffer(buffer));
+        }
+        request.addChildren(childTokens);
+
+        final int deliveryCount = ByteBufUtils.readVarInt(buffer, MAX_VAR_INT_BYTES);
+        if (deliveryCount > 0)
+        {
+            final ImmutableList.Builder<ItemStack> stackBuilder = ImmutableList.builder();
+            for (int i = 0; i < deliveryCount; i++)
+            {
+                stackBuilder.add(ItemStackUtils.readFromBuffer(buffer));
+            }
+            request.overrideCurrentDeliveries(stackBuilder.build());
+        }
+
+        return request;
+    }
+
     @FunctionalInterface
     public interface IObjectToNBTConverter<O>
     {
@@ -644,6 +906,18 @@ public final class StandardRequestFactories
         O apply(IFactoryController controller, NBTTagCompound compound);
     }
 
+    @FunctionalInterface
+    public interface IObjectToBufferConverter<O>
+    {
+        void apply(IFactoryController controller, ByteBuf buffer, O object);
+    }
+
+    @FunctionalInterface
+    public interface IBufferToObjectConverter<O>
+    {
+        O apply(IFactoryController controller, ByteBuf buffer);
+    }
+
     @FunctionalInterface
     public interface IObjectConstructor<T, O>
     {
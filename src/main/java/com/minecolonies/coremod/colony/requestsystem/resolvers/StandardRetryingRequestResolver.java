@@ -18,11 +18,7 @@ import net.minecraft.util.text.TextComponentString;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.*;
 
 import static com.minecolonies.api.util.RSConstants.CONST_RETRYING_RESOLVER_PRIORITY;
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
@@ -36,9 +32,31 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     private final ILocation       location;
     private final IToken<?>       id;
     private       IToken<?>       current;
-    private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
 
+    /**
+     * The tick each request is due for its next retry, relative to {@link #tick}.
+     */
+    private final HashMap<IToken<?>, Long> dueTicks = new HashMap<>();
+
+    /**
+     * The scheduled retries ordered by due tick.
+     * Entries whose due tick does not match {@link #dueTicks} anymore are stale and skipped when polled.
+     */
+    private final PriorityQueue<ScheduledRetry> schedule = new PriorityQueue<>();
+
+    /**
+     * The amount of updates of this resolver.
+     */
+    private long tick = 0;
+
+    /**
+     * Statistics: reassignment attempts, reassignments to another resolver and requests which could not be reassigned at all.
+     */
+    private long retryCount   = 0;
+    private long successCount = 0;
+    private long giveUpCount  = 0;
+
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
         this.updateManager(manager);
@@ -107,7 +125,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void resolve(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IRetryable> request) throws RuntimeException
     {
-        delays.put(request.getToken(), getMaximalDelayBetweenRetriesInTicks());
+        schedule(request.getToken(), getMaximalDelayBetweenRetriesInTicks());
         assignedRequests.put(request.getToken(), assignedRequests.containsKey(request.getToken()) ? assignedRequests.get(request.getToken()) + 1 : 1);
     }
 
@@ -126,7 +144,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         if (assignedRequests.containsKey(request.getToken()))
         {
-            delays.remove(request.getToken());
+            dueTicks.remove(request.getToken());
             assignedRequests.remove(request.getToken());
         }
 
@@ -149,53 +167,125 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void update()
     {
-        LogHandler.log("Starting reassignment.");
-
-        //Lets decrement all delays
-        getAllAssignedRequests().forEach(t -> {
-            Integer current = delays.remove(t);
-            delays.put(t, --current);
-        });
-
-        //Lets get all keys with 0 residual delay:
-        final Set<IToken<?>> retryables = delays.keySet().stream().filter(t -> delays.get(t) == 0).collect(Collectors.toSet());
-        final Set<IToken<?>> successfully = retryables.stream().filter(t -> {
-            final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+        tick++;
 
-            Integer currentAttempt = assignedRequests.get(t);
-
-            this.setCurrent(t);
-            final IToken<?> resultingResolver;
-
-            try
+        //Only the requests which are due are touched, at most the configured amount per tick.
+        int budget = Configurations.requestSystem.maximalRetriesPerTick;
+        while (!schedule.isEmpty() && schedule.peek().dueTick <= tick)
+        {
+            final ScheduledRetry retry = schedule.peek();
+            final Long dueTick = dueTicks.get(retry.token);
+            if (dueTick == null || dueTick != retry.dueTick)
             {
-                resultingResolver = manager.reassignRequest(t, blackList);
+                schedule.poll();
+                continue;
             }
-            catch (Exception ex)
+
+            if (budget <= 0)
             {
-                assignedRequests.remove(t);
-                delays.remove(t);
-                return false;
+                break;
             }
 
+            schedule.poll();
+            budget--;
+            retry(retry.token);
+        }
+    }
+
+    /**
+     * Attempt to reassign a request which is due.
+     *
+     * @param t the token of the request.
+     */
+    private void retry(@NotNull final IToken<?> t)
+    {
+        if (!assignedRequests.containsKey(t))
+        {
+            dueTicks.remove(t);
+            return;
+        }
+
+        LogHandler.log("Starting reassignment of: " + t);
+        retryCount++;
+
+        final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+
+        Integer currentAttempt = assignedRequests.get(t);
+
+        this.setCurrent(t);
+        final IToken<?> resultingResolver;
+
+        try
+        {
+            resultingResolver = manager.reassignRequest(t, blackList);
+        }
+        catch (Exception ex)
+        {
             this.setCurrent(null);
+            assignedRequests.remove(t);
+            dueTicks.remove(t);
+            giveUpCount++;
+            return;
+        }
 
-            assignedRequests.put(t, ++currentAttempt);
+        this.setCurrent(null);
 
-            if (resultingResolver != null && !resultingResolver.equals(getRequesterId()))
-            {
-                assignedRequests.remove(t);
-                delays.remove(t);
-            }
+        assignedRequests.put(t, ++currentAttempt);
+
+        if (resultingResolver == null)
+        {
+            giveUpCount++;
+            LogHandler.log("Failed to reassign a retryable request: " + t);
+        }
+        else if (!resultingResolver.equals(getRequesterId()))
+        {
+            successCount++;
+            assignedRequests.remove(t);
+            dueTicks.remove(t);
+        }
+    }
 
-            return resultingResolver != null;
-        }).collect(Collectors.toSet());
+    /**
+     * Schedule the next retry of a request.
+     *
+     * @param token the token of the request.
+     * @param delay the delay in ticks.
+     */
+    private void schedule(@NotNull final IToken<?> token, final int delay)
+    {
+        final long dueTick = tick + delay;
+        dueTicks.put(token, dueTick);
+        schedule.add(new ScheduledRetry(token, dueTick));
+    }
 
-        successfully.forEach(t -> {
-            LogHandler.log("Failed to reassign a retryable request: " + id);
-        });
+    /**
+     * Get the amount of reassignment attempts since the colony was loaded.
+     *
+     * @return the amount.
+     */
+    public long getRetryCount()
+    {
+        return retryCount;
+    }
 
-        LogHandler.log("Finished reassignment.");
+    /**
+     * Get the amount of requests which were reassigned to another resolver since the colony was loaded.
+     *
+     * @return the amount.
+     */
+    public long getSuccessCount()
+    {
+        return successCount;
+    }
+
+    /**
+     * Get the amount of reassignment attempts which did not find any resolver since the colony was loaded.
+     *
+     * @return the amount.
+     */
+    public long getGiveUpCount()
+    {
+        return giveUpCount;
     }
 
     @Override
@@ -208,7 +298,8 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     public void onSystemReset()
     {
         assignedRequests.clear();
-        delays.clear();
+        dueTicks.clear();
+        schedule.clear();
     }
 
     public void setCurrent(@Nullable final IToken<?> token)
@@ -253,12 +344,20 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         this.assignedRequests.clear();
         this.assignedRequests.putAll(newAssignedRequests);
 
-        this.delays.clear();
-        this.delays.putAll(newDelays);
+        this.dueTicks.clear();
+        this.schedule.clear();
+        newDelays.forEach(this::schedule);
     }
 
+    /**
+     * Get the remaining delays of the scheduled requests, used to save them.
+     *
+     * @return a new map with the remaining ticks by request.
+     */
     public Map<IToken<?>, Integer> getDelays()
     {
+        final Map<IToken<?>, Integer> delays = new HashMap<>();
+        dueTicks.forEach((token, dueTick) -> delays.put(token, (int) (dueTick - tick)));
         return delays;
     }
 
@@ -266,4 +365,38 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         return assignedRequests;
     }
+
+    /**
+     * A retry of a request which is due at a given tick.
+     */
+    private static final class ScheduledRetry implements Comparable<ScheduledRetry>
+    {
+        /**
+         * The token of the request.
+         */
+        private final IToken<?> token;
+
+        /**
+         * The tick the retry is due.
+         */
+        private final long dueTick;
+
+        /**
+         * Create a scheduled retry.
+         *
+         * @param token   the token of the request.
+         * @param dueTick the due tick.
+         */
+        private ScheduledRetry(@NotNull final IToken<?> token, final long dueTick)
+        {
+            this.token = token;
+            this.dueTick = dueTick;
+        }
+
+        @Override
+        public int compareTo(@NotNull final ScheduledRetry other)
+        {
+            return Long.compare(dueTick, other.dueTick);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.commands.AbstractSingleCommand;
 import com.minecolonies.coremod.commands.ActionMenuState;
 import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.command.CommandException;
 import net.minecraft.command.ICommandSender;
@@ -41,6 +42,8 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand implements IAct
     private static final String LAST_CONTACT_TEXT          = "Last contact with Owner or Officer: %d hours ago!";
     private static final String IS_DELETABLE               = "If true this colony cannot be deleted: ";
     private static final String CANNOT_BE_RAIDED           = "This colony is unable to be raided";
+    private static final String DEFERRED_AI_TEXT           = "AI updates deferred due to server load: %d (last tick: %d)";
+    private static final String PATHFINDING_TEXT           = "Pathfinding: %d queued, %d running, %d rejected, avg wait %.1f ms, avg run %.1f ms";
 
     /**
      * no-args constructor called by new CommandEntryPoint executer.
@@ -205,6 +208,9 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand implements IAct
         sender.sendMessage(new TextComponentString(COORDINATES_TEXT + String.format(COORDINATES_XYZ, position.getX(), position.getY(), position.getZ())));
         sender.sendMessage(new TextComponentString(String.format(LAST_CONTACT_TEXT, colony.getLastContactInHours())));
         sender.sendMessage(new TextComponentString(IS_DELETABLE + !colony.canBeAutoDeleted()));
+        sender.sendMessage(new TextComponentString(String.format(DEFERRED_AI_TEXT, colony.getAIScheduler().getDeferredEvaluations(), colony.getAIScheduler().getDeferredLastTick())));
+        sender.sendMessage(new TextComponentString(String.format(PATHFINDING_TEXT, Pathfinding.getQueueDepth(), Pathfinding.getActiveJobCount(),
+          Pathfinding.getRejectedJobCount(), Pathfinding.getAverageWaitTime(), Pathfinding.getAverageRunTime())));
 
         if (!colony.isCanHaveBarbEvents())
         {
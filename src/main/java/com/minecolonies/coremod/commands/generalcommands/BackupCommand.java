@@ -60,17 +60,9 @@ public class BackupCommand extends AbstractSingleCommand implements IActionComma
 
         if (isPlayerOpped(sender))
         {
-            server.addScheduledTask(() ->
-            {
-                if (BackUpHelper.backupColonyData())
-                {
-                    sender.sendMessage(new TextComponentString(BACKUP_SUCCESS_MESSAGE));
-                }
-                else
-                {
-                    sender.sendMessage(new TextComponentString(BACKUP_FAILURE_MESSAGE));
-                }
-            });
+            //  The backup is written in the background, the result is reported back on the server thread
+            server.addScheduledTask(() -> BackUpHelper.backupColonyData(success -> server.addScheduledTask(() ->
+              sender.sendMessage(new TextComponentString(success ? BACKUP_SUCCESS_MESSAGE : BACKUP_FAILURE_MESSAGE)))));
         }
         else
         {
@@ -939,7 +939,7 @@ public class EntityCitizen extends AbstractEntityCitizen
                     isDay = false;
                     final double decreaseBy = citizenColonyHandler.getPerBuildingFoodCost() * 2;
                     citizenData.decreaseSaturation(decreaseBy);
-                    citizenData.markDirty();
+                    citizenData.markDirty(CitizenData.DIRTY_SATURATION);
                 }
 
                 citizenStatusHandler.setLatestStatus(new TextComponentTranslation("com.minecolonies.coremod.status.sleeping"));
@@ -1054,7 +1054,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost());
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.DIRTY_SATURATION);
         }
     }
 
@@ -1066,7 +1066,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost() / 100.0);
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenData.DIRTY_SATURATION);
         }
     }
 
@@ -1118,7 +1118,17 @@ public class EntityCitizen extends AbstractEntityCitizen
      */
     public void setCitizenData(@Nullable final CitizenData data)
     {
+        if (citizenData != null && citizenData != data)
+        {
+            citizenData.getColony().getCitizenManager().unregisterCitizenEntity(citizenData.getId(), this);
+        }
+
         this.citizenData = data;
+
+        if (data != null && !world.isRemote)
+        {
+            data.getColony().getCitizenManager().registerCitizenEntity(data.getId(), this);
+        }
     }
 
     /**
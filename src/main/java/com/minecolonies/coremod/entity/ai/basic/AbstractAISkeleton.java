@@ -4,6 +4,7 @@ import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.entity.ai.DesiredActivity;
 import com.minecolonies.api.entity.ai.Status;
 import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.statemachine.AIOneTimeEventTarget;
@@ -12,12 +13,14 @@ import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
 import com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickingTransition;
 import com.minecolonies.coremod.entity.ai.util.ChatSpamFilter;
+import com.minecolonies.coremod.entity.ai.util.CitizenAIScheduler;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.Random;
+import java.util.*;
+
+import static com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState.*;
 
 /**
  * Skeleton class for worker ai.
@@ -31,6 +34,11 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
 {
 
     private static final int            MUTEX_MASK = 3;
+
+    /**
+     * States in which the AI is idle or waiting, evaluated with low priority by the scheduler.
+     */
+    private static final Set<IAIState> LOW_PRIORITY_STATES = new HashSet<>(Arrays.asList(IDLE, PAUSED, NEEDS_ITEM, GATHERING, GATHERING_REQUIRED_MATERIALS));
     @NotNull
     protected final      J              job;
     @NotNull
@@ -50,6 +58,21 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
      */
     private int tickCounter = 0;
 
+    /**
+     * Whether the last evaluation of the statemachine changed its state.
+     */
+    private boolean transitioned = false;
+
+    /**
+     * The amount of times the evaluation was deferred by the scheduler in a row.
+     */
+    private int deferrals = 0;
+
+    /**
+     * The ticks the evaluations were pushed back by the scheduler, which the statemachine still has to catch up on.
+     */
+    private int deferredTicks = 0;
+
     /**
      * Sets up some important skeleton stuff for every ai.
      *
@@ -147,9 +170,56 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
         }
         else
         {
-            stateMachine.tick();
-            tickCounter = 1;
+            final Colony colony = worker.getCitizenColonyHandler().getColony();
+            if (colony == null)
+            {
+                evaluate();
+                tickCounter = 1;
+            }
+            else if (colony.getAIScheduler().runEvaluation(world, getSchedulingPriority(), deferrals, this::evaluate))
+            {
+                tickCounter = 1;
+                deferrals = 0;
+            }
+            else
+            {
+                // Deferred, retry after a delay spread over the citizens.
+                final int retryDelay = colony.getAIScheduler().getRetryDelay(job.getCitizen().getId());
+                tickCounter = Configurations.gameplay.updateRate - retryDelay + 1;
+                deferrals++;
+                deferredTicks += retryDelay;
+            }
+        }
+    }
+
+    /**
+     * Tick the statemachine and remember if it changed the state.
+     * Ticks pushed back by the scheduler are passed on in whole evaluations, so the tickrates of the targets are kept.
+     */
+    private void evaluate()
+    {
+        final int updateRate = Math.max(1, Configurations.gameplay.updateRate);
+        final int evaluations = 1 + deferredTicks / updateRate;
+        deferredTicks %= updateRate;
+
+        final IAIState previousState = stateMachine.getState();
+        stateMachine.tick(evaluations);
+        transitioned = stateMachine.getState() != previousState;
+    }
+
+    /**
+     * Get the priority the scheduler of the colony gives to the next evaluation of this AI.
+     * AIs which just changed their state are urgent, idle and waiting AIs have a low priority.
+     *
+     * @return the priority.
+     */
+    protected CitizenAIScheduler.Priority getSchedulingPriority()
+    {
+        if (transitioned)
+        {
+            return CitizenAIScheduler.Priority.URGENT;
         }
+        return LOW_PRIORITY_STATES.contains(getState()) ? CitizenAIScheduler.Priority.LOW : CitizenAIScheduler.Priority.NORMAL;
     }
 
     protected void onException(final RuntimeException e)
@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.entity.ai.basic;
 
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.ldtteam.structurize.util.StructurePlacementUtils;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
@@ -20,6 +19,7 @@ import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.coremod.entity.ai.util.StructureIterator;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.util.WorkerUtil;
 import com.ldtteam.structurize.placementhandlers.IPlacementHandler;
 import com.ldtteam.structurize.placementhandlers.PlacementHandlers;
@@ -804,31 +804,19 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
     public void loadStructure(@NotNull final String name, final int rotateTimes, final BlockPos position, final boolean isMirrored, final boolean removal)
     {
         rotation = rotateTimes;
-        try
-        {
-            final com.ldtteam.structures.helpers.Structure structure = new com.ldtteam.structures.helpers.Structure(world, name, new PlacementSettings());
-            job.setStructure(structure);
-            currentStructure = new StructureIterator(world, structure, removal ? StructureIterator.Stage.REMOVE : StructureIterator.Stage.CLEAR);
-        }
-        catch (final IllegalStateException e)
-        {
-            Log.getLogger().warn(String.format("StructureProxy: (%s) does not exist - removing build request", name), e);
-            job.setStructure(null);
-        }
-
-        try
-        {
-            job.getStructure().rotate(BlockPosUtil.getRotationFromRotations(rotateTimes), world, position, isMirrored ? Mirror.FRONT_BACK : Mirror.NONE);
-            job.getStructure().setPosition(position);
-            job.getStructure().setPlacementSettings(new PlacementSettings(isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, BlockPosUtil.getRotationFromRotations(rotateTimes)));
-
-        }
-        catch (final NullPointerException ex)
+        // The cached blueprint is already rotated and mirrored.
+        final com.ldtteam.structures.helpers.Structure structure =
+          BlueprintCache.getStructure(world, name, rotateTimes, isMirrored ? Mirror.FRONT_BACK : Mirror.NONE, position);
+        if (structure == null)
         {
+            Log.getLogger().warn(String.format("StructureProxy: (%s) does not exist - removing build request", name));
             handleSpecificCancelActions();
             job.setStructure(null);
-            Log.getLogger().warn("StructureIterator couldn't be found which caused an NPE, removed workOrder, more details in log", ex);
+            return;
         }
+
+        job.setStructure(structure);
+        currentStructure = new StructureIterator(world, structure, removal ? StructureIterator.Stage.REMOVE : StructureIterator.Stage.CLEAR);
         if (getProgressPos() != null)
         {
             this.currentStructure.setStage(getProgressPos().getSecond());
@@ -1,7 +1,7 @@
 package com.minecolonies.coremod.entity.ai.basic;
 
+import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.util.BlockInfo;
-import com.ldtteam.structurize.util.StructurePlacementUtils;
 import com.minecolonies.api.compatibility.candb.ChiselAndBitsCheck;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.crafting.ItemStorage;
@@ -18,11 +18,13 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildRemoval;
+import com.minecolonies.coremod.entity.ai.statemachine.AIEventTarget;
+import com.minecolonies.coremod.entity.ai.statemachine.states.AIBlockingEventType;
+import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.coremod.entity.ai.util.StructureIterator;
+import com.minecolonies.coremod.entity.ai.util.StructureResourceScanner;
 import com.ldtteam.structurize.blocks.schematic.BlockSolidSubstitution;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockBed;
-import net.minecraft.block.BlockDoor;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -38,7 +40,6 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
-import static com.minecolonies.api.util.constant.Suppression.LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDCOMPLETE;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDSTART;
 
@@ -48,6 +49,12 @@ import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECO
  */
 public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJobStructure> extends AbstractEntityAIStructure<J>
 {
+    /**
+     * The running calculation of the required resources, null if there is none.
+     */
+    @Nullable
+    private StructureResourceScanner materialScanner;
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -56,6 +63,12 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     public AbstractEntityAIStructureWithWorkOrder(@NotNull final J job)
     {
         super(job);
+        super.registerTargets(
+          /*
+           * Continue the calculation of the required resources before anything else.
+           */
+          new AIEventTarget(AIBlockingEventType.AI_BLOCKING, this::hasPendingMaterialScan, this::continueMaterialScan, 1)
+        );
         worker.setCanPickUpLoot(true);
     }
 
@@ -157,12 +170,9 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     }
 
     /**
-     * Iterates through all the required resources and stores them in the building.
-     * Suppressing Sonar Rule Squid:S135
-     * The rule thinks we should have less continue and breaks.
-     * But in this case the rule does not apply because code would become unreadable and uneffective without.
+     * Starts or resumes the calculation of the required resources of the structure and runs its first slice.
+     * The calculation continues in the next ticks, its progress is stored in the building.
      */
-    @SuppressWarnings(LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT)
     private void requestMaterials()
     {
         if (Configurations.gameplay.builderInfiniteResources || job.getWorkOrder().isRequested() || job.getWorkOrder() instanceof WorkOrderBuildRemoval)
@@ -170,31 +180,110 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
             return;
         }
 
+        if (job.getStructure() == null || job.getStructure().getBluePrint() == null)
+        {
+            return;
+        }
+
         final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
-        buildingWorker.resetNeededResources();
+        final BlockPos resumePos = buildingWorker.getResourceScanPos();
+        if (resumePos == null)
+        {
+            buildingWorker.resetNeededResources();
+        }
+
+        // Scan a copy of the structure, the builder iterates its own one meanwhile.
+        final Structure structure = new Structure(world, job.getStructure().getBluePrint(), job.getStructure().getSettings());
+        structure.setPosition(job.getStructure().getPosition());
+        materialScanner = new StructureResourceScanner(world, structure, new MaterialHandler(buildingWorker), resumePos);
+        continueMaterialScan();
+    }
+
+    /**
+     * Check if the calculation of the required resources is still running.
+     *
+     * @return true if so.
+     */
+    private boolean hasPendingMaterialScan()
+    {
+        return materialScanner != null;
+    }
 
-        while (job.getStructure().findNextBlock())
+    /**
+     * Runs the next slice of the calculation of the required resources.
+     *
+     * @return the current state, the worker continues what it was doing.
+     */
+    private IAIState continueMaterialScan()
+    {
+        if (materialScanner == null)
         {
-            @Nullable final BlockInfo blockInfo = job.getStructure().getBlockInfo();
+            return getState();
+        }
 
-            if (blockInfo == null)
-            {
-                continue;
-            }
+        if (job.getWorkOrder() == null || job.getStructure() == null)
+        {
+            cancelMaterialScan();
+            return getState();
+        }
 
-            @Nullable IBlockState blockState = blockInfo.getState();
-            @Nullable Block block = blockState.getBlock();
+        final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
+        if (!materialScanner.scan(StructureResourceScanner.DEFAULT_BUDGET_NANOS))
+        {
+            buildingWorker.setResourceScanPos(materialScanner.getProgress());
+            return getState();
+        }
 
-            if (StructurePlacementUtils.isStructureBlockEqualWorldBlock(world, job.getStructure().getBlockPosition(), blockState)
-                  || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
-                  || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER)))
-            {
-                continue;
-            }
+        materialScanner = null;
+        buildingWorker.setResourceScanPos(null);
+        job.getWorkOrder().setRequested(true);
+
+        if (job.getWorkOrder().getAmountOfRes() == 0)
+        {
+            job.getWorkOrder().setAmountOfRes(buildingWorker.getNeededResources().values().stream()
+                                                .mapToInt(ItemStorage::getAmount).sum());
+        }
+        return getState();
+    }
+
+    /**
+     * Stops the calculation of the required resources, it starts from the beginning for the next structure.
+     */
+    private void cancelMaterialScan()
+    {
+        materialScanner = null;
+        getOwnBuilding(AbstractBuildingStructureBuilder.class).setResourceScanPos(null);
+    }
+
+    /**
+     * Adds the blocks and entities found by the resource calculation to the needed resources of the building.
+     */
+    private class MaterialHandler implements StructureResourceScanner.IResourceHandler
+    {
+        /**
+         * The building to store the resources in.
+         */
+        private final AbstractBuildingStructureBuilder buildingWorker;
+
+        /**
+         * Create a handler.
+         *
+         * @param buildingWorker the building to store the resources in.
+         */
+        private MaterialHandler(final AbstractBuildingStructureBuilder buildingWorker)
+        {
+            this.buildingWorker = buildingWorker;
+        }
+
+        @Override
+        public void onBlock(@NotNull final Structure structure, @NotNull final BlockInfo blockInfo, @NotNull final IBlockState state)
+        {
+            IBlockState blockState = state;
+            @Nullable Block block = blockState.getBlock();
 
             if (block instanceof BlockSolidSubstitution)
             {
-                blockState = getSolidSubstitution(job.getStructure().getBlockPosition());
+                blockState = getSolidSubstitution(structure.getBlockPosition());
                 block = blockState.getBlock();
             }
             if (block == Blocks.GRASS)
@@ -202,13 +291,13 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                 block = Blocks.DIRT;
             }
 
-            final Block worldBlock = BlockPosUtil.getBlock(world, job.getStructure().getBlockPosition());
-            if (block instanceof BlockFalling )
+            final Block worldBlock = BlockPosUtil.getBlock(world, structure.getBlockPosition());
+            if (block instanceof BlockFalling)
             {
-                final IBlockState downState = BlockPosUtil.getBlockState(world, job.getStructure().getBlockPosition().down());
+                final IBlockState downState = BlockPosUtil.getBlockState(world, structure.getBlockPosition().down());
                 if (!downState.getMaterial().isSolid())
                 {
-                    requestBlockToBuildingIfRequired(buildingWorker, getSolidSubstitution(job.getStructure().getBlockPosition()));
+                    requestBlockToBuildingIfRequired(buildingWorker, blockInfo, getSolidSubstitution(structure.getBlockPosition()));
                 }
             }
 
@@ -218,44 +307,35 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                   && !(worldBlock instanceof AbstractBlockHut)
                   && !isBlockFree(block, 0))
             {
-                requestBlockToBuildingIfRequired(buildingWorker, blockState);
+                requestBlockToBuildingIfRequired(buildingWorker, blockInfo, blockState);
             }
         }
 
-        for (final NBTTagCompound entityInfo : job.getStructure().getEntityData())
+        @Override
+        public void onEntity(@NotNull final NBTTagCompound entityInfo)
         {
-            if (entityInfo != null)
+            for (final ItemStorage stack : ItemStackUtils.getListOfStackForEntityInfo(entityInfo, world, worker))
             {
-                for (final ItemStorage stack : ItemStackUtils.getListOfStackForEntityInfo(entityInfo, world, worker))
+                if (!ItemStackUtils.isEmpty(stack.getItemStack()))
                 {
-                    if (!ItemStackUtils.isEmpty(stack.getItemStack()))
-                    {
-                        buildingWorker.addNeededResource(stack.getItemStack(), 1);
-                    }
+                    buildingWorker.addNeededResource(stack.getItemStack(), 1);
                 }
             }
         }
-
-        job.getWorkOrder().setRequested(true);
-
-        if (job.getWorkOrder().getAmountOfRes() == 0)
-        {
-            job.getWorkOrder().setAmountOfRes(buildingWorker.getNeededResources().values().stream()
-                                                .mapToInt(ItemStorage::getAmount).sum());
-        }
     }
 
     /**
      * Add blocks to the builder building if he needs it.
      *
      * @param building   the building.
+     * @param blockInfo  the info of the block in the structure.
      * @param blockState the block to add.
      */
-    private void requestBlockToBuildingIfRequired(final AbstractBuildingStructureBuilder building, final IBlockState blockState)
+    private void requestBlockToBuildingIfRequired(final AbstractBuildingStructureBuilder building, final BlockInfo blockInfo, final IBlockState blockState)
     {
-        if (job.getStructure().getBlockInfo().getTileEntityData() != null)
+        if (blockInfo.getTileEntityData() != null)
         {
-            final List<ItemStack> itemList = new ArrayList<>(getItemsFromTileEntity());
+            final List<ItemStack> itemList = new ArrayList<>(ItemStackUtils.getItemStacksOfTileEntity(blockInfo.getTileEntityData(), world));
 
             for (final ItemStack stack : itemList)
             {
@@ -382,6 +462,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     {
         if (job.getWorkOrder() == null && job.getStructure() != null)
         {
+            cancelMaterialScan();
             super.resetTask();
             job.setStructure(null);
             job.setWorkOrder(null);
@@ -437,6 +518,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     @Override
     public void handleSpecificCancelActions()
     {
+        cancelMaterialScan();
         getOwnBuilding().getColony().getWorkManager().removeWorkOrder(job.getWorkOrderId());
         job.setWorkOrder(null);
     }
@@ -9,13 +9,13 @@ import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
-import com.minecolonies.coremod.colony.buildings.views.MobEntryView;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIFight;
 import com.minecolonies.coremod.entity.ai.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.coremod.entity.ai.util.CitizenAIScheduler;
 import com.minecolonies.coremod.util.TeleportHelper;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
@@ -193,6 +193,16 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
         return DECIDE;
     }
 
+    @Override
+    protected CitizenAIScheduler.Priority getSchedulingPriority()
+    {
+        if (target != null || getState() == GUARD_ATTACK_PHYSICAL || getState() == GUARD_ATTACK_RANGED || getState() == GUARD_ATTACK_PROTECT)
+        {
+            return CitizenAIScheduler.Priority.URGENT;
+        }
+        return super.getSchedulingPriority();
+    }
+
     @Override
     public Class getExpectedBuildingClass()
     {
@@ -343,7 +353,7 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
 
         if (target != null)
         {
-            if (!worker.canEntityBeSeen(target) && lastSeen < STOP_PERSECUTION_AFTER)
+            if (!canSee(colony, target) && lastSeen < STOP_PERSECUTION_AFTER)
             {
                 target = null;
             }
@@ -363,16 +373,16 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
                     if (citizen.getCitizenEntity().isPresent())
                     {
                         final EntityLivingBase entity = citizen.getCitizenEntity().get().getRevengeTarget();
-                        if (entity instanceof AbstractEntityMinecoloniesMob && worker.canEntityBeSeen(entity))
+                        if (entity instanceof AbstractEntityMinecoloniesMob && canSee(colony, entity))
                         {
                             return entity;
                         }
-                        else if (entity instanceof EntityCitizen && worker.canEntityBeSeen(entity) && (((EntityCitizen) entity).getCitizenJobHandler()
+                        else if (entity instanceof EntityCitizen && canSee(colony, entity) && (((EntityCitizen) entity).getCitizenJobHandler()
                                                                                                          .getColonyJob() instanceof AbstractJobGuard))
                         {
                             return entity;
                         }
-                        else if (entity instanceof EntityPlayer && worker.canEntityBeSeen(entity))
+                        else if (entity instanceof EntityPlayer && canSee(colony, entity))
                         {
                             colony.isValidAttackingPlayer((EntityPlayer) entity);
                         }
@@ -380,18 +390,13 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
                 }
             }
 
-            final List<EntityLivingBase> targets = world.getEntitiesWithinAABB(EntityLivingBase.class, getSearchArea(),
-              entity -> buildingGuards.getMobsToAttack()
-                          .stream()
-                          .filter(MobEntryView::hasAttack)
-                          .anyMatch(mobEntry -> mobEntry.getEntityEntry().getEntityClass().isInstance(entity)));
-
+            final List<EntityLivingBase> targets = colony.getThreatManager().getThreatsInArea(getSearchArea());
 
             int closest = Integer.MAX_VALUE;
             EntityLivingBase targetEntity = null;
             for (final EntityLivingBase entity : targets)
             {
-                if (worker.canEntityBeSeen(entity) && isWithinPersecutionDistance(entity.getPosition()))
+                if (buildingGuards.canAttack(entity) && isWithinPersecutionDistance(entity.getPosition()) && canSee(colony, entity))
                 {
                     if (entity instanceof EntityPlayer && (colony.getPermissions().hasPermission((EntityPlayer) entity, Action.GUARDS_ATTACK) || colony.isValidAttackingPlayer((EntityPlayer) entity)))
                     {
@@ -416,6 +421,18 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard> extends
         return null;
     }
 
+    /**
+     * Check if the worker can see an entity, through the line of sight cache of the colony if there is one.
+     *
+     * @param colony the colony of the worker, may be null.
+     * @param entity the entity to look at.
+     * @return true if it can be seen.
+     */
+    private boolean canSee(final Colony colony, final EntityLivingBase entity)
+    {
+        return colony == null ? worker.canEntityBeSeen(entity) : colony.getThreatManager().canSee(worker, entity);
+    }
+
     /**
      * Wears the weapon of the guard.
      */
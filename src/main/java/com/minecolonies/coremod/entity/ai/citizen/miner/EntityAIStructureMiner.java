@@ -1,7 +1,5 @@
 package com.minecolonies.coremod.entity.ai.citizen.miner;
 
-import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Vec2i;
@@ -14,6 +12,7 @@ import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructureWithWor
 import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
 import com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.coremod.util.BlueprintCache;
 import com.minecolonies.coremod.util.InstantStructurePlacer;
 import com.minecolonies.coremod.util.WorkerUtil;
 import com.ldtteam.structurize.management.Structures;
@@ -23,6 +22,7 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.Mirror;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
@@ -653,22 +653,22 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
         if (mineNode == null)
         {
             rotateCount = getRotationFromVector();
-            requiredName = getCorrectStyleLocation(style, MAIN_SHAFT_NAME);
+            requiredName = getCorrectStyleLocation(style, MAIN_SHAFT_NAME, rotateCount);
         }
         else
         {
             rotateCount = rotateTimes;
             if (mineNode.getStyle() == Node.NodeType.CROSSROAD)
             {
-                requiredName = getCorrectStyleLocation(style, X4_SHAFT_NAME);
+                requiredName = getCorrectStyleLocation(style, X4_SHAFT_NAME, rotateCount);
             }
             else if (mineNode.getStyle() == Node.NodeType.BEND)
             {
-                requiredName = getCorrectStyleLocation(style, X2_RIGHT_SHAFT_NAME);
+                requiredName = getCorrectStyleLocation(style, X2_RIGHT_SHAFT_NAME, rotateCount);
             }
             else if (mineNode.getStyle() == Node.NodeType.TUNNEL)
             {
-                requiredName = getCorrectStyleLocation(style, X2_TOP_SHAFT_NAME);
+                requiredName = getCorrectStyleLocation(style, X2_TOP_SHAFT_NAME, rotateCount);
             }
         }
 
@@ -683,14 +683,14 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructureWithWorkOrd
 
     /**
      * Get the correct style for the shaft. Return default back.
-     * @param style the style to check.
-     * @param shaft the shaft.
+     * @param style    the style to check.
+     * @param shaft    the shaft.
+     * @param rotation the rotation the shaft is placed with.
      * @return the correct location.
      */
-    private String getCorrectStyleLocation(final String style, final String shaft)
+    private String getCorrectStyleLocation(final String style, final String shaft, final int rotation)
     {
-        final Structure wrapper = new Structure(world, Structures.SCHEMATICS_PREFIX + "/" + style + shaft, new PlacementSettings());
-        if (wrapper.getBluePrint() != null)
+        if (BlueprintCache.exists(world, Structures.SCHEMATICS_PREFIX + "/" + style + shaft, rotation, Mirror.NONE))
         {
             return Structures.SCHEMATICS_PREFIX + "/" + style + shaft;
         }
@@ -333,6 +333,20 @@ public abstract class AbstractEntityMinecoloniesMob extends EntityMob
         }
     }
 
+    /**
+     * Stop being a threat to the colony when leaving the world, for example when the chunk unloads.
+     * The raider registers again when it is loaded with the chunk.
+     */
+    @Override
+    public void onRemovedFromWorld()
+    {
+        super.onRemovedFromWorld();
+        if (!world.isRemote && colony != null)
+        {
+            colony.getThreatManager().removeThreat(this);
+        }
+    }
+
     /**
      * Set the colony to raid.
      * @param colony the colony to set.
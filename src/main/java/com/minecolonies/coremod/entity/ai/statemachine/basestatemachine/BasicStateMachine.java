@@ -10,6 +10,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -73,38 +74,75 @@ public class BasicStateMachine<T extends IStateMachineTransition> implements ISt
         {
             eventTransitionMap.computeIfAbsent(((IStateMachineEvent) transition).getEventType(), k -> new ArrayList<>()).add(transition);
         }
+        onTransitionsChanged();
     }
 
     /**
-     * Unregisters a transition
+     * Unregisters a transition.
+     * The lists are changed in place, this is safe during {@link #tick()} as a transition is only removed when it was applied, which ends the tick.
      */
     public void removeTransition(final T transition)
     {
+        final List<T> transitions;
         if (transition instanceof IStateMachineEvent)
         {
-            final ArrayList<T> temp = new ArrayList<>(eventTransitionMap.get(((IStateMachineEvent) transition).getEventType()));
-            temp.remove(transition);
-            eventTransitionMap.put(((IStateMachineEvent) transition).getEventType(), temp);
+            transitions = eventTransitionMap.get(((IStateMachineEvent) transition).getEventType());
         }
         else
         {
-            final ArrayList<T> temp = new ArrayList<>(transitionMap.get(transition.getState()));
-            temp.remove(transition);
-            transitionMap.put(transition.getState(), temp);
+            transitions = transitionMap.get(transition.getState());
+        }
+
+        if (transitions != null && transitions.remove(transition))
+        {
+            onTransitionsChanged();
         }
     }
 
+    /**
+     * Called after transitions were added or removed, for subclasses which keep derived data of the transitions.
+     */
+    protected void onTransitionsChanged()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
     /**
      * Updates the statemachine.
      */
     public void tick()
     {
         // Check if any Events happens before doing state transitions
-        if (!eventTransitionMap.values().stream().anyMatch(k -> k.stream().anyMatch(this::checkTransition)))
+        for (final ArrayList<T> events : eventTransitionMap.values())
+        {
+            if (checkTransitions(events))
+            {
+                return;
+            }
+        }
+
+        // State transitions
+        checkTransitions(transitionMap.get(state));
+    }
+
+    /**
+     * Check the transitions of a list in order until one is applied.
+     *
+     * @param transitions the transitions to check.
+     * @return true if a transition was applied.
+     */
+    private boolean checkTransitions(final List<T> transitions)
+    {
+        for (int i = 0; i < transitions.size(); i++)
         {
-            // State transitions
-            transitionMap.get(state).stream().anyMatch(this::checkTransition);
+            if (checkTransition(transitions.get(i)))
+            {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
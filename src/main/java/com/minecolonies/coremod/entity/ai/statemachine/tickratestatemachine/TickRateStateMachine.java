@@ -4,8 +4,9 @@ import com.minecolonies.coremod.entity.ai.statemachine.basestatemachine.BasicSta
 import com.minecolonies.coremod.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.coremod.entity.ai.statemachine.states.IAIState;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.util.*;
 import java.util.function.Consumer;
 
 import static com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
@@ -13,14 +14,37 @@ import static com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachi
 /**
  * Statemachine with an added tickrate limiting of transitions, allowing transitions to be checked at a lower rate.
  * Default tickrate is 20 tps (Minecraft default).
+ * <p>
+ * The transitions of each state and event type are compiled into arrays, grouped by tickrate and offset, when they are first needed after a change.
+ * A tick only looks at the groups which are due, without allocating.
  */
 public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
 {
+    /**
+     * The event types in the order they are checked each tick.
+     */
+    private static final AIBlockingEventType[] EVENT_ORDER = {AIBlockingEventType.AI_BLOCKING, AIBlockingEventType.EVENT, AIBlockingEventType.STATE_BLOCKING};
+
     /**
      * Counter keeping track of ticks
      */
     private int tickCounter = 0;
 
+    /**
+     * The amount of ticks the counter advanced in the current tick.
+     */
+    private int elapsedTicks = 1;
+
+    /**
+     * The compiled transitions by state, filled when a state is first ticked after a change.
+     */
+    private final Map<IAIState, CompiledTransitions> compiledStates = new HashMap<>();
+
+    /**
+     * The compiled events in the order of {@link #EVENT_ORDER}, null entries are compiled when first needed after a change.
+     */
+    private final CompiledTransitions[] compiledEvents = new CompiledTransitions[EVENT_ORDER.length];
+
     /**
      * Construct a new StateMachine
      */
@@ -40,27 +64,46 @@ public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
     @Override
     public void tick()
     {
-        tickCounter++;
+        tick(1);
+    }
+
+    /**
+     * Tick the statemachine after some ticks were skipped, for example because its evaluation was deferred.
+     * Transitions which would have been due in any of the skipped ticks are checked, so their tickrates are kept.
+     *
+     * @param ticks the amount of ticks since the last tick, at least 1.
+     */
+    public void tick(final int ticks)
+    {
+        elapsedTicks = Math.max(1, Math.min(ticks, MAX_TICKRATE));
+        tickCounter += elapsedTicks;
         if (tickCounter > MAX_TICKRATE)
         {
-            tickCounter = 1;
+            tickCounter -= MAX_TICKRATE;
         }
 
-
-
-        if (!eventTransitionMap.get(AIBlockingEventType.AI_BLOCKING).stream().anyMatch(this::checkTransition)
-              && !eventTransitionMap.get(AIBlockingEventType.EVENT).stream().anyMatch(this::checkTransition)
-              && !eventTransitionMap.get(AIBlockingEventType.STATE_BLOCKING).stream().anyMatch(this::checkTransition))
+        for (int i = 0; i < EVENT_ORDER.length; i++)
         {
-            if (!transitionMap.containsKey(getState()))
+            if (compiledEvents[i] == null)
+            {
+                compiledEvents[i] = new CompiledTransitions(eventTransitionMap.get(EVENT_ORDER[i]));
+            }
+
+            if (checkDueTransitions(compiledEvents[i]))
             {
-                // Reached Trap/Sink state we cannot leave.
-                onException(new RuntimeException("Missing AI transition for state: " + getState()));
-                reset();
                 return;
             }
-            transitionMap.get(getState()).stream().anyMatch(this::checkTransition);
         }
+
+        final CompiledTransitions stateTransitions = getCompiledState(getState());
+        if (stateTransitions == null)
+        {
+            // Reached Trap/Sink state we cannot leave.
+            onException(new RuntimeException("Missing AI transition for state: " + getState()));
+            reset();
+            return;
+        }
+        checkDueTransitions(stateTransitions);
     }
 
     /**
@@ -73,10 +116,155 @@ public class TickRateStateMachine extends BasicStateMachine<TickingTransition>
     public boolean checkTransition(@NotNull final TickingTransition transition)
     {
         // Check if the target should be run this Tick
-        if ((tickCounter % transition.getTickRate()) != transition.getTickOffset())
+        if (!isDue(tickCounter, elapsedTicks, transition.getTickRate(), transition.getTickOffset()))
         {
             return false;
         }
         return super.checkTransition(transition);
     }
+
+    @Override
+    protected void onTransitionsChanged()
+    {
+        compiledStates.clear();
+        Arrays.fill(compiledEvents, null);
+    }
+
+    /**
+     * Get the compiled transitions of a state, compiling them if needed.
+     *
+     * @param state the state.
+     * @return the compiled transitions or null if the state has no transitions registered.
+     */
+    @Nullable
+    private CompiledTransitions getCompiledState(@NotNull final IAIState state)
+    {
+        CompiledTransitions compiled = compiledStates.get(state);
+        if (compiled == null)
+        {
+            final List<TickingTransition> transitions = transitionMap.get(state);
+            if (transitions == null)
+            {
+                return null;
+            }
+            compiled = new CompiledTransitions(transitions);
+            compiledStates.put(state, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Check the transitions which are due this tick in their registration order until one is applied.
+     *
+     * @param compiled the compiled transitions.
+     * @return true if a transition was applied.
+     */
+    private boolean checkDueTransitions(@NotNull final CompiledTransitions compiled)
+    {
+        if (!compiled.updateDueGroups(tickCounter, elapsedTicks))
+        {
+            return false;
+        }
+
+        for (int i = 0; i < compiled.transitions.length; i++)
+        {
+            if (compiled.dueGroups[compiled.groupOf[i]] && super.checkTransition(compiled.transitions[i]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a tickrate and offset is due in any of the ticks the counter just advanced over.
+     *
+     * @param tickCounter  the tick counter of the statemachine.
+     * @param elapsedTicks the amount of ticks the counter advanced.
+     * @param tickRate     the tickrate.
+     * @param tickOffset   the offset.
+     * @return true if due.
+     */
+    private static boolean isDue(final int tickCounter, final int elapsedTicks, final int tickRate, final int tickOffset)
+    {
+        return elapsedTicks >= tickRate || Math.floorMod(tickCounter - tickOffset, tickRate) < elapsedTicks;
+    }
+
+    /**
+     * The transitions of one state or event type in registration order, grouped by tickrate and offset.
+     * The tickrate of a transition is read when it is compiled, later changes apply once the transitions of the statemachine change.
+     */
+    private static final class CompiledTransitions
+    {
+        /**
+         * The transitions in registration order.
+         */
+        private final TickingTransition[] transitions;
+
+        /**
+         * The group of each transition.
+         */
+        private final int[] groupOf;
+
+        /**
+         * The tickrate of each group.
+         */
+        private final int[] groupRates;
+
+        /**
+         * The offset of each group.
+         */
+        private final int[] groupOffsets;
+
+        /**
+         * Whether each group is due in the current tick.
+         */
+        private final boolean[] dueGroups;
+
+        /**
+         * Compile a list of transitions.
+         *
+         * @param transitionList the transitions.
+         */
+        private CompiledTransitions(@NotNull final List<TickingTransition> transitionList)
+        {
+            this.transitions = transitionList.toArray(new TickingTransition[0]);
+            this.groupOf = new int[transitions.length];
+
+            final Map<Long, Integer> groups = new LinkedHashMap<>();
+            for (int i = 0; i < transitions.length; i++)
+            {
+                final long key = ((long) transitions[i].getTickRate() << Integer.SIZE) | transitions[i].getTickOffset();
+                final Integer group = groups.computeIfAbsent(key, k -> groups.size());
+                groupOf[i] = group;
+            }
+
+            this.groupRates = new int[groups.size()];
+            this.groupOffsets = new int[groups.size()];
+            this.dueGroups = new boolean[groups.size()];
+            for (final Map.Entry<Long, Integer> group : groups.entrySet())
+            {
+                groupRates[group.getValue()] = (int) (group.getKey() >>> Integer.SIZE);
+                groupOffsets[group.getValue()] = (int) (long) group.getKey();
+            }
+        }
+
+        /**
+         * Calculate which groups are due in a tick.
+         *
+         * @param tickCounter  the tick counter of the statemachine.
+         * @param elapsedTicks the amount of ticks the counter advanced.
+         * @return true if any group is due.
+         */
+        private boolean updateDueGroups(final int tickCounter, final int elapsedTicks)
+        {
+            boolean anyDue = false;
+            for (int group = 0; group < groupRates.length; group++)
+            {
+                dueGroups[group] = isDue(tickCounter, elapsedTicks, groupRates[group], groupOffsets[group]);
+                anyDue |= dueGroups[group];
+            }
+            return anyDue;
+        }
+    }
 }
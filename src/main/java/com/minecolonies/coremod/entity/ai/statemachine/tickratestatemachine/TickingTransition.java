@@ -102,7 +102,8 @@ public class TickingTransition extends BasicTransition
     }
 
     /**
-     * Allow to dynamically change the tickrate
+     * Allow to dynamically change the tickrate.
+     * A {@link TickRateStateMachine} picks up the new rate the next time transitions are added to or removed from it.
      *
      * @param tickRate rate at which the AITarget should tick
      */
@@ -0,0 +1,211 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.minecolonies.api.configuration.Configurations;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the state machine evaluations of the citizen AIs of a colony within a time budget per server tick.
+ * <p>
+ * The budget of {@link Configurations.Gameplay#citizenAITickBudget} is shared by the citizens of all colonies.
+ * Urgent evaluations always run, normal ones until the budget is used up and low priority ones until half of it is used up.
+ * Deferred evaluations are retried a few ticks later, offset by the citizen, so they do not all come back in the same tick.
+ * An evaluation deferred {@link #MAX_DEFERRALS} times in a row runs regardless of the budget,
+ * so every AI is evaluated within {@link #MAX_DEFERRALS} retries, even when the demand exceeds the budget for a long time.
+ */
+public class CitizenAIScheduler
+{
+    /**
+     * The priority of an AI evaluation.
+     */
+    public enum Priority
+    {
+        /**
+         * Guards in combat and AIs in the middle of a transition, never deferred.
+         */
+        URGENT,
+
+        /**
+         * Regular work.
+         */
+        NORMAL,
+
+        /**
+         * Idle AIs and AIs waiting for items, deferred first.
+         */
+        LOW
+    }
+
+    /**
+     * The amount of consecutive deferrals after which an evaluation runs regardless of the budget.
+     */
+    public static final int MAX_DEFERRALS = 3;
+
+    /**
+     * The maximum amount of ticks a deferred evaluation is pushed back.
+     */
+    private static final int DEFER_SPREAD = 4;
+
+    /**
+     * The server tick the spent time is counted for.
+     */
+    private static long budgetTick = -1;
+
+    /**
+     * The time spent on AI evaluations in the current server tick, in nanoseconds.
+     */
+    private static long spentNanos = 0;
+
+    /**
+     * The amount of evaluations deferred in this colony.
+     */
+    private long deferredEvaluations = 0;
+
+    /**
+     * The amount of evaluations deferred in this colony in the last completed server tick.
+     */
+    private int deferredLastTick = 0;
+
+    /**
+     * The amount of evaluations deferred in this colony in the current server tick.
+     */
+    private int deferredThisTick = 0;
+
+    /**
+     * The server tick the deferred evaluations of this tick are counted for.
+     */
+    private long deferTick = -1;
+
+    /**
+     * Run an evaluation if the budget of the current tick allows it.
+     *
+     * @param world      the world of the citizen.
+     * @param priority   the priority of the evaluation.
+     * @param deferrals  the amount of times the evaluation was deferred in a row.
+     * @param evaluation the evaluation to run.
+     * @return true if it ran, false if it was deferred.
+     */
+    public boolean runEvaluation(@NotNull final World world, @NotNull final Priority priority, final int deferrals, @NotNull final Runnable evaluation)
+    {
+        return runEvaluation(getServerTick(world), priority, deferrals, evaluation);
+    }
+
+    /**
+     * Run an evaluation in a server tick if the budget of the tick allows it.
+     *
+     * @param tick       the current server tick.
+     * @param priority   the priority of the evaluation.
+     * @param deferrals  the amount of times the evaluation was deferred in a row.
+     * @param evaluation the evaluation to run.
+     * @return true if it ran, false if it was deferred.
+     */
+    boolean runEvaluation(final long tick, @NotNull final Priority priority, final int deferrals, @NotNull final Runnable evaluation)
+    {
+        if (tick != budgetTick)
+        {
+            budgetTick = tick;
+            spentNanos = 0;
+        }
+
+        if (deferrals < MAX_DEFERRALS && !isWithinBudget(priority))
+        {
+            countDeferred(tick);
+            return false;
+        }
+
+        final long start = System.nanoTime();
+        try
+        {
+            evaluation.run();
+        }
+        finally
+        {
+            spentNanos += System.nanoTime() - start;
+        }
+        return true;
+    }
+
+    /**
+     * Get the amount of ticks to wait before retrying a deferred evaluation.
+     *
+     * @param citizenId the id of the citizen, to spread the retries.
+     * @return the amount of ticks, at least 1.
+     */
+    public int getRetryDelay(final int citizenId)
+    {
+        return 1 + Math.floorMod(citizenId, DEFER_SPREAD);
+    }
+
+    /**
+     * Get the amount of evaluations deferred in this colony since it was loaded.
+     *
+     * @return the amount.
+     */
+    public long getDeferredEvaluations()
+    {
+        return deferredEvaluations;
+    }
+
+    /**
+     * Get the amount of evaluations deferred in this colony in the last server tick which deferred any.
+     *
+     * @return the amount.
+     */
+    public int getDeferredLastTick()
+    {
+        return deferredLastTick;
+    }
+
+    /**
+     * Check if an evaluation of a priority may run with the time already spent in this tick.
+     *
+     * @param priority the priority.
+     * @return true if so.
+     */
+    private static boolean isWithinBudget(@NotNull final Priority priority)
+    {
+        final int budgetMillis = Configurations.gameplay.citizenAITickBudget;
+        if (priority == Priority.URGENT || budgetMillis <= 0)
+        {
+            return true;
+        }
+
+        final long budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        return priority == Priority.NORMAL ? spentNanos < budgetNanos : spentNanos < budgetNanos / 2;
+    }
+
+    /**
+     * Count a deferred evaluation.
+     *
+     * @param tick the current server tick.
+     */
+    private void countDeferred(final long tick)
+    {
+        if (tick != deferTick)
+        {
+            if (deferredThisTick > 0)
+            {
+                deferredLastTick = deferredThisTick;
+            }
+            deferTick = tick;
+            deferredThisTick = 0;
+        }
+        deferredThisTick++;
+        deferredEvaluations++;
+    }
+
+    /**
+     * Get the current server tick, which is shared by all worlds.
+     *
+     * @param world the world of the citizen.
+     * @return the tick.
+     */
+    private static long getServerTick(@NotNull final World world)
+    {
+        final MinecraftServer server = world.getMinecraftServer();
+        return server == null ? world.getTotalWorldTime() : server.getTickCounter();
+    }
+}
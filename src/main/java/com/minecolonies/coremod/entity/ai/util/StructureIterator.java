@@ -1,13 +1,13 @@
 package com.minecolonies.coremod.entity.ai.util;
 
 import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
 import com.minecolonies.coremod.blocks.ModBlocks;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.util.BlueprintCache;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
 import net.minecraft.block.BlockStairs;
@@ -259,21 +259,13 @@ public class StructureIterator
             throw new StructureException(String.format("Some parameters were null! (targetWorld: %s), (buildingLocation: %s), (schematicFileName: %s)",
               targetWorld, buildingLocation, schematicFileName));
         }
-        @Nullable final Structure tempSchematic;
-        //failsafe for faulty structure files
-        try
+        //the cached blueprint is already rotated, only put the building into place
+        @Nullable final Structure tempSchematic = BlueprintCache.getStructure(targetWorld, schematicFileName, rotation, mirror, buildingLocation);
+        if (tempSchematic == null)
         {
-            tempSchematic = new Structure(targetWorld, schematicFileName, new PlacementSettings());
-        }
-        catch (final IllegalStateException e)
-        {
-            throw new StructureException("failed to load structure file!", e);
+            throw new StructureException("failed to load structure file!");
         }
 
-        //put the building into place
-        tempSchematic.rotate(BlockPosUtil.getRotationFromRotations(rotation), targetWorld, buildingLocation, mirror);
-        tempSchematic.setPosition(buildingLocation);
-        tempSchematic.setPlacementSettings(new PlacementSettings(mirror, BlockPosUtil.getRotationFromRotations(rotation)));
         if (blockProgress != null)
         {
             tempSchematic.setLocalPosition(blockProgress);
@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.ldtteam.structures.helpers.Structure;
+import com.ldtteam.structurize.util.BlockInfo;
+import com.ldtteam.structurize.util.StructurePlacementUtils;
+import net.minecraft.block.BlockBed;
+import net.minecraft.block.BlockDoor;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks the blocks of a structure to calculate the resources needed to build it, a slice of blocks at a time.
+ * <p>
+ * Blocks which already match the world, the foot of beds and the upper half of doors are skipped, the others are passed to a {@link IResourceHandler}.
+ * The scanner works on its own structure, so the iteration of the worker building the structure is not disturbed.
+ * The last scanned position can be stored and passed to a new scanner to resume the scan.
+ */
+public class StructureResourceScanner
+{
+    /**
+     * Time which may be spent on one slice of the scan by default, in nanoseconds.
+     */
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * Receives the blocks and entities which need resources.
+     */
+    public interface IResourceHandler
+    {
+        /**
+         * Called for every block which is not in place yet.
+         *
+         * @param structure  the structure, positioned at the block.
+         * @param blockInfo  the info of the block.
+         * @param blockState the state of the block.
+         */
+        void onBlock(@NotNull Structure structure, @NotNull BlockInfo blockInfo, @NotNull IBlockState blockState);
+
+        /**
+         * Called for every entity of the structure once all blocks are scanned.
+         *
+         * @param entityInfo the entity data.
+         */
+        void onEntity(@NotNull NBTTagCompound entityInfo);
+    }
+
+    /**
+     * The world the structure is placed in.
+     */
+    private final World world;
+
+    /**
+     * The structure to scan, owned by the scanner.
+     */
+    private final Structure structure;
+
+    /**
+     * The handler of the blocks and entities.
+     */
+    private final IResourceHandler handler;
+
+    /**
+     * Whether all blocks and entities have been scanned.
+     */
+    private boolean done = false;
+
+    /**
+     * Create a scanner.
+     *
+     * @param world     the world the structure is placed in.
+     * @param structure the structure to scan, placed at its position. It must not be iterated by anyone else.
+     * @param handler   the handler of the blocks and entities.
+     * @param resumePos the last scanned local position to resume after, or null to start from the beginning.
+     */
+    public StructureResourceScanner(
+      @NotNull final World world,
+      @NotNull final Structure structure,
+      @NotNull final IResourceHandler handler,
+      @Nullable final BlockPos resumePos)
+    {
+        this.world = world;
+        this.structure = structure;
+        this.handler = handler;
+        if (resumePos != null)
+        {
+            structure.setLocalPosition(resumePos);
+        }
+    }
+
+    /**
+     * Scan blocks until the time budget is used up, at least one block is scanned.
+     *
+     * @param budgetNanos the time budget in nanoseconds.
+     * @return true if the scan is complete.
+     */
+    public boolean scan(final long budgetNanos)
+    {
+        if (done)
+        {
+            return true;
+        }
+
+        final long deadline = System.nanoTime() + budgetNanos;
+        do
+        {
+            if (!structure.findNextBlock())
+            {
+                for (final NBTTagCompound entityInfo : structure.getEntityData())
+                {
+                    if (entityInfo != null)
+                    {
+                        handler.onEntity(entityInfo);
+                    }
+                }
+                done = true;
+                return true;
+            }
+
+            scanBlock();
+        }
+        while (System.nanoTime() < deadline);
+
+        return false;
+    }
+
+    /**
+     * Pass the current block to the handler if it needs resources.
+     */
+    private void scanBlock()
+    {
+        @Nullable final BlockInfo blockInfo = structure.getBlockInfo();
+        if (blockInfo == null || blockInfo.getState() == null)
+        {
+            return;
+        }
+
+        final IBlockState blockState = blockInfo.getState();
+        if (StructurePlacementUtils.isStructureBlockEqualWorldBlock(world, structure.getBlockPosition(), blockState)
+              || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
+              || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER)))
+        {
+            return;
+        }
+
+        handler.onBlock(structure, blockInfo, blockState);
+    }
+
+    /**
+     * Check if all blocks and entities have been scanned.
+     *
+     * @return true if so.
+     */
+    public boolean isDone()
+    {
+        return done;
+    }
+
+    /**
+     * Get the last scanned local position, to resume the scan later.
+     *
+     * @return the position.
+     */
+    @NotNull
+    public BlockPos getProgress()
+    {
+        return structure.getLocalPosition();
+    }
+}
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.citizenhandlers;
 
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.util.ExperienceUtils;
@@ -139,7 +140,7 @@ public class CitizenExperienceHandler
                 citizen.getCitizenData().levelUp();
             }
             updateLevel();
-            citizen.markDirty();
+            citizen.getCitizenData().markDirty(CitizenData.DIRTY_JOB);
         }
     }
 
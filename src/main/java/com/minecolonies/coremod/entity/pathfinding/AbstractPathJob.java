@@ -84,14 +84,30 @@ public abstract class AbstractPathJob implements Callable<Path>
     private static final double TOO_FAR_FROM_FENCE = 0.9D;
 
     /**
-     * Shift x by this value to calculate the node key..
+     * Bits of the x and z coordinate in the node key.
      */
-    private static final int SHIFT_X_BY = 20;
+    private static final int NODE_KEY_XZ_BITS = 26;
 
     /**
-     * Shift the y value by this to calculate the node key..
+     * Bits of the y coordinate in the node key.
      */
-    private static final int SHIFT_Y_BY = 12;
+    private static final int NODE_KEY_Y_BITS = 12;
+
+    /**
+     * Masks of the coordinates in the node key.
+     */
+    private static final long NODE_KEY_XZ_MASK = (1L << NODE_KEY_XZ_BITS) - 1;
+    private static final long NODE_KEY_Y_MASK  = (1L << NODE_KEY_Y_BITS) - 1;
+
+    /**
+     * Open sets of the pathfinding threads, reused by all jobs of a thread.
+     */
+    private static final ThreadLocal<NodeHeap> OPEN_SETS = ThreadLocal.withInitial(NodeHeap::new);
+
+    /**
+     * Visited node tables of the pathfinding threads, reused by all jobs of a thread.
+     */
+    private static final ThreadLocal<NodeTable> VISITED_TABLES = ThreadLocal.withInitial(NodeTable::new);
 
     @Nullable
     protected static Set<Node>    lastDebugNodesVisited;
@@ -105,8 +121,12 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final  IBlockAccess world;
     protected final  PathResult   result;
     private final    int          maxRange;
-    private final Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    private       NodeHeap           nodesOpen;
+    private       NodeTable          nodesVisited;
+    /**
+     * Position reused to probe blocks while walking, never stored in a node.
+     */
+    private final BlockPos.MutableBlockPos tempWorldPos          = new BlockPos.MutableBlockPos();
     //  Debug Rendering
     protected     boolean            debugDrawEnabled             = false;
     @Nullable
@@ -288,20 +308,20 @@ public abstract class AbstractPathJob implements Callable<Path>
     }
 
     /**
-     * Generate a pseudo-unique key for identifying a given node by it's coordinates
-     * Encodes the lowest 12 bits of x,z and all useful bits of y.
-     * This creates unique keys for all blocks within a 4096x256x4096 cube, which is FAR
-     * bigger volume than one should attempt to pathfind within
-     * This version takes a BlockPos
+     * Generate a unique key for identifying a given node by it's coordinates.
+     * Encodes 26 bits of x,z and 12 bits of y, the same layout as {@link BlockPos#toLong()},
+     * so the key is unique for every position of the world.
      *
-     * @param pos BlockPos to generate key from
-     * @return key for node in map
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return key for node in the table.
      */
-    private static int computeNodeKey(@NotNull final BlockPos pos)
+    private static long computeNodeKey(final int x, final int y, final int z)
     {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
+        return ((x & NODE_KEY_XZ_MASK) << (NODE_KEY_Y_BITS + NODE_KEY_XZ_BITS))
+                 | ((y & NODE_KEY_Y_MASK) << NODE_KEY_XZ_BITS)
+                 | (z & NODE_KEY_XZ_MASK);
     }
 
     /**
@@ -313,10 +333,25 @@ public abstract class AbstractPathJob implements Callable<Path>
      * @return cost to move from the parent to the new position.
      */
     protected static double computeCost(@NotNull final BlockPos dPos, final boolean isSwimming, final boolean onPath)
+    {
+        return computeCost(dPos.getX(), dPos.getY(), dPos.getZ(), isSwimming, onPath);
+    }
+
+    /**
+     * Compute the cost (immediate 'g' value) of moving from the parent space to the new space.
+     *
+     * @param dX         the x delta from the parent to the new space.
+     * @param dY         the y delta from the parent to the new space.
+     * @param dZ         the z delta from the parent to the new space.
+     * @param isSwimming true is the current node would require the citizen to swim.
+     * @param onPath     checks if the node is on a path.
+     * @return cost to move from the parent to the new position.
+     */
+    private static double computeCost(final int dX, final int dY, final int dZ, final boolean isSwimming, final boolean onPath)
     {
         double cost = 1D;
 
-        if (dPos.getY() != 0 && (dPos.getX() != 0 || dPos.getZ() != 0))
+        if (dY != 0 && (dX != 0 || dZ != 0))
         {
             //  Tax the cost for jumping, dropping (warning: also taxes stairs)
             cost *= JUMP_DROP_COST;
@@ -361,6 +396,17 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the entity this job belongs to.
+     *
+     * @return the entity, may be null.
+     */
+    @Nullable
+    public EntityLivingBase getEntity()
+    {
+        return entity;
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -389,6 +435,28 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     @Nullable
     protected Path search()
+    {
+        nodesOpen = OPEN_SETS.get();
+        nodesVisited = VISITED_TABLES.get();
+        try
+        {
+            return searchPath();
+        }
+        finally
+        {
+            //  Release the nodes, the tables themselves are kept for the next job of this thread
+            nodesOpen.clear();
+            nodesVisited.clear();
+        }
+    }
+
+    /**
+     * Run the A* search on the prepared open set and visited table.
+     *
+     * @return Path of a path to the given location, a best-effort, or null.
+     */
+    @Nullable
+    private Path searchPath()
     {
         Node bestNode = getAndSetupStartNode();
 
@@ -396,7 +464,8 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         while (!nodesOpen.isEmpty())
         {
-            if (Thread.currentThread().isInterrupted())
+            //  Cancelled through the future, consume the interrupt so it does not leak into the next job of this thread
+            if (Thread.interrupted())
             {
                 return null;
             }
@@ -549,7 +618,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         nodesOpen.offer(startNode);
-        nodesVisited.put(computeNodeKey(start), startNode);
+        nodesVisited.put(computeNodeKey(start.getX(), start.getY(), start.getZ()), startNode);
 
         ++totalNodesAdded;
 
@@ -689,36 +758,38 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected final boolean walk(@NotNull final Node parent, @NotNull final BlockPos dPos)
     {
-        BlockPos pos = parent.pos.add(dPos);
+        final int x = parent.pos.getX() + dPos.getX();
+        int y = parent.pos.getY() + dPos.getY();
+        final int z = parent.pos.getZ() + dPos.getZ();
 
         final Block block = world.getBlockState(parent.pos).getBlock();
         if (block == Blocks.FARMLAND || block == Blocks.GRASS_PATH)
         {
-            pos = pos.up();
+            y++;
         }
 
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
-        int nodeKey = computeNodeKey(pos);
+        long nodeKey = computeNodeKey(x, y, z);
         Node node = nodesVisited.get(nodeKey);
 
         //  Can we traverse into this node?  Fix the y up
-        final int newY = getGroundHeight(parent, pos);
+        final int newY = getGroundHeight(parent, tempWorldPos.setPos(x, y, z));
 
         if (checkPreconditions(node, newY))
         {
             return false;
         }
 
-        BlockPos yFix = BlockPos.ORIGIN;
-
-        if (pos.getY() != newY)
+        int stepY = dPos.getY();
+        if (y != newY)
         {
-            yFix = dPos.add(0, newY - pos.getY(), 0);
+            //  The y fix is added on top of the delta
+            stepY = dPos.getY() * 2 + newY - y;
+            y = newY;
 
             //  Has this node been visited?
-            pos = new BlockPos(pos.getX(), newY, pos.getZ());
-            nodeKey = computeNodeKey(pos);
+            nodeKey = computeNodeKey(x, y, z);
             node = nodesVisited.get(nodeKey);
             if (nodeClosed(node))
             {
@@ -727,10 +798,12 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
         }
 
+        //  Only allocate a position if the node is new
+        final BlockPos pos = node == null ? new BlockPos(x, y, z) : node.pos;
         final boolean isSwimming = calculateSwimming(world, pos, node);
-        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(pos.down()).getBlock());
+        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(tempWorldPos.setPos(x, y - 1, z)).getBlock());
         //  Cost may have changed due to a jump up or drop
-        final double stepCost = computeCost(dPos.add(yFix), isSwimming, onRoad);
+        final double stepCost = computeCost(dPos.getX(), stepY, dPos.getZ(), isSwimming, onRoad);
         final double heuristic = computeHeuristic(pos);
         final double cost = parent.getCost() + stepCost;
         final double score = cost + heuristic;
@@ -738,14 +811,16 @@ public abstract class AbstractPathJob implements Callable<Path>
         if (node == null)
         {
             node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
+            nodesOpen.offer(node);
         }
         else if (updateCurrentNode(parent, node, heuristic, cost, score))
         {
-
             return false;
         }
-
-        nodesOpen.offer(node);
+        else
+        {
+            nodesOpen.decreaseKey(node);
+        }
 
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
@@ -765,7 +840,7 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     @NotNull
     private Node createNode(
-                             final Node parent, @NotNull final BlockPos pos, final int nodeKey,
+                             final Node parent, @NotNull final BlockPos pos, final long nodeKey,
                              final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
         final Node node;
@@ -798,7 +873,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -81,6 +81,11 @@ public class Node implements Comparable<Node>
      */
     private boolean swimming = false;
 
+    /**
+     * The index of the node in the open set heap, -1 if it is not in the heap.
+     */
+    private int heapIndex = -1;
+
     /**
      * Create initial Node.
      *
@@ -333,4 +338,24 @@ public class Node implements Comparable<Node>
     {
         this.counterAdded = counterAdded;
     }
+
+    /**
+     * Getter of the index in the open set heap.
+     *
+     * @return the index or -1 if the node is not in the heap.
+     */
+    public int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Sets the index in the open set heap.
+     *
+     * @param heapIndex the index, -1 when removed from the heap.
+     */
+    public void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
 }
@@ -0,0 +1,183 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of the open nodes of a path job, ordered by {@link Node#compareTo(Node)}.
+ * Each node stores its index in the heap, this allows contains checks and decrease-key in O(log n) without a linear search.
+ */
+public class NodeHeap
+{
+    /**
+     * The initial capacity of the heap.
+     */
+    private static final int INITIAL_CAPACITY = 512;
+
+    /**
+     * The heap array, the children of index i are at 2i+1 and 2i+2.
+     */
+    private Node[] heap = new Node[INITIAL_CAPACITY];
+
+    /**
+     * The amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the amount of nodes in the heap.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if a node is in the heap.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node, must not be in the heap yet.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        heap[size] = node;
+        node.setHeapIndex(size);
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Remove the best node from the heap.
+     *
+     * @return the node or null if the heap is empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node result = heap[0];
+        size--;
+        if (size > 0)
+        {
+            heap[0] = heap[size];
+            heap[0].setHeapIndex(0);
+            siftDown(0);
+        }
+        heap[size] = null;
+        result.setHeapIndex(-1);
+        return result;
+    }
+
+    /**
+     * Restore the heap order after the score of a node in the heap was lowered.
+     *
+     * @param node the node which score decreased.
+     */
+    public void decreaseKey(@NotNull final Node node)
+    {
+        siftUp(node.getHeapIndex());
+    }
+
+    /**
+     * Remove all nodes, the array is kept to be reused by the next job.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Move a node up until its parent is not worse than itself.
+     *
+     * @param startIndex the index of the node.
+     */
+    private void siftUp(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+
+    /**
+     * Move a node down until both children are not better than itself.
+     *
+     * @param startIndex the index of the node.
+     */
+    private void siftDown(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[childIndex];
+            }
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
@@ -0,0 +1,161 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table of the visited nodes of a path job, keyed by the packed block position.
+ * Uses primitive keys and linear probing, so lookups do not box and the table can be reused between jobs.
+ */
+public class NodeTable
+{
+    /**
+     * The initial capacity, has to be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Grow when the table is filled more than this.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * Multiplier used to spread the keys over the table (golden ratio).
+     */
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * The keys of the slots, only valid where the node slot is set.
+     */
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    /**
+     * The nodes of the slots, null for free slots.
+     */
+    private Node[] nodes = new Node[INITIAL_CAPACITY];
+
+    /**
+     * The amount of nodes in the table.
+     */
+    private int size = 0;
+
+    /**
+     * The size at which the table grows.
+     */
+    private int threshold = (int) (INITIAL_CAPACITY * LOAD_FACTOR);
+
+    /**
+     * Get the node of a key.
+     *
+     * @param key the key.
+     * @return the node or null if there is none.
+     */
+    @Nullable
+    public Node get(final long key)
+    {
+        final int mask = nodes.length - 1;
+        int slot = slot(key, mask);
+        while (nodes[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                return nodes[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Add or replace the node of a key.
+     *
+     * @param key  the key.
+     * @param node the node.
+     */
+    public void put(final long key, @NotNull final Node node)
+    {
+        final int mask = nodes.length - 1;
+        int slot = slot(key, mask);
+        while (nodes[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                nodes[slot] = node;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        nodes[slot] = node;
+        size++;
+        if (size > threshold)
+        {
+            grow();
+        }
+    }
+
+    /**
+     * Get the amount of nodes in the table.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes, the arrays are kept to be reused by the next job.
+     */
+    public void clear()
+    {
+        if (size > 0)
+        {
+            Arrays.fill(nodes, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Double the capacity and reinsert all nodes.
+     */
+    private void grow()
+    {
+        final long[] oldKeys = keys;
+        final Node[] oldNodes = nodes;
+        keys = new long[oldKeys.length * 2];
+        nodes = new Node[oldNodes.length * 2];
+        threshold = (int) (nodes.length * LOAD_FACTOR);
+
+        final int mask = nodes.length - 1;
+        for (int i = 0; i < oldNodes.length; i++)
+        {
+            if (oldNodes[i] != null)
+            {
+                int slot = slot(oldKeys[i], mask);
+                while (nodes[slot] != null)
+                {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                nodes[slot] = oldNodes[i];
+            }
+        }
+    }
+
+    /**
+     * Calculate the first slot of a key.
+     *
+     * @param key  the key.
+     * @param mask the capacity minus one.
+     * @return the slot.
+     */
+    private static int slot(final long key, final int mask)
+    {
+        final long hash = key * HASH_MULTIPLIER;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
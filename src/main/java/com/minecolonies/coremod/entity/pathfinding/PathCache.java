@@ -0,0 +1,339 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.util.ChunkDataHelper;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Colony scoped cache of computed paths, keyed by start, destination and type of the path job.
+ * Only paths which reach their destination and stay within the chunks owned by the colony are stored,
+ * this way every block change which could affect a path can be routed to the cache of the owning colony.
+ * Entries are dropped as soon as a block changes within their bounding box, and after a maximum age.
+ */
+public class PathCache
+{
+    /**
+     * Maximum amount of paths kept per colony, the least recently used is dropped first.
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    /**
+     * Maximum age of a path in ticks, paths might become suboptimal by changes outside of their bounding box.
+     */
+    private static final long MAX_AGE = 6000;
+
+    /**
+     * The id of the colony the cache belongs to.
+     */
+    private final int colonyId;
+
+    /**
+     * The cached paths in access order.
+     */
+    private final Map<Key, Entry> entries = new LinkedHashMap<Key, Entry>(MAX_ENTRIES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, Entry> eldest)
+        {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * The union of the bounding boxes of all entries, used to reject block changes quickly.
+     */
+    private int minX = Integer.MAX_VALUE;
+    private int minY = Integer.MAX_VALUE;
+    private int minZ = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE;
+    private int maxY = Integer.MIN_VALUE;
+    private int maxZ = Integer.MIN_VALUE;
+
+    /**
+     * Create the cache of a colony.
+     *
+     * @param colonyId the id of the colony.
+     */
+    public PathCache(final int colonyId)
+    {
+        this.colonyId = colonyId;
+    }
+
+    /**
+     * Get a copy of a cached path.
+     *
+     * @param start   the start of the path.
+     * @param end     the destination of the path.
+     * @param jobType the type of the job which computed the path.
+     * @param time    the current world time.
+     * @return a new path which can be followed or null if none is cached.
+     */
+    @Nullable
+    public Path get(@NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final Class<? extends AbstractPathJob> jobType, final long time)
+    {
+        final Key key = new Key(start, end, jobType);
+        final Entry entry = entries.get(key);
+        if (entry == null)
+        {
+            return null;
+        }
+
+        if (time - entry.created > MAX_AGE)
+        {
+            entries.remove(key);
+            return null;
+        }
+
+        return new Path(copyPoints(entry.points));
+    }
+
+    /**
+     * Store a computed path.
+     * The path is ignored if it leaves the chunks owned by the colony, as changes there would not invalidate it.
+     *
+     * @param world   the world of the path.
+     * @param start   the start of the path.
+     * @param end     the destination of the path.
+     * @param jobType the type of the job which computed the path.
+     * @param path    the path, it is copied before it is followed.
+     */
+    public void put(
+      @NotNull final World world,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      @NotNull final Class<? extends AbstractPathJob> jobType,
+      @NotNull final Path path)
+    {
+        final int length = path.getCurrentPathLength();
+        if (length == 0 || !(path.getPathPointFromIndex(0) instanceof PathPointExtended))
+        {
+            return;
+        }
+
+        final PathPointExtended[] points = new PathPointExtended[length];
+        long lastChunk = Long.MIN_VALUE;
+        for (int i = 0; i < length; i++)
+        {
+            points[i] = (PathPointExtended) path.getPathPointFromIndex(i);
+            final long chunk = ((long) (points[i].x >> 4) << 32) | ((points[i].z >> 4) & 0xFFFFFFFFL);
+            if (chunk != lastChunk)
+            {
+                final IColonyTagCapability cap = ChunkDataHelper.getClaims(world, new BlockPos(points[i].x, points[i].y, points[i].z));
+                if (cap == null || cap.getOwningColony() != colonyId)
+                {
+                    return;
+                }
+                lastChunk = chunk;
+            }
+        }
+
+        final Entry entry = new Entry(copyPoints(points), world.getTotalWorldTime());
+        entries.put(new Key(start, end, jobType), entry);
+        includeBounds(entry);
+    }
+
+    /**
+     * Drop all paths which could be affected by a block change.
+     *
+     * @param pos the changed position.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        if (!contains(pos, minX, minY, minZ, maxX, maxY, maxZ))
+        {
+            return;
+        }
+
+        final boolean removed = entries.values().removeIf(entry -> contains(pos, entry.minX, entry.minY, entry.minZ, entry.maxX, entry.maxY, entry.maxZ));
+        if (removed)
+        {
+            resetBounds();
+            entries.values().forEach(this::includeBounds);
+        }
+    }
+
+    /**
+     * Drop all paths.
+     */
+    public void clear()
+    {
+        entries.clear();
+        resetBounds();
+    }
+
+    /**
+     * Check if a position is within a box.
+     *
+     * @param pos  the position.
+     * @param minX the lowest x of the box.
+     * @param minY the lowest y of the box.
+     * @param minZ the lowest z of the box.
+     * @param maxX the highest x of the box.
+     * @param maxY the highest y of the box.
+     * @param maxZ the highest z of the box.
+     * @return true if so.
+     */
+    private static boolean contains(@NotNull final BlockPos pos, final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ)
+    {
+        return pos.getX() >= minX && pos.getX() <= maxX
+                 && pos.getY() >= minY && pos.getY() <= maxY
+                 && pos.getZ() >= minZ && pos.getZ() <= maxZ;
+    }
+
+    /**
+     * Grow the bounds of the cache to include an entry.
+     *
+     * @param entry the entry.
+     */
+    private void includeBounds(@NotNull final Entry entry)
+    {
+        minX = Math.min(minX, entry.minX);
+        minY = Math.min(minY, entry.minY);
+        minZ = Math.min(minZ, entry.minZ);
+        maxX = Math.max(maxX, entry.maxX);
+        maxY = Math.max(maxY, entry.maxY);
+        maxZ = Math.max(maxZ, entry.maxZ);
+    }
+
+    /**
+     * Reset the bounds to an empty box.
+     */
+    private void resetBounds()
+    {
+        minX = Integer.MAX_VALUE;
+        minY = Integer.MAX_VALUE;
+        minZ = Integer.MAX_VALUE;
+        maxX = Integer.MIN_VALUE;
+        maxY = Integer.MIN_VALUE;
+        maxZ = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Copy the points of a path, the path navigation changes them while following.
+     *
+     * @param points the points.
+     * @return the copies.
+     */
+    @NotNull
+    private static PathPointExtended[] copyPoints(@NotNull final PathPointExtended[] points)
+    {
+        final PathPointExtended[] copy = new PathPointExtended[points.length];
+        for (int i = 0; i < points.length; i++)
+        {
+            copy[i] = new PathPointExtended(new BlockPos(points[i].x, points[i].y, points[i].z));
+            copy[i].setOnLadder(points[i].isOnLadder());
+            copy[i].setLadderFacing(points[i].getLadderFacing());
+        }
+        return copy;
+    }
+
+    /**
+     * Key of a cached path.
+     */
+    private static final class Key
+    {
+        /**
+         * The start and destination as long.
+         */
+        private final long start;
+        private final long end;
+
+        /**
+         * The type of the job which computed the path.
+         */
+        private final Class<? extends AbstractPathJob> jobType;
+
+        /**
+         * Create a key.
+         *
+         * @param start   the start.
+         * @param end     the destination.
+         * @param jobType the job type.
+         */
+        private Key(@NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final Class<? extends AbstractPathJob> jobType)
+        {
+            this.start = start.toLong();
+            this.end = end.toLong();
+            this.jobType = jobType;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final Key key = (Key) o;
+            return start == key.start && end == key.end && jobType == key.jobType;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = Long.hashCode(start);
+            result = 31 * result + Long.hashCode(end);
+            result = 31 * result + jobType.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * A cached path with its bounding box.
+     */
+    private static final class Entry
+    {
+        /**
+         * The points of the path, never handed out directly.
+         */
+        private final PathPointExtended[] points;
+
+        /**
+         * The world time the path was computed at.
+         */
+        private final long created;
+
+        /**
+         * The bounding box of the path, grown by the ground below and the head room above the points.
+         */
+        private int minX = Integer.MAX_VALUE;
+        private int minY = Integer.MAX_VALUE;
+        private int minZ = Integer.MAX_VALUE;
+        private int maxX = Integer.MIN_VALUE;
+        private int maxY = Integer.MIN_VALUE;
+        private int maxZ = Integer.MIN_VALUE;
+
+        /**
+         * Create an entry.
+         *
+         * @param points  the points of the path.
+         * @param created the world time.
+         */
+        private Entry(@NotNull final PathPointExtended[] points, final long created)
+        {
+            this.points = points;
+            this.created = created;
+            for (final PathPoint point : points)
+            {
+                minX = Math.min(minX, point.x - 1);
+                minY = Math.min(minY, point.y - 1);
+                minZ = Math.min(minZ, point.z - 1);
+                maxX = Math.max(maxX, point.x + 1);
+                maxY = Math.max(maxY, point.y + 2);
+                maxZ = Math.max(maxZ, point.z + 1);
+            }
+        }
+    }
+}
@@ -45,6 +45,12 @@ public class PathNavigate extends PathNavigateGround
     @Nullable
     private PathResult   pathResult;
 
+    /**
+     * The start of the computing path, if it should be stored in the path cache of the colony.
+     */
+    @Nullable
+    private BlockPos cacheStart;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -179,9 +185,61 @@ public class PathNavigate extends PathNavigateGround
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         @NotNull final BlockPos dest = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
+        final Colony colony = getColony();
+        if (colony != null)
+        {
+            final Path cachedPath = colony.getPathCache().get(start, dest, PathJobMoveToLocation.class, world.getTotalWorldTime());
+            if (cachedPath != null && followCachedPath(cachedPath, dest, speed))
+            {
+                return pathResult;
+            }
+        }
+
+        final PathResult result = setPathJob(
           new PathJobMoveToLocation(CompatibilityUtils.getWorld(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity),
           dest, speed);
+        cacheStart = colony == null ? null : start;
+        return result;
+    }
+
+    /**
+     * Follow a path from the path cache without computing it again.
+     *
+     * @param path  the cached path.
+     * @param dest  the destination of the path.
+     * @param speed the speed to walk.
+     * @return true if the path could be set.
+     */
+    private boolean followCachedPath(@NotNull final Path path, @NotNull final BlockPos dest, final double speed)
+    {
+        clearPath();
+
+        this.destination = dest;
+        this.originalDestination = dest;
+        this.walkSpeed = speed;
+
+        if (!setPath(path, getSpeed()))
+        {
+            destination = null;
+            return false;
+        }
+
+        pathResult = new PathResult();
+        pathResult.setPathLength(path.getCurrentPathLength());
+        pathResult.setPathReachesDestination(true);
+        pathResult.setStatus(PathResult.Status.IN_PROGRESS_FOLLOWING);
+        return true;
+    }
+
+    /**
+     * Get the colony of the entity, only citizens use the path cache of their colony.
+     *
+     * @return the colony or null.
+     */
+    @Nullable
+    private Colony getColony()
+    {
+        return ourEntity instanceof EntityCitizen ? ((EntityCitizen) ourEntity).getCitizenColonyHandler().getColony() : null;
     }
 
     @Nullable
@@ -242,14 +300,30 @@ public class PathNavigate extends PathNavigateGround
                 return;
             }
 
+            //  Rejected by the scheduler, the result is cancelled so the AI will try again
+            if (future.isCancelled())
+            {
+                future = null;
+                cacheStart = null;
+                return;
+            }
+
             try
             {
                 if (future.get() == null)
                 {
                     future = null;
+                    cacheStart = null;
                     return;
                 }
 
+                final Colony colony = getColony();
+                if (cacheStart != null && colony != null && originalDestination != null && pathResult.isPathReachingDestination())
+                {
+                    colony.getPathCache().put(world, cacheStart, originalDestination, PathJobMoveToLocation.class, future.get());
+                }
+                cacheStart = null;
+
                 setPath(future.get(), getSpeed());
 
                 pathResult.setPathLength(getPath().getCurrentPathLength());
@@ -416,6 +490,7 @@ public class PathNavigate extends PathNavigateGround
             pathResult = null;
         }
 
+        cacheStart = null;
         destination = null;
         super.clearPath();
     }
@@ -2,6 +2,9 @@ package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import com.minecolonies.coremod.entity.EntityCitizen;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.BufferBuilder;
@@ -10,27 +13,84 @@ import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.client.renderer.entity.RenderManager;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.pathfinding.Path;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Static class the handles all the Pathfinding.
+ * Jobs are run by a fixed amount of threads in the order of their priority, each entity has at most one job waiting or running.
+ * The queue is bounded, when it is full the job of the lowest priority is rejected and its entity retries later.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
+    /**
+     * Priority of guards which are fighting.
+     */
+    public static final int PRIORITY_COMBAT  = 0;
+
+    /**
+     * Priority of all working citizens and other entities.
+     */
+    public static final int PRIORITY_DEFAULT = 1;
+
+    /**
+     * Priority of children and citizens without a job.
+     */
+    public static final int PRIORITY_IDLE    = 2;
+
+    /**
+     * Weight of a new sample in the moving averages of the metrics.
+     */
+    private static final double AVERAGE_WEIGHT = 0.05D;
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    private static final BlockingQueue<Runnable> jobQueue = new PriorityBlockingQueue<>();
     private static final ThreadPoolExecutor executor;
+
+    /**
+     * The waiting or running job of each entity.
+     */
+    private static final Map<UUID, PathJobTask> jobsByEntity = new ConcurrentHashMap<>();
+
+    /**
+     * Counter to keep jobs of the same priority in order.
+     */
+    private static final AtomicLong jobSequence = new AtomicLong();
+
+    /**
+     * Amount of jobs rejected because the queue was full.
+     */
+    private static final AtomicLong rejectedJobs = new AtomicLong();
+
+    /**
+     * Moving averages of the time jobs wait for a thread and of the time they run, in milliseconds.
+     */
+    private static double averageWaitTime = 0;
+    private static double averageRunTime  = 0;
+
     static
     {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+        final int threads = Math.max(1, Configurations.pathfinding.pathfindingMaxThreadCount);
+        executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, jobQueue);
+        executor.allowCoreThreadTimeOut(true);
     }
+
     private Pathfinding()
     {
         //Hides default constructor.
@@ -38,13 +98,245 @@ public final class Pathfinding
 
     /**
      * Add a job to the queue for processing.
+     * A job of the same entity which is still waiting or running is cancelled.
      *
      * @param job PathJob
-     * @return a Future containing the Path
+     * @return a Future containing the Path, it is cancelled if the job got rejected.
      */
     public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
     {
-        return executor.submit(job);
+        final EntityLivingBase entity = job.getEntity();
+        final PathJobTask task = new PathJobTask(job, getPriority(entity), entity == null ? null : entity.getUniqueID());
+
+        if (task.owner != null)
+        {
+            final PathJobTask previous = jobsByEntity.put(task.owner, task);
+            if (previous != null)
+            {
+                previous.reject();
+            }
+        }
+
+        if (jobQueue.size() >= Configurations.pathfinding.pathfindingMaxQueueSize)
+        {
+            final PathJobTask worst = getWorstQueuedTask();
+            if (worst == null || worst.compareTo(task) < 0)
+            {
+                task.reject();
+                rejectedJobs.incrementAndGet();
+                return task;
+            }
+            worst.reject();
+            rejectedJobs.incrementAndGet();
+        }
+
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Get the priority of the jobs of an entity.
+     *
+     * @param entity the entity.
+     * @return the priority, lower runs first.
+     */
+    private static int getPriority(@Nullable final EntityLivingBase entity)
+    {
+        if (entity instanceof EntityCitizen)
+        {
+            final EntityCitizen citizen = (EntityCitizen) entity;
+            final AbstractJob job = citizen.getCitizenJobHandler().getColonyJob();
+            if (job instanceof AbstractJobGuard)
+            {
+                final boolean fighting = citizen.getRevengeTarget() != null
+                                           || (citizen.getLastAttackedEntity() != null && !citizen.getLastAttackedEntity().isDead);
+                return fighting ? PRIORITY_COMBAT : PRIORITY_DEFAULT;
+            }
+
+            if (job == null || citizen.isChild())
+            {
+                return PRIORITY_IDLE;
+            }
+        }
+        return PRIORITY_DEFAULT;
+    }
+
+    /**
+     * Find the queued job which would run last.
+     *
+     * @return the job or null if the queue is empty.
+     */
+    @Nullable
+    private static PathJobTask getWorstQueuedTask()
+    {
+        PathJobTask worst = null;
+        for (final Runnable runnable : jobQueue)
+        {
+            final PathJobTask task = (PathJobTask) runnable;
+            if (worst == null || task.compareTo(worst) > 0)
+            {
+                worst = task;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Get the amount of jobs waiting for a thread.
+     *
+     * @return the queue depth.
+     */
+    public static int getQueueDepth()
+    {
+        return jobQueue.size();
+    }
+
+    /**
+     * Get the amount of jobs being computed right now.
+     *
+     * @return the amount of busy threads.
+     */
+    public static int getActiveJobCount()
+    {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Get the amount of jobs rejected since the start, because the queue was full.
+     *
+     * @return the amount.
+     */
+    public static long getRejectedJobCount()
+    {
+        return rejectedJobs.get();
+    }
+
+    /**
+     * Get the moving average of the time jobs wait in the queue.
+     *
+     * @return the time in milliseconds.
+     */
+    public static synchronized double getAverageWaitTime()
+    {
+        return averageWaitTime;
+    }
+
+    /**
+     * Get the moving average of the time jobs take to compute.
+     *
+     * @return the time in milliseconds.
+     */
+    public static synchronized double getAverageRunTime()
+    {
+        return averageRunTime;
+    }
+
+    /**
+     * Add the timings of a finished job to the moving averages.
+     *
+     * @param waitNanos the time the job waited.
+     * @param runNanos  the time the job ran.
+     */
+    private static synchronized void recordTimings(final long waitNanos, final long runNanos)
+    {
+        averageWaitTime += (waitNanos / NANOS_PER_MILLI - averageWaitTime) * AVERAGE_WEIGHT;
+        averageRunTime += (runNanos / NANOS_PER_MILLI - averageRunTime) * AVERAGE_WEIGHT;
+    }
+
+    /**
+     * A queued path job, ordered by priority and then by the time it was queued.
+     */
+    private static final class PathJobTask extends FutureTask<Path> implements Comparable<PathJobTask>
+    {
+        /**
+         * The job.
+         */
+        private final AbstractPathJob job;
+
+        /**
+         * The priority, lower runs first.
+         */
+        private final int priority;
+
+        /**
+         * The sequence number, lower runs first within a priority.
+         */
+        private final long sequence;
+
+        /**
+         * The entity which queued the job.
+         */
+        @Nullable
+        private final UUID owner;
+
+        /**
+         * The time the job was queued at.
+         */
+        private final long queueTime = System.nanoTime();
+
+        /**
+         * Create a task for a job.
+         *
+         * @param job      the job.
+         * @param priority the priority.
+         * @param owner    the entity which queued the job.
+         */
+        private PathJobTask(@NotNull final AbstractPathJob job, final int priority, @Nullable final UUID owner)
+        {
+            super(job);
+            this.job = job;
+            this.priority = priority;
+            this.sequence = jobSequence.getAndIncrement();
+            this.owner = owner;
+        }
+
+        @Override
+        public void run()
+        {
+            if (isDone())
+            {
+                return;
+            }
+
+            final long startTime = System.nanoTime();
+            super.run();
+            recordTimings(startTime - queueTime, System.nanoTime() - startTime);
+        }
+
+        /**
+         * Cancel the job without computing it, the entity will queue it again later.
+         */
+        private void reject()
+        {
+            if (cancel(true))
+            {
+                job.getResult().setStatus(PathResult.Status.CANCELLED);
+            }
+        }
+
+        @Override
+        protected void done()
+        {
+            if (owner != null)
+            {
+                jobsByEntity.remove(owner, this);
+            }
+
+            if (isCancelled())
+            {
+                executor.remove(this);
+            }
+        }
+
+        @Override
+        public int compareTo(@NotNull final PathJobTask other)
+        {
+            if (priority != other.priority)
+            {
+                return Integer.compare(priority, other.priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
     }
 
     /**
@@ -24,8 +24,7 @@ import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
-import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
-import com.minecolonies.coremod.network.messages.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.coremod.util.ChunkCapabilitySyncTracker;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import com.ldtteam.structurize.items.ModItems;
 import net.minecraft.block.Block;
@@ -55,6 +54,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.eventhandler.Event;
@@ -173,15 +173,13 @@ public class EventHandler
         //  Add nearby players
         if (entity instanceof EntityPlayerMP)
         {
+            //  The claims of the chunks are synced when they are sent to the client, see onChunkWatch
             final World world = entity.getEntityWorld();
-            MineColonies.getNetwork().sendTo(new UpdateChunkRangeCapabilityMessage(world, event.getNewChunkX(), event.getNewChunkZ(), Configurations.gameplay.workingRangeTownHallChunks), (EntityPlayerMP) event.getEntity());
-
             final Chunk newChunk = world.getChunk(event.getNewChunkX(), event.getNewChunkZ());
             ChunkDataHelper.loadChunk(newChunk, entity.world);
 
             final IColonyTagCapability newCloseColonies = newChunk.getCapability(CLOSE_COLONY_CAP, null);
 
-            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(newCloseColonies, newChunk.x, newChunk.z));
             @NotNull final EntityPlayerMP player = (EntityPlayerMP) entity;
             final Chunk oldChunk = world.getChunk(event.getOldChunkX(), event.getOldChunkZ());
             final IColonyTagCapability oldCloseColonies = oldChunk.getCapability(CLOSE_COLONY_CAP, null);
@@ -230,6 +228,32 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called when a chunk is sent to a player, sends the colony claims of the chunk if the client does not know them.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public void onChunkWatch(@NotNull final ChunkWatchEvent.Watch event)
+    {
+        final Chunk chunk = event.getPlayer().getServerWorld().getChunkProvider().getLoadedChunk(event.getChunk().x, event.getChunk().z);
+        if (chunk != null)
+        {
+            ChunkCapabilitySyncTracker.onChunkWatched(event.getPlayer(), chunk);
+        }
+    }
+
+    /**
+     * Event called when a chunk is removed from a player, the client drops the colony claims of the chunk.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public void onChunkUnWatch(@NotNull final ChunkWatchEvent.UnWatch event)
+    {
+        ChunkCapabilitySyncTracker.onChunkUnwatched(event.getPlayer(), event.getChunk());
+    }
+
     /**
      * Event called when the player enters a new chunk.
      *
@@ -705,6 +729,18 @@ public class EventHandler
         ColonyManager.onWorldLoad(event.getWorld());
     }
 
+    /**
+     * Gets called when world saves.
+     * Calls {@link ColonyManager#onWorldSave(World)}
+     *
+     * @param event {@link net.minecraftforge.event.world.WorldEvent.Save}
+     */
+    @SubscribeEvent
+    public void onWorldSave(@NotNull final WorldEvent.Save event)
+    {
+        ColonyManager.onWorldSave(event.getWorld());
+    }
+
     /**
      * Gets called when world unloads.
      * Calls {@link ColonyManager#onWorldUnload(World)}
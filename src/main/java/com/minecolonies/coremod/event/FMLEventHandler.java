@@ -4,9 +4,11 @@ import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
+import com.minecolonies.coremod.network.messages.RequestSystemTypeTableMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
 import com.minecolonies.coremod.network.messages.UpdateChunkRangeCapabilityMessage;
 import com.minecolonies.coremod.sounds.ModSoundEvents;
+import com.minecolonies.coremod.util.ChunkCapabilitySyncTracker;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.SoundEvent;
 import net.minecraftforge.common.config.Config;
@@ -71,6 +73,7 @@ public class FMLEventHandler
         if (event.player instanceof EntityPlayerMP)
         {
             MineColonies.getNetwork().sendTo(new ServerUUIDMessage(), (EntityPlayerMP) event.player);
+            MineColonies.getNetwork().sendTo(new RequestSystemTypeTableMessage(), (EntityPlayerMP) event.player);
             MineColonies.getNetwork().sendTo(new ColonyStylesMessage(), (EntityPlayerMP) event.player);
 
             // This automatically reloads the owner of the colony if failed.
@@ -79,6 +82,17 @@ public class FMLEventHandler
         }
     }
 
+    /**
+     * Called when a player logs out, drops the chunk claims known by the client.
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent}
+     */
+    @SubscribeEvent
+    public void onPlayerLogout(@NotNull final PlayerEvent.PlayerLoggedOutEvent event)
+    {
+        ChunkCapabilitySyncTracker.onPlayerLoggedOut(event.player);
+    }
+
     /**
      * Called when the config is changed, used to synch between file and game.
      *
@@ -396,7 +396,7 @@ public class InventoryCitizen implements IInventory
         this.inventoryChanged = true;
         if (this.citizen != null)
         {
-            this.citizen.markDirty();
+            this.citizen.markDirty(CitizenData.DIRTY_INVENTORY);
         }
     }
 
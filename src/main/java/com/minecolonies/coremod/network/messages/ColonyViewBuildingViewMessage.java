@@ -63,7 +63,8 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
         buf.writeInt(colonyId);
         BlockPosUtil.writeToByteBuf(buf, buildingId);
         buf.writeInt(dimension);
-        buf.writeBytes(buildingData);
+        // Leave the reader index untouched, the message is sent to every subscriber.
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
     }
 
     @Override
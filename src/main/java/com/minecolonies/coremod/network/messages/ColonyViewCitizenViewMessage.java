@@ -5,18 +5,20 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
-import net.minecraft.client.Minecraft;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 /**
- * Add or Update a ColonyView on the client.
+ * Add or Update several CitizenDataViews of a ColonyView on the client.
+ * The citizens are encoded once when the message is created, so the same message can be sent to all subscribers.
  */
 public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCitizenViewMessage, IMessage>
 {
     private int     colonyId;
-    private int     citizenId;
     private ByteBuf citizenBuffer;
 
     /**
@@ -33,25 +35,37 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
     }
 
     /**
-     * Updates a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     * Updates the {@link com.minecolonies.coremod.colony.CitizenDataView}s of the citizens.
+     * Each citizen is written as its id, its dirty mask, the length of its data and its data.
      *
-     * @param colony  Colony of the citizen
-     * @param citizen Citizen data of the citizen to update view
+     * @param colony   Colony of the citizens
+     * @param citizens Citizen data of the citizens to update the views of
+     * @param full     true to send all fields, false to send only the dirty fields of each citizen
      */
-    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final CitizenData citizen)
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final Collection<CitizenData> citizens, final boolean full)
     {
         this.colonyId = colony.getID();
-        this.citizenId = citizen.getId();
+        this.dimension = colony.getDimension();
         this.citizenBuffer = Unpooled.buffer();
-        this.dimension = citizen.getColony().getDimension();
-        citizen.serializeViewNetworkData(citizenBuffer);
+
+        ByteBufUtils.writeVarInt(citizenBuffer, citizens.size(), 5);
+        for (final CitizenData citizen : citizens)
+        {
+            final int mask = full ? CitizenData.DIRTY_ALL : citizen.getDirtyMask();
+            citizenBuffer.writeInt(citizen.getId());
+            citizenBuffer.writeByte(mask);
+
+            final int lengthIndex = citizenBuffer.writerIndex();
+            citizenBuffer.writeInt(0);
+            citizen.serializeViewNetworkData(citizenBuffer, mask);
+            citizenBuffer.setInt(lengthIndex, citizenBuffer.writerIndex() - lengthIndex - Integer.BYTES);
+        }
     }
 
     @Override
     public void fromBytes(@NotNull final ByteBuf buf)
     {
         colonyId = buf.readInt();
-        citizenId = buf.readInt();
         dimension = buf.readInt();
         this.citizenBuffer = buf.retain();
     }
@@ -60,14 +74,14 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
     public void toBytes(@NotNull final ByteBuf buf)
     {
         buf.writeInt(colonyId);
-        buf.writeInt(citizenId);
         buf.writeInt(dimension);
-        buf.writeBytes(citizenBuffer);
+        // Leave the reader index untouched, the message is sent to every subscriber.
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
     }
 
     @Override
     protected void messageOnClientThread(final ColonyViewCitizenViewMessage message, final MessageContext ctx)
     {
-        ColonyManager.handleColonyViewCitizensMessage(message.colonyId, message.citizenId, message.citizenBuffer, message.dimension);
+        ColonyManager.handleColonyViewCitizensMessage(message.colonyId, message.citizenBuffer, message.dimension);
     }
 }
@@ -72,7 +72,8 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
         buf.writeInt(dim);
-        buf.writeBytes(colonyBuffer);
+        // Leave the reader index untouched, the message is sent to every subscriber.
+        buf.writeBytes(colonyBuffer, colonyBuffer.readerIndex(), colonyBuffer.readableBytes());
     }
 
     @Override
@@ -0,0 +1,86 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sync the request system of a colony to the client, either as full snapshot or as delta.
+ */
+public class ColonyViewRequestSystemMessage extends AbstractMessage<ColonyViewRequestSystemMessage, IMessage>
+{
+    /**
+     * The colony id.
+     */
+    private int colonyId;
+
+    /**
+     * The dimension of the colony.
+     */
+    private int dim;
+
+    /**
+     * If the buffer contains a full snapshot instead of a delta.
+     */
+    private boolean isSnapshot;
+
+    /**
+     * The buffer with the data.
+     */
+    private ByteBuf requestSystemBuffer;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ColonyViewRequestSystemMessage()
+    {
+        super();
+    }
+
+    /**
+     * Sync the request system of a colony to the client.
+     *
+     * @param colony     the colony of the request system.
+     * @param buf        the buffer with the encoded snapshot or delta, it is shared and only read.
+     * @param isSnapshot true if the buffer contains a snapshot.
+     */
+    public ColonyViewRequestSystemMessage(@NotNull final Colony colony, @NotNull final ByteBuf buf, final boolean isSnapshot)
+    {
+        this.colonyId = colony.getID();
+        this.dim = colony.getDimension();
+        this.isSnapshot = isSnapshot;
+        this.requestSystemBuffer = buf;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        final ByteBuf newBuf = buf.retain();
+        colonyId = newBuf.readInt();
+        dim = newBuf.readInt();
+        isSnapshot = newBuf.readBoolean();
+        requestSystemBuffer = newBuf;
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeInt(dim);
+        buf.writeBoolean(isSnapshot);
+        buf.writeBytes(requestSystemBuffer, requestSystemBuffer.readerIndex(), requestSystemBuffer.readableBytes());
+    }
+
+    @Override
+    protected void messageOnClientThread(final ColonyViewRequestSystemMessage message, final MessageContext ctx)
+    {
+        if (MineColonies.proxy.getWorldFromMessage(ctx) != null)
+        {
+            ColonyManager.handleColonyViewRequestSystemMessage(message.colonyId, message.requestSystemBuffer, message.isSnapshot, message.dim);
+        }
+    }
+}
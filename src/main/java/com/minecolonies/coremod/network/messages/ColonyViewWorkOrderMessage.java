@@ -7,17 +7,20 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderView;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.client.Minecraft;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+
 /**
- * Add or Update a ColonyView on the client.
+ * Add or Update several WorkOrderViews of a ColonyView on the client.
+ * The workOrders are encoded once when the message is created, so the same message can be sent to all subscribers.
  */
 public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOrderMessage, IMessage>
 {
     private int     colonyId;
-    private int     workOrderId;
     private ByteBuf workOrderBuffer;
 
     /**
@@ -29,17 +32,25 @@ public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOr
     }
 
     /**
-     * Updates a {@link WorkOrderView} of the workOrders.
+     * Updates the {@link WorkOrderView}s of the workOrders.
+     * Each workOrder is written as the length of its data and its data.
      *
-     * @param colony    colony of the workOrder.
-     * @param workOrder workOrder of the colony to update view.
+     * @param colony     colony of the workOrders.
+     * @param workOrders workOrders of the colony to update the views of.
      */
-    public ColonyViewWorkOrderMessage(@NotNull final Colony colony, @NotNull final AbstractWorkOrder workOrder)
+    public ColonyViewWorkOrderMessage(@NotNull final Colony colony, @NotNull final Collection<AbstractWorkOrder> workOrders)
     {
         this.colonyId = colony.getID();
         this.workOrderBuffer = Unpooled.buffer();
-        this.workOrderId = workOrder.getID();
-        workOrder.serializeViewNetworkData(workOrderBuffer);
+
+        ByteBufUtils.writeVarInt(workOrderBuffer, workOrders.size(), 5);
+        for (final AbstractWorkOrder workOrder : workOrders)
+        {
+            final int lengthIndex = workOrderBuffer.writerIndex();
+            workOrderBuffer.writeInt(0);
+            workOrder.serializeViewNetworkData(workOrderBuffer);
+            workOrderBuffer.setInt(lengthIndex, workOrderBuffer.writerIndex() - lengthIndex - Integer.BYTES);
+        }
     }
 
     @Override
@@ -47,7 +58,6 @@ public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOr
     {
         final ByteBuf newbuf = buf.retain();
         colonyId = newbuf.readInt();
-        workOrderId = newbuf.readInt();
         workOrderBuffer = newbuf;
     }
 
@@ -55,8 +65,8 @@ public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOr
     public void toBytes(@NotNull final ByteBuf buf)
     {
         buf.writeInt(colonyId);
-        buf.writeInt(workOrderId);
-        buf.writeBytes(workOrderBuffer);
+        // Leave the reader index untouched, the message is sent to every subscriber.
+        buf.writeBytes(workOrderBuffer, workOrderBuffer.readerIndex(), workOrderBuffer.readableBytes());
     }
 
     @Override
@@ -65,5 +75,3 @@ public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOr
         ColonyManager.handleColonyViewWorkOrderMessage(message.colonyId, message.workOrderBuffer, Minecraft.getMinecraft().world.provider.getDimension());
     }
 }
-
-
@@ -96,7 +96,8 @@ public class PermissionsMessage
         {
             buf.writeInt(colonyID);
             buf.writeInt(dimension);
-            buf.writeBytes(data);
+            // Leave the reader index untouched, the message is sent to every subscriber with the same rank.
+            buf.writeBytes(data, data.readerIndex(), data.readableBytes());
         }
     }
 
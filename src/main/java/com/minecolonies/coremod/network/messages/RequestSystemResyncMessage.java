@@ -0,0 +1,69 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.ColonyView;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sent by the client when its request system view missed a delta and needs a full snapshot.
+ */
+public class RequestSystemResyncMessage extends AbstractMessage<RequestSystemResyncMessage, IMessage>
+{
+    /**
+     * The Colony ID.
+     */
+    private int colonyId;
+
+    /**
+     * The dimension of the message.
+     */
+    private int dimension;
+
+    /**
+     * Empty public constructor.
+     */
+    public RequestSystemResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates the message to request a snapshot of the request system.
+     *
+     * @param colony view of the colony to resync.
+     */
+    public RequestSystemResyncMessage(@NotNull final ColonyView colony)
+    {
+        super();
+        this.colonyId = colony.getID();
+        this.dimension = colony.getDimension();
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+        dimension = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeInt(dimension);
+    }
+
+    @Override
+    public void messageOnServerThread(final RequestSystemResyncMessage message, final EntityPlayerMP player)
+    {
+        final Colony colony = ColonyManager.getColonyByDimension(message.colonyId, message.dimension);
+        if (colony != null && colony.getPackageManager().getSubscribers().contains(player))
+        {
+            colony.getPackageManager().requestRequestSystemSnapshot(player);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the type table of the request system factories of the server to a client when it logs in.
+ * The client translates the type ids in request system buffers with it, so it does not depend on both sides registering the factories in the same order.
+ */
+public class RequestSystemTypeTableMessage extends AbstractMessage<RequestSystemTypeTableMessage, IMessage>
+{
+    /**
+     * The class names by the type ids of the server.
+     */
+    private List<String> classNames = new ArrayList<>();
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public RequestSystemTypeTableMessage()
+    {
+        super();
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        final int size = buf.readInt();
+        classNames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            classNames.add(ByteBufUtils.readUTF8String(buf));
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        final List<String> typeTable = StandardFactoryController.getInstance().getTypeTable();
+        buf.writeInt(typeTable.size());
+        for (final String className : typeTable)
+        {
+            ByteBufUtils.writeUTF8String(buf, className);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Set the type table of the server.
+     *
+     * @param message Message
+     * @param ctx     Context
+     */
+    @Override
+    protected void messageOnClientThread(final RequestSystemTypeTableMessage message, final MessageContext ctx)
+    {
+        StandardFactoryController.getInstance().setRemoteTypeTable(message.classNames);
+    }
+}
@@ -1,31 +1,28 @@
 package com.minecolonies.coremod.network.messages;
 
 import com.minecolonies.api.colony.IColonyTagCapability;
-import com.minecolonies.blockout.Log;
 import io.netty.buffer.ByteBuf;
-import net.minecraft.util.Tuple;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.World;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
-import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
- * Update the ChunkCapability with a colony.
+ * Update the ChunkCapability of several chunks with their colony claims.
  */
 public class UpdateChunkRangeCapabilityMessage extends AbstractMessage<UpdateChunkRangeCapabilityMessage, IMessage>
 {
     /**
-     * The colonies tags to send over.
+     * The claims by chunk position, the owning colony followed by the close colonies.
      */
-    private final List<Tuple<Tuple<Integer, Integer>, Integer>> colonies = new ArrayList<>();
+    private final Map<Long, int[]> chunks = new HashMap<>();
 
     /**
      * Empty constructor used when registering the message.
@@ -36,70 +33,68 @@ public class UpdateChunkRangeCapabilityMessage extends AbstractMessage<UpdateChu
     }
 
     /**
-     * Create a message to update the chunk cap on the client side.
-     * @param world the world.
-     * @param xC the x pos.
-     * @param zC the z pos.
-     * @param range the range.
+     * Create a message to update the chunk caps on the client side.
+     *
+     * @param chunks the claims by {@link ChunkPos#asLong(int, int)}, the owning colony followed by the close colonies.
      */
-    public UpdateChunkRangeCapabilityMessage(@NotNull final World world, final int xC, final int zC, final int range)
+    public UpdateChunkRangeCapabilityMessage(@NotNull final Map<Long, int[]> chunks)
     {
-        for (int x = -range; x <= range; x++ )
-        {
-            for (int z = -range; z <= range; z++ )
-            {
-                final int chunkX = xC + x;
-                final int chunkZ = zC + z;
-                if (world.isBlockLoaded(new BlockPos(chunkX * BLOCKS_PER_CHUNK, 0, chunkZ * BLOCKS_PER_CHUNK)))
-                {
-                    final Chunk chunk = world.getChunk(chunkX, chunkZ);
-                    final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
-                    if (cap != null)
-                    {
-                        colonies.add(new Tuple<>(new Tuple<>(chunkX, chunkZ), cap.getOwningColony()));
-                    }
-                }
-            }
-        }
+        this.chunks.putAll(chunks);
     }
 
     @Override
     public void fromBytes(@NotNull final ByteBuf buf)
     {
-        final int size = buf.readInt();
+        final int size = ByteBufUtils.readVarInt(buf, 5);
         for (int i = 0; i < size; i++)
         {
-            colonies.add(new Tuple<>(new Tuple<>(buf.readInt(), buf.readInt()), buf.readInt()));
+            final int x = buf.readInt();
+            final int z = buf.readInt();
+            final int[] claims = new int[ByteBufUtils.readVarInt(buf, 5)];
+            for (int j = 0; j < claims.length; j++)
+            {
+                claims[j] = ByteBufUtils.readVarInt(buf, 5);
+            }
+            chunks.put(ChunkPos.asLong(x, z), claims);
         }
     }
 
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
-        buf.writeInt(colonies.size());
-        for (final Tuple<Tuple<Integer, Integer>, Integer> c : colonies)
+        ByteBufUtils.writeVarInt(buf, chunks.size(), 5);
+        for (final Map.Entry<Long, int[]> entry : chunks.entrySet())
         {
-            buf.writeInt(c.getFirst().getFirst());
-            buf.writeInt(c.getFirst().getSecond());
-            buf.writeInt(c.getSecond());
+            buf.writeInt((int) (long) entry.getKey());
+            buf.writeInt((int) (entry.getKey() >> 32));
+            ByteBufUtils.writeVarInt(buf, entry.getValue().length, 5);
+            for (final int id : entry.getValue())
+            {
+                ByteBufUtils.writeVarInt(buf, id, 5);
+            }
         }
     }
 
     @Override
     protected void messageOnClientThread(final UpdateChunkRangeCapabilityMessage message, final MessageContext ctx)
     {
-        if(ctx.getClientHandler().world != null)
+        if (ctx.getClientHandler().world != null)
         {
-            for (final Tuple<Tuple<Integer, Integer>, Integer> c : message.colonies)
+            for (final Map.Entry<Long, int[]> entry : message.chunks.entrySet())
             {
-                final Chunk chunk = ctx.getClientHandler().world.getChunk(c.getFirst().getFirst(), c.getFirst().getSecond());
+                final Chunk chunk = ctx.getClientHandler().world.getChunk((int) (long) entry.getKey(), (int) (entry.getKey() >> 32));
                 final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
                 if (cap != null)
                 {
-                    cap.setOwningColony(c.getSecond());
-                    cap.addColony(c.getSecond());
+                    final int[] claims = entry.getValue();
+                    cap.reset();
+                    cap.setOwningColony(claims[0]);
+                    for (int i = 1; i < claims.length; i++)
+                    {
+                        cap.addColony(claims[i]);
+                    }
                 }
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -73,7 +73,7 @@ public class UpdateRequestStateMessage extends AbstractMessage<UpdateRequestStat
     public void fromBytes(@NotNull final ByteBuf buf)
     {
         colonyId = buf.readInt();
-        token = StandardFactoryController.getInstance().deserialize(ByteBufUtils.readTag(buf));
+        token = StandardFactoryController.getInstance().readFromBuffer(buf);
         state = RequestState.values()[buf.readInt()];
         if (state == RequestState.OVERRULED)
         {
@@ -86,7 +86,7 @@ public class UpdateRequestStateMessage extends AbstractMessage<UpdateRequestStat
     public void toBytes(@NotNull final ByteBuf buf)
     {
         buf.writeInt(colonyId);
-        ByteBufUtils.writeTag(buf, StandardFactoryController.getInstance().serialize(token));
+        StandardFactoryController.getInstance().writeToBuffer(buf, token);
         buf.writeInt(state.ordinal());
         if (state == RequestState.OVERRULED)
         {
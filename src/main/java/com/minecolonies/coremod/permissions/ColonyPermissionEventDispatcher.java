@@ -0,0 +1,293 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.blocks.AbstractBlockHut;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Single event bus listener for all colony permission checks.
+ * Resolves the colony owning the position of an event once and passes the event on to the {@link ColonyPermissionEventHandler} of that colony only.
+ * The owner is looked up without loading chunks, see {@link com.minecolonies.coremod.util.ChunkDataHelper#getClaims(World, BlockPos)}.
+ */
+public class ColonyPermissionEventDispatcher
+{
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.PlaceEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     * Huts are passed on to the colony of their building, even if they are outside of the claimed area.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.BreakEvent event)
+    {
+        final World world = event.getWorld();
+        if (world.isRemote)
+        {
+            return;
+        }
+
+        ColonyPermissionEventHandler handler = getHandler(world, event.getPos());
+        if (handler == null && event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            @Nullable final AbstractBuilding building = ColonyManager.getBuilding(world, event.getPos());
+            if (building != null)
+            {
+                handler = building.getColony().getEventHandler();
+            }
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler.
+     * Removes all blocks and entities which are inside of any colony, they may belong to different colonies.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Detonate event)
+    {
+        final World world = event.getWorld();
+        if (!Configurations.gameplay.turnOffExplosionsInColonies || world.isRemote)
+        {
+            return;
+        }
+
+        event.getAffectedBlocks().removeIf(pos -> getColony(world, pos) != null);
+        event.getAffectedEntities().removeIf(entity -> getColony(entity.getEntityWorld(), entity.getPosition()) != null);
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Start event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler, the entity interactions are handled separately.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent event)
+    {
+        if (event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerEvent.BreakSpeed handler.
+     *
+     * @param event PlayerEvent.BreakSpeed
+     */
+    @SubscribeEvent
+    public void on(final PlayerEvent.BreakSpeed event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().world, event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public void on(final EntityItemPickupEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public void on(final FillBucketEvent event)
+    {
+        final ColonyPermissionEventHandler handler;
+        if (event.getTarget() == null || event.getTarget().getBlockPos() == null)
+        {
+            handler = getHandler(event.getEntityPlayer());
+        }
+        else
+        {
+            handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getTarget().getBlockPos());
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public void on(final ArrowLooseEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public void on(final AttackEntityEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * Get the permission handler of the colony at the position of an entity.
+     *
+     * @param entity the entity.
+     * @return the handler or null if the entity is not inside of a colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final Entity entity)
+    {
+        return getHandler(entity.getEntityWorld(), entity.getPosition());
+    }
+
+    /**
+     * Get the permission handler of the colony owning a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the handler or null if the position is not inside of a colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Colony colony = getColony(world, pos);
+        return colony == null ? null : colony.getEventHandler();
+    }
+
+    /**
+     * Get the colony owning a position, on the client side there are no colonies.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the colony or null if none owns it.
+     */
+    @Nullable
+    private static Colony getColony(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        return world.isRemote ? null : ColonyManager.getColonyByPosFromWorld(world, pos);
+    }
+}
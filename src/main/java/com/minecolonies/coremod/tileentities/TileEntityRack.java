@@ -55,6 +55,11 @@ public class TileEntityRack extends TileEntity
      */
     private boolean main = false;
 
+    /**
+     * Position of the warehouse indexing this rack, null if none.
+     */
+    private BlockPos wareHousePos = null;
+
     /**
      * Size multiplier of the inventory.
      * 0 = default value.
@@ -242,6 +247,71 @@ public class TileEntityRack extends TileEntity
 
         updateBlockState();
         markDirty();
+        notifyWareHouse();
+    }
+
+    /**
+     * Get the content of this rack.
+     * This method returns the content list, it is therefore extremely fast.
+     *
+     * @return an unmodifiable view of the content, item to amount.
+     */
+    public Map<ItemStorage, Integer> getAllContent()
+    {
+        return Collections.unmodifiableMap(content);
+    }
+
+    /**
+     * Set the warehouse which indexes the content of this rack.
+     *
+     * @param wareHousePos the position of the warehouse.
+     */
+    public void setWareHousePos(final BlockPos wareHousePos)
+    {
+        if (!Objects.equals(this.wareHousePos, wareHousePos))
+        {
+            this.wareHousePos = wareHousePos;
+            markDirty();
+        }
+    }
+
+    /**
+     * Push the current content to the warehouse indexing this rack.
+     */
+    private void notifyWareHouse()
+    {
+        final TileEntityWareHouse wareHouse = getWareHouse();
+        if (wareHouse != null)
+        {
+            wareHouse.onContainerContentChanged(this);
+        }
+    }
+
+    /**
+     * Get the warehouse indexing this rack if it is loaded.
+     *
+     * @return the tileEntity of the warehouse or null.
+     */
+    private TileEntityWareHouse getWareHouse()
+    {
+        if (wareHousePos == null || world == null || world.isRemote || !world.isBlockLoaded(wareHousePos))
+        {
+            return null;
+        }
+
+        final TileEntity entity = world.getTileEntity(wareHousePos);
+        return entity instanceof TileEntityWareHouse ? (TileEntityWareHouse) entity : null;
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        final TileEntityWareHouse wareHouse = getWareHouse();
+        if (wareHouse != null)
+        {
+            wareHouse.onContainerRemoved(pos);
+        }
     }
 
     /**
@@ -443,6 +513,11 @@ public class TileEntityRack extends TileEntity
         }
         main = compound.getBoolean(TAG_MAIN);
         updateItemStorage();
+
+        if (compound.hasKey(TAG_WAREHOUSE))
+        {
+            wareHousePos = BlockPosUtil.readFromNBT(compound, TAG_WAREHOUSE);
+        }
     }
 
     @NotNull
@@ -473,6 +548,10 @@ public class TileEntityRack extends TileEntity
         }
         compound.setTag(TAG_INVENTORY, inventoryTagList);
         compound.setBoolean(TAG_MAIN, main);
+        if (wareHousePos != null)
+        {
+            BlockPosUtil.writeToNBT(compound, TAG_WAREHOUSE, wareHousePos);
+        }
         return compound;
     }
 
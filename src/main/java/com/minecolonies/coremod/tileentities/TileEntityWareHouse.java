@@ -1,9 +1,11 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.google.common.collect.Lists;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
+import com.minecolonies.coremod.colony.buildings.utils.WareHouseItemCatalog;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -14,9 +16,7 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -29,6 +29,11 @@ import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABI
 public class TileEntityWareHouse extends TileEntityColonyBuilding
 {
 
+    /**
+     * Index of the items stored in the warehouse and its containers.
+     */
+    private final WareHouseItemCatalog catalog = new WareHouseItemCatalog();
+
     /**
      * Method used to check if this warehouse holds any of the requested itemstacks.
      *
@@ -37,8 +42,30 @@ public class TileEntityWareHouse extends TileEntityColonyBuilding
      */
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<ItemStack> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(ItemStackUtils::getSize).sum() >= count;
+        if (getBuilding() == null)
+        {
+            return false;
+        }
+
+        updateCatalog();
+        return catalog.getCount(itemStackSelectionPredicate) >= count;
+    }
+
+    /**
+     * Get the amount of a certain item in the warehouse.
+     *
+     * @param storage the item to count.
+     * @return the amount.
+     */
+    public int getCountInWarehouse(@NotNull final ItemStorage storage)
+    {
+        if (getBuilding() == null)
+        {
+            return 0;
+        }
+
+        updateCatalog();
+        return catalog.getCount(storage);
     }
 
     /**
@@ -77,19 +104,146 @@ public class TileEntityWareHouse extends TileEntityColonyBuilding
     {
         if (getBuilding() != null)
         {
-            final Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
-
-            return tileEntities.stream()
-                     .filter(tileEntity -> InventoryUtils.hasItemInProvider(tileEntity, itemStackSelectionPredicate))
-                     .map(TileEntity::getPos)
-                     .findFirst().orElse(null);
+            updateCatalog();
+            return catalog.getFirstLocation(itemStackSelectionPredicate);
         }
 
         return null;
     }
 
+    /**
+     * Called by the racks of the warehouse when their content changed.
+     *
+     * @param rack the rack which changed.
+     */
+    public void onContainerContentChanged(@NotNull final TileEntityRack rack)
+    {
+        if (catalog.isIndexed(rack.getPos()))
+        {
+            catalog.updateContainer(rack.getPos(), rack.getAllContent());
+        }
+    }
+
+    /**
+     * Called by the racks of the warehouse when they are removed from the world.
+     *
+     * @param pos the position of the rack.
+     */
+    public void onContainerRemoved(@NotNull final BlockPos pos)
+    {
+        if (catalog.isIndexed(pos))
+        {
+            catalog.markStale(pos);
+        }
+    }
+
+    @Override
+    public void markDirty()
+    {
+        super.markDirty();
+        if (hasWorld())
+        {
+            // The own inventory has no slot hooks, scan it again on the next query.
+            catalog.markStale(getPos());
+        }
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        catalog.clear();
+    }
+
+    /**
+     * Bring the catalog in sync with the containers of the building.
+     * Only new, removed and stale containers are scanned, racks push their changes themselves.
+     */
+    private void updateCatalog()
+    {
+        final Set<BlockPos> containers = new HashSet<>(getBuilding().getAdditionalCountainers());
+        containers.add(getPos());
+
+        for (final BlockPos pos : catalog.getContainers())
+        {
+            if (!containers.contains(pos))
+            {
+                catalog.removeContainer(pos);
+            }
+        }
+
+        final Set<BlockPos> stale = catalog.getStaleContainers();
+        for (final BlockPos pos : containers)
+        {
+            if (!catalog.isIndexed(pos) || stale.contains(pos))
+            {
+                indexContainer(pos);
+            }
+        }
+    }
+
+    /**
+     * Scan a single container and put its content into the catalog.
+     *
+     * @param pos the position of the container.
+     */
+    private void indexContainer(@NotNull final BlockPos pos)
+    {
+        if (!getWorld().isBlockLoaded(pos))
+        {
+            // Keep the last known content until the container is loaded again.
+            return;
+        }
+
+        final TileEntity entity = getWorld().getTileEntity(pos);
+        if (entity == this)
+        {
+            // The capability of the warehouse combines all containers, only count the own inventory.
+            catalog.updateContainer(pos, getContentOfHandler(new InvWrapper(this)));
+        }
+        else if (entity instanceof TileEntityRack)
+        {
+            ((TileEntityRack) entity).setWareHousePos(getPos());
+            catalog.updateContainer(pos, ((TileEntityRack) entity).getAllContent());
+        }
+        else if (entity != null && entity.hasCapability(ITEM_HANDLER_CAPABILITY, null))
+        {
+            catalog.updateContainer(pos, getContentOfHandler(entity.getCapability(ITEM_HANDLER_CAPABILITY, null)));
+            // Other containers can't notify us, scan them every time.
+            catalog.markStale(pos);
+        }
+        else
+        {
+            catalog.removeContainer(pos);
+        }
+    }
+
+    /**
+     * Count the content of an item handler.
+     *
+     * @param handler the handler to count.
+     * @return the content, item to amount.
+     */
+    @NotNull
+    private static Map<ItemStorage, Integer> getContentOfHandler(@Nullable final IItemHandler handler)
+    {
+        final Map<ItemStorage, Integer> content = new HashMap<>();
+        if (handler == null)
+        {
+            return content;
+        }
+
+        for (int slot = 0; slot < handler.getSlots(); slot++)
+        {
+            final ItemStack stack = handler.getStackInSlot(slot);
+            if (!ItemStackUtils.isEmpty(stack))
+            {
+                content.merge(new ItemStorage(stack.copy()), ItemStackUtils.getSize(stack), Integer::sum);
+            }
+        }
+        return content;
+    }
+
     /**
      * Dump the inventory of a citizen into the warehouse.
      * Go through all items and search the right chest to dump it in.
@@ -18,6 +18,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -26,6 +33,22 @@ import static com.minecolonies.coremod.MineColonies.COLONY_MANAGER_CAP;
 
 public final class BackUpHelper
 {
+    /**
+     * Single thread writing the colony files, so writes of the same file happen in the order they were queued.
+     */
+    private static final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "MineColonies Colony Save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The tag last queued for each colony file, colonies whose tag did not change since are not written again.
+     * Only accessed by the server thread.
+     */
+    private static final Map<File, NBTTagCompound> queuedColonyTags = new HashMap<>();
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -37,13 +60,41 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony and wait until the backup is written.
+     * Blocks the calling thread, only use it when the world unloads or the server shuts down.
      * @return true if succesful.
      */
     public static boolean backupColonyData()
     {
-        BackUpHelper.saveColonies(true);
-        try(FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+        final AtomicBoolean result = new AtomicBoolean();
+        backupColonyData(result::set);
+        queuedColonyTags.clear();
+        flushSaves();
+        return result.get();
+    }
+
+    /**
+     * Backup the colony without waiting for it.
+     * The dirty colonies are saved first, the zip is queued behind their files, so it contains their new content.
+     * @param callback called on the save thread with true if the backup was succesful.
+     */
+    public static void backupColonyData(@NotNull final Consumer<Boolean> callback)
+    {
+        BackUpHelper.saveColonies(false);
+
+        final Date date = new Date();
+        saveExecutor.execute(() -> callback.accept(zipColonyData(date)));
+    }
+
+    /**
+     * Zip all colony files into a backup file.
+     *
+     * @param date the date of the backup.
+     * @return true if succesful.
+     */
+    private static boolean zipColonyData(final Date date)
+    {
+        try(FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(date)))
         {
             @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
             final ZipOutputStream zos = new ZipOutputStream(fos);
@@ -169,6 +220,10 @@ public final class BackUpHelper
 
     /**
      * Save all the Colonies.
+     * The NBT is created on the calling thread, compressing and writing the files happens on the save thread.
+     * Only colonies which were serialized again since their file was last queued are written, all others keep their file.
+     *
+     * @param isWorldUnload true if the world unloads, this waits until all files are written.
      */
     public static void saveColonies(final boolean isWorldUnload)
     {
@@ -176,13 +231,45 @@ public final class BackUpHelper
         ColonyManager.writeToNBT(compound);
 
         @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
+        saveExecutor.execute(() -> saveNBTToPath(file, compound));
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         for (final Colony colony : ColonyManager.getAllColonies())
         {
-            final NBTTagCompound colonyCompound = new NBTTagCompound();
-            colony.writeToNBT(colonyCompound);
-            saveNBTToPath(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound);
+            //  Only serialized again if the colony is dirty, the tag is never changed after it was created
+            final NBTTagCompound colonyCompound = colony.getColonyTag();
+            final File colonyFile = new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension()));
+            if (colonyCompound != null && queuedColonyTags.get(colonyFile) != colonyCompound)
+            {
+                queuedColonyTags.put(colonyFile, colonyCompound);
+                saveExecutor.execute(() -> saveNBTToPath(colonyFile, colonyCompound));
+            }
+        }
+
+        if (isWorldUnload)
+        {
+            queuedColonyTags.clear();
+            flushSaves();
+        }
+    }
+
+    /**
+     * Wait until all queued files are written.
+     * Blocks the calling thread, only use it when the world unloads or the server shuts down.
+     */
+    public static void flushSaves()
+    {
+        try
+        {
+            saveExecutor.submit(() -> { }).get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            Log.getLogger().warn("Interrupted while waiting for the colony files to be written", e);
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Failed to flush the colony files", e);
         }
     }
 
@@ -0,0 +1,349 @@
+package com.minecolonies.coremod.util;
+
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structures.helpers.Structure;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
+import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Server side cache of parsed blueprints, keyed by schematic name, rotation and mirror.
+ * <p>
+ * Loading a blueprint reads and decompresses the schematic file and rotating it walks all its blocks, so each variant is only prepared once.
+ * The cached blueprints are already rotated and must not be rotated again, {@link #getStructure(World, String, int, Mirror, BlockPos)} wraps them in a
+ * new {@link Structure} for every user because structures carry their own progress.
+ * <p>
+ * The cache is bounded by {@link Configurations.Gameplay#blueprintCacheSize}. Blueprints still referenced by a job are evicted last.
+ */
+public final class BlueprintCache
+{
+    /**
+     * The cached blueprints in access order.
+     */
+    private static final Map<Key, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * The keys of the cached blueprints, to release them by structure.
+     */
+    private static final Map<Blueprint, Key> KEYS_BY_BLUEPRINT = new IdentityHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit public one.
+     */
+    private BlueprintCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get a structure for a schematic, rotated, mirrored and placed at a position.
+     * The blueprint is referenced until {@link #release(Structure)} is called with the structure.
+     *
+     * @param world    the world.
+     * @param name     the name of the schematic.
+     * @param rotation the amount of times to rotate it.
+     * @param mirror   the mirror.
+     * @param position the position to place it at.
+     * @return the structure or null if the schematic does not exist.
+     */
+    @Nullable
+    public static Structure getStructure(
+      @NotNull final World world,
+      @NotNull final String name,
+      final int rotation,
+      @NotNull final Mirror mirror,
+      @NotNull final BlockPos position)
+    {
+        final Entry entry = getEntry(world, name, rotation, mirror);
+        if (entry.blueprint == null)
+        {
+            return null;
+        }
+
+        entry.references++;
+        final PlacementSettings settings = new PlacementSettings(mirror, BlockPosUtil.getRotationFromRotations(rotation));
+        final Structure structure = new Structure(world, entry.blueprint, settings);
+        structure.setPosition(position);
+        return structure;
+    }
+
+    /**
+     * Check if a schematic exists, without taking a reference.
+     * Loads the variant it is going to be placed with, so placing it afterwards does not load the schematic again.
+     *
+     * @param world    the world.
+     * @param name     the name of the schematic.
+     * @param rotation the amount of times it will be rotated.
+     * @param mirror   the mirror it will be placed with.
+     * @return true if it can be loaded.
+     */
+    public static boolean exists(@NotNull final World world, @NotNull final String name, final int rotation, @NotNull final Mirror mirror)
+    {
+        return getEntry(world, name, rotation, mirror).blueprint != null;
+    }
+
+    /**
+     * Release the blueprint of a structure obtained from {@link #getStructure(World, String, int, Mirror, BlockPos)}.
+     * Structures which were not obtained from the cache are ignored.
+     *
+     * @param structure the structure.
+     */
+    public static void release(@Nullable final Structure structure)
+    {
+        if (structure == null || structure.getBluePrint() == null)
+        {
+            return;
+        }
+
+        final Key key = KEYS_BY_BLUEPRINT.get(structure.getBluePrint());
+        final Entry entry = key == null ? null : ENTRIES.get(key);
+        if (entry != null && entry.references > 0)
+        {
+            entry.references--;
+        }
+    }
+
+    /**
+     * Load the blueprints of the open build work orders of all colonies, so the builders start without loading them.
+     * Stops when the cache is full.
+     */
+    public static void preloadWorkOrders()
+    {
+        int loaded = 0;
+        for (final Colony colony : ColonyManager.getAllColonies())
+        {
+            final World world = colony.getWorld();
+            if (world == null)
+            {
+                continue;
+            }
+
+            for (final AbstractWorkOrder workOrder : colony.getWorkManager().getWorkOrders().values())
+            {
+                if (ENTRIES.size() >= Configurations.gameplay.blueprintCacheSize)
+                {
+                    Log.getLogger().info("Preloaded " + loaded + " blueprints, the blueprint cache is full.");
+                    return;
+                }
+
+                if (workOrder instanceof WorkOrderBuildDecoration)
+                {
+                    final WorkOrderBuildDecoration buildOrder = (WorkOrderBuildDecoration) workOrder;
+                    final Mirror mirror = buildOrder.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE;
+                    if (getEntry(world, buildOrder.getStructureName(), buildOrder.getRotation(world), mirror).blueprint != null)
+                    {
+                        loaded++;
+                    }
+                }
+            }
+        }
+        Log.getLogger().info("Preloaded " + loaded + " blueprints.");
+    }
+
+    /**
+     * Drop all cached blueprints, for example when the server stops.
+     */
+    public static void clear()
+    {
+        ENTRIES.clear();
+        KEYS_BY_BLUEPRINT.clear();
+    }
+
+    /**
+     * Get the entry of a variant, loading it if it is not cached.
+     *
+     * @param world    the world.
+     * @param name     the name of the schematic.
+     * @param rotation the amount of times to rotate it.
+     * @param mirror   the mirror.
+     * @return the entry, with a null blueprint if the schematic does not exist.
+     */
+    @NotNull
+    private static Entry getEntry(@NotNull final World world, @NotNull final String name, final int rotation, @NotNull final Mirror mirror)
+    {
+        final Key key = new Key(name, Math.floorMod(rotation, 4), mirror);
+        Entry entry = ENTRIES.get(key);
+        if (entry == null)
+        {
+            entry = new Entry(load(world, key));
+            ENTRIES.put(key, entry);
+            if (entry.blueprint != null)
+            {
+                KEYS_BY_BLUEPRINT.put(entry.blueprint, key);
+            }
+            evict();
+        }
+        return entry;
+    }
+
+    /**
+     * Load and rotate a blueprint from its schematic.
+     *
+     * @param world the world.
+     * @param key   the variant to load.
+     * @return the blueprint or null if it does not exist.
+     */
+    @Nullable
+    private static Blueprint load(@NotNull final World world, @NotNull final Key key)
+    {
+        final Structure structure;
+        try
+        {
+            structure = new Structure(world, key.name, new PlacementSettings());
+        }
+        catch (final IllegalStateException e)
+        {
+            Log.getLogger().warn(String.format("Failed to load blueprint %s", key.name), e);
+            return null;
+        }
+
+        if (structure.getBluePrint() == null)
+        {
+            return null;
+        }
+
+        structure.rotate(BlockPosUtil.getRotationFromRotations(key.rotation), world, BlockPos.ORIGIN, key.mirror);
+        return structure.getBluePrint();
+    }
+
+    /**
+     * Evict the least recently used entries until the cache is within its bound.
+     * Entries without references go first, then the least recently used ones, as jobs which never released their structure must not pin the cache.
+     */
+    private static void evict()
+    {
+        final int maxSize = Math.max(1, Configurations.gameplay.blueprintCacheSize);
+        if (ENTRIES.size() <= maxSize)
+        {
+            return;
+        }
+
+        final Iterator<Map.Entry<Key, Entry>> unreferenced = ENTRIES.entrySet().iterator();
+        while (ENTRIES.size() > maxSize && unreferenced.hasNext())
+        {
+            final Map.Entry<Key, Entry> entry = unreferenced.next();
+            if (entry.getValue().references == 0)
+            {
+                remove(unreferenced, entry);
+            }
+        }
+
+        final Iterator<Map.Entry<Key, Entry>> leastRecentlyUsed = ENTRIES.entrySet().iterator();
+        while (ENTRIES.size() > maxSize && leastRecentlyUsed.hasNext())
+        {
+            remove(leastRecentlyUsed, leastRecentlyUsed.next());
+        }
+    }
+
+    /**
+     * Remove an entry through an iterator of the entries.
+     *
+     * @param iterator the iterator.
+     * @param entry    the current entry of the iterator.
+     */
+    private static void remove(@NotNull final Iterator<Map.Entry<Key, Entry>> iterator, @NotNull final Map.Entry<Key, Entry> entry)
+    {
+        if (entry.getValue().blueprint != null)
+        {
+            KEYS_BY_BLUEPRINT.remove(entry.getValue().blueprint);
+        }
+        iterator.remove();
+    }
+
+    /**
+     * A cached blueprint and the amount of structures using it.
+     */
+    private static final class Entry
+    {
+        /**
+         * The rotated blueprint, null if the schematic does not exist.
+         */
+        @Nullable
+        private final Blueprint blueprint;
+
+        /**
+         * The amount of structures using the blueprint.
+         */
+        private int references;
+
+        /**
+         * Create an entry.
+         *
+         * @param blueprint the rotated blueprint.
+         */
+        private Entry(@Nullable final Blueprint blueprint)
+        {
+            this.blueprint = blueprint;
+        }
+    }
+
+    /**
+     * The schematic name, rotation and mirror of a cached blueprint.
+     */
+    private static final class Key
+    {
+        /**
+         * The schematic name.
+         */
+        private final String name;
+
+        /**
+         * The amount of times it is rotated.
+         */
+        private final int rotation;
+
+        /**
+         * The mirror.
+         */
+        private final Mirror mirror;
+
+        /**
+         * Create a key.
+         *
+         * @param name     the schematic name.
+         * @param rotation the amount of times it is rotated.
+         * @param mirror   the mirror.
+         */
+        private Key(final String name, final int rotation, final Mirror mirror)
+        {
+            this.name = name;
+            this.rotation = rotation;
+            this.mirror = mirror;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return rotation == key.rotation && name.equals(key.name) && mirror == key.mirror;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(name, rotation, mirror);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.network.messages.UpdateChunkRangeCapabilityMessage;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Tracks the colony claims of the chunks each client received, so that only new and changed chunks are sent.
+ * Chunks are sent when they become visible to a player and when their claims change, only to the players watching them.
+ * All updates of a tick are sent in one {@link UpdateChunkRangeCapabilityMessage} per player.
+ * <p>
+ * Claims are encoded as int array: owning colony followed by the close colonies.
+ * Chunks without claims are not sent as long as the client does not know any claim for them.
+ * Only accessed from the server thread.
+ */
+public final class ChunkCapabilitySyncTracker
+{
+    /**
+     * The claims of an unclaimed chunk, which is also what a client knows about a chunk it just received.
+     */
+    private static final int[] NO_CLAIMS = new int[] {0};
+
+    /**
+     * The state of each player.
+     */
+    private static final Map<UUID, PlayerState> players = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ChunkCapabilitySyncTracker()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue the claims of a chunk which became visible to a player.
+     *
+     * @param player the player.
+     * @param chunk  the chunk.
+     */
+    public static void onChunkWatched(@NotNull final EntityPlayerMP player, @NotNull final Chunk chunk)
+    {
+        queue(getState(player), chunk.x, chunk.z, encode(chunk));
+    }
+
+    /**
+     * Forget what a player knows about a chunk which is not visible to it anymore, the client drops the data as well.
+     *
+     * @param player the player.
+     * @param pos    the position of the chunk.
+     */
+    public static void onChunkUnwatched(@NotNull final EntityPlayerMP player, @NotNull final ChunkPos pos)
+    {
+        final PlayerState state = players.get(player.getUniqueID());
+        if (state != null)
+        {
+            final long key = ChunkPos.asLong(pos.x, pos.z);
+            state.sent.remove(key);
+            state.pending.remove(key);
+        }
+    }
+
+    /**
+     * Queue the claims of a changed chunk for all players watching it.
+     *
+     * @param world the world of the chunk.
+     * @param chunk the chunk.
+     */
+    public static void onChunkChanged(@NotNull final World world, @NotNull final Chunk chunk)
+    {
+        if (!(world instanceof WorldServer))
+        {
+            return;
+        }
+
+        final PlayerChunkMap chunkMap = ((WorldServer) world).getPlayerChunkMap();
+        int[] claims = null;
+        for (final EntityPlayer player : world.playerEntities)
+        {
+            if (player instanceof EntityPlayerMP && chunkMap.isPlayerWatchingChunk((EntityPlayerMP) player, chunk.x, chunk.z))
+            {
+                if (claims == null)
+                {
+                    claims = encode(chunk);
+                }
+                queue(getState((EntityPlayerMP) player), chunk.x, chunk.z, claims);
+            }
+        }
+    }
+
+    /**
+     * Forget all data of a player which logged out.
+     *
+     * @param player the player.
+     */
+    public static void onPlayerLoggedOut(@NotNull final EntityPlayer player)
+    {
+        players.remove(player.getUniqueID());
+    }
+
+    /**
+     * Send the updates queued in this tick, one message per player.
+     */
+    public static void sendPendingUpdates()
+    {
+        for (final PlayerState state : players.values())
+        {
+            if (!state.pending.isEmpty())
+            {
+                MineColonies.getNetwork().sendTo(new UpdateChunkRangeCapabilityMessage(state.pending), state.player);
+                state.sent.putAll(state.pending);
+                state.pending.clear();
+            }
+        }
+    }
+
+    /**
+     * Queue the claims of a chunk for a player, if they differ from what the player knows.
+     *
+     * @param state  the state of the player.
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @param claims the encoded claims.
+     */
+    private static void queue(@NotNull final PlayerState state, final int chunkX, final int chunkZ, @NotNull final int[] claims)
+    {
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final int[] known = state.sent.getOrDefault(key, NO_CLAIMS);
+        if (Arrays.equals(known, claims))
+        {
+            state.pending.remove(key);
+        }
+        else
+        {
+            state.pending.put(key, claims);
+        }
+    }
+
+    /**
+     * Get the state of a player, reset if the player changed the dimension.
+     *
+     * @param player the player.
+     * @return the state.
+     */
+    @NotNull
+    private static PlayerState getState(@NotNull final EntityPlayerMP player)
+    {
+        final PlayerState state = players.computeIfAbsent(player.getUniqueID(), id -> new PlayerState(player.dimension));
+        if (state.dimension != player.dimension)
+        {
+            state.dimension = player.dimension;
+            state.sent.clear();
+            state.pending.clear();
+        }
+
+        //  The player entity is replaced on respawn
+        state.player = player;
+        return state;
+    }
+
+    /**
+     * Encode the claims of a chunk.
+     *
+     * @param chunk the chunk.
+     * @return the owner followed by the close colonies.
+     */
+    @NotNull
+    private static int[] encode(@NotNull final Chunk chunk)
+    {
+        @Nullable final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null)
+        {
+            return NO_CLAIMS;
+        }
+
+        final List<Integer> closeColonies = cap.getAllCloseColonies();
+        final int[] claims = new int[closeColonies.size() + 1];
+        claims[0] = cap.getOwningColony();
+        for (int i = 0; i < closeColonies.size(); i++)
+        {
+            claims[i + 1] = closeColonies.get(i);
+        }
+        return claims;
+    }
+
+    /**
+     * The chunk claims known by one client.
+     */
+    private static final class PlayerState
+    {
+        /**
+         * The claims the client received, by chunk.
+         */
+        private final Map<Long, int[]> sent = new HashMap<>();
+
+        /**
+         * The claims to send at the end of the tick, by chunk.
+         */
+        private final Map<Long, int[]> pending = new HashMap<>();
+
+        /**
+         * The dimension the data belongs to.
+         */
+        private int dimension;
+
+        /**
+         * The current entity of the player.
+         */
+        private EntityPlayerMP player;
+
+        /**
+         * Create the state of a player.
+         *
+         * @param dimension the dimension of the player.
+         */
+        private PlayerState(final int dimension)
+        {
+            this.dimension = dimension;
+        }
+    }
+}
@@ -6,21 +6,24 @@ import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ChunkLoadStorage;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ChunkOwnershipIndex;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.IColonyManagerCapability;
-import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.CHUNK_INFO_PATH;
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.DISTANCE_TO_LOAD_IMMEDIATELY;
@@ -40,6 +43,26 @@ public final class ChunkDataHelper
      */
     private static final int DISTANCE_TO_DELETE = Configurations.gameplay.workingRangeTownHallChunks * BLOCKS_PER_CHUNK * 2 * 5;
 
+    /**
+     * Time which may be spent on applying pending claims per server tick, in nanoseconds.
+     */
+    private static final long CLAIM_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    /**
+     * Claims which are not applied yet, in the order they were made.
+     */
+    private static final Deque<ClaimJob> pendingClaims = new ArrayDeque<>();
+
+    /**
+     * The server tick the claim deadline is set for.
+     */
+    private static int claimTick = -1;
+
+    /**
+     * The time until which claims may be applied in the current server tick, shared by all claims of the tick.
+     */
+    private static long claimDeadline = 0;
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -99,12 +122,13 @@ public final class ChunkDataHelper
                         if (dirty)
                         {
                             chunk.markDirty();
-                            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(closeCap, chunk.x, chunk.z));
+                            ChunkCapabilitySyncTracker.onChunkChanged(world, chunk);
                         }
                     }
                 }
             }
         }
+        cap.getChunkOwnershipIndex().update(chunk);
     }
 
     /**
@@ -118,11 +142,9 @@ public final class ChunkDataHelper
         final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
         storage.applyToCap(cap);
         chunk.markDirty();
+        updateOwnershipIndex(chunk.getWorld(), chunk);
 
-        if (cap != null)
-        {
-            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
-        }
+        ChunkCapabilitySyncTracker.onChunkChanged(chunk.getWorld(), chunk);
     }
 
     /**
@@ -145,6 +167,9 @@ public final class ChunkDataHelper
             return;
         }
 
+        final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
+        final ChunkOwnershipIndex index = cap == null ? null : cap.getChunkOwnershipIndex();
+
         final File[] files = chunkDir.listFiles();
         if (files != null)
         {
@@ -158,6 +183,10 @@ public final class ChunkDataHelper
                     final int x = (int) storage.getXz();
 
                     chunkManager.addChunkStorage(x, z, storage);
+                    if (index != null)
+                    {
+                        index.applyStorage(x, z, storage);
+                    }
                     file.delete();
                 }
             }
@@ -234,6 +263,7 @@ public final class ChunkDataHelper
                 if (storage != null)
                 {
                     storage.applyToCap(colonyCap);
+                    updateOwnershipIndex(w, chunk);
                 }
                 if (colonyCap.getOwningColony() != 0)
                 {
@@ -277,6 +307,7 @@ public final class ChunkDataHelper
             Log.getLogger().error(UNABLE_TO_FIND_WORLD_CAP_TEXT);
             return;
         }
+        final IColonyManagerCapability cap = FMLCommonHandler.instance().getMinecraftServerInstance().getWorld(dimension).getCapability(COLONY_MANAGER_CAP, null);
 
         final Colony colony = ColonyManager.getColonyByWorld(colonyId, world);
         if (colony == null)
@@ -284,7 +315,7 @@ public final class ChunkDataHelper
             return;
         }
 
-        int additionalChunksToLoad = 0;
+        final List<ChunkPos> chunks = new ArrayList<>();
         for (int i = chunkX - range; i <= chunkX + range; i++)
         {
             for (int j = chunkZ - range; j <= chunkZ + range; j++)
@@ -295,24 +326,21 @@ public final class ChunkDataHelper
                     continue;
                 }
 
-                if (i == chunkX && j == chunkZ)
-                {
-                    continue;
-                }
-                if (loadChunkAndAddData(world, pos, add, colonyId, center))
-                {
-                    continue;
-                }
-
-                @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), dimension, center);
-                if (!chunkManager.addChunkStorage(i, j, newStorage))
+                if (i != chunkX || j != chunkZ)
                 {
-                    additionalChunksToLoad++;
+                    chunks.add(new ChunkPos(i, j));
                 }
             }
         }
-        final IColonyManagerCapability cap = FMLCommonHandler.instance().getMinecraftServerInstance().getWorld(dimension).getCapability(COLONY_MANAGER_CAP, null);
-        cap.setMissingChunksToLoad(cap.getMissingChunksToLoad() + additionalChunksToLoad);
+
+        queueClaims(new ClaimJob(world, chunkManager, cap, chunkX, chunkZ, chunks, (x, z) ->
+        {
+            if (loadChunkAndAddData(world, new BlockPos(x * BLOCKS_PER_CHUNK, 0, z * BLOCKS_PER_CHUNK), add, colonyId, center))
+            {
+                return null;
+            }
+            return new ChunkLoadStorage(colonyId, ChunkPos.asLong(x, z), dimension, center);
+        }));
     }
 
     /**
@@ -347,36 +375,185 @@ public final class ChunkDataHelper
             Log.getLogger().error(UNABLE_TO_FIND_WORLD_CAP_TEXT);
             return;
         }
+        final IColonyManagerCapability cap = FMLCommonHandler.instance().getMinecraftServerInstance().getWorld(dimension).getCapability(COLONY_MANAGER_CAP, null);
 
         final int maxRange = range * 2 + buffer;
-        int additionalChunksToLoad = 0;
+        final List<ChunkPos> chunks = new ArrayList<>();
         for (int i = chunkX - maxRange; i <= chunkX + maxRange; i++)
         {
             for (int j = chunkZ - maxRange; j <= chunkZ + maxRange; j++)
             {
-                if (i == chunkX && j == chunkZ)
+                if (i != chunkX || j != chunkZ)
                 {
-                    continue;
+                    chunks.add(new ChunkPos(i, j));
                 }
+            }
+        }
+
+        queueClaims(new ClaimJob(world, chunkManager, cap, chunkX, chunkZ, chunks, (x, z) ->
+        {
+            if (x >= chunkX - DISTANCE_TO_LOAD_IMMEDIATELY && z >= chunkZ - DISTANCE_TO_LOAD_IMMEDIATELY && x <= chunkX + DISTANCE_TO_LOAD_IMMEDIATELY
+                  && z <= chunkZ + DISTANCE_TO_LOAD_IMMEDIATELY
+                  && loadChunkAndAddData(world, new BlockPos(x * BLOCKS_PER_CHUNK, 0, z * BLOCKS_PER_CHUNK), add, colonyId))
+            {
+                return null;
+            }
+
+            final boolean owning = x >= chunkX - range && z >= chunkZ - range && x <= chunkX + range && z <= chunkZ + range;
+            return new ChunkLoadStorage(colonyId, ChunkPos.asLong(x, z), add, dimension, owning);
+        }));
+    }
 
-                if (i >= chunkX - DISTANCE_TO_LOAD_IMMEDIATELY && j >= chunkZ - DISTANCE_TO_LOAD_IMMEDIATELY && i <= chunkX + DISTANCE_TO_LOAD_IMMEDIATELY
-                      && j <= chunkZ + DISTANCE_TO_LOAD_IMMEDIATELY
-                      && loadChunkAndAddData(world, new BlockPos(i * BLOCKS_PER_CHUNK, 0, j * BLOCKS_PER_CHUNK), add, colonyId))
+    /**
+     * Queue a claim and apply as much of the pending claims as is left of the budget of this tick.
+     * Claims are applied in the order they were made, so a later unclaim can not be overtaken by an earlier claim.
+     *
+     * @param job the claim.
+     */
+    private static void queueClaims(@NotNull final ClaimJob job)
+    {
+        pendingClaims.add(job);
+        processPendingClaims();
+    }
+
+    /**
+     * Apply pending claims until the time budget of the current server tick is used up.
+     * Called every server tick and whenever claims are queued, all calls in one tick share one budget.
+     */
+    public static void processPendingClaims()
+    {
+        final int tick = FMLCommonHandler.instance().getMinecraftServerInstance().getTickCounter();
+        if (tick != claimTick)
+        {
+            claimTick = tick;
+            claimDeadline = System.nanoTime() + CLAIM_BUDGET_NANOS;
+        }
+
+        final long deadline = claimDeadline;
+        while (!pendingClaims.isEmpty())
+        {
+            final ClaimJob job = pendingClaims.peek();
+            if (!job.apply(deadline))
+            {
+                return;
+            }
+            pendingClaims.poll();
+        }
+    }
+
+    /**
+     * The claim of one chunk.
+     */
+    @FunctionalInterface
+    private interface ChunkClaim
+    {
+        /**
+         * Claim a chunk, directly if it is loaded.
+         *
+         * @param chunkX the chunk x coordinate.
+         * @param chunkZ the chunk z coordinate.
+         * @return the storage to apply once the chunk loads, or null if the claim was applied already.
+         */
+        @Nullable
+        ChunkLoadStorage claim(int chunkX, int chunkZ);
+    }
+
+    /**
+     * A claim of a set of chunks, which might be applied over several ticks.
+     * Chunks close to the center are claimed first, claims of unloaded chunks are stored in bulk.
+     */
+    private static final class ClaimJob
+    {
+        /**
+         * The world and its capabilities.
+         */
+        private final World                    world;
+        private final IChunkmanagerCapability  chunkManager;
+        private final IColonyManagerCapability colonyManager;
+
+        /**
+         * The chunks to claim, ordered by distance to the center.
+         */
+        private final List<ChunkPos> chunks;
+
+        /**
+         * The claim of a single chunk.
+         */
+        private final ChunkClaim claim;
+
+        /**
+         * Index of the next chunk to claim.
+         */
+        private int next = 0;
+
+        /**
+         * Create a claim job.
+         *
+         * @param world         the world.
+         * @param chunkManager  the chunk storage capability of the world.
+         * @param colonyManager the colony manager capability.
+         * @param centerX       the x coordinate of the center chunk.
+         * @param centerZ       the z coordinate of the center chunk.
+         * @param chunks        the chunks to claim.
+         * @param claim         the claim of a single chunk.
+         */
+        private ClaimJob(
+          @NotNull final World world,
+          @NotNull final IChunkmanagerCapability chunkManager,
+          @NotNull final IColonyManagerCapability colonyManager,
+          final int centerX,
+          final int centerZ,
+          @NotNull final List<ChunkPos> chunks,
+          @NotNull final ChunkClaim claim)
+        {
+            this.world = world;
+            this.chunkManager = chunkManager;
+            this.colonyManager = colonyManager;
+            this.chunks = chunks;
+            this.claim = claim;
+            chunks.sort(Comparator.comparingInt(pos -> (pos.x - centerX) * (pos.x - centerX) + (pos.z - centerZ) * (pos.z - centerZ)));
+        }
+
+        /**
+         * Claim chunks until all are done or the deadline passed.
+         *
+         * @param deadline the deadline as {@link System#nanoTime()}.
+         * @return true if all chunks are claimed.
+         */
+        private boolean apply(final long deadline)
+        {
+            if (DimensionManager.getWorld(world.provider.getDimension()) != world)
+            {
+                //  The world unloaded, the claims are lost just as the ones of the chunks which were not saved
+                Log.getLogger().warn("Dropping " + (chunks.size() - next) + " chunk claims of an unloaded world");
+                return true;
+            }
+
+            final List<Tuple<ChunkPos, ChunkLoadStorage>> storages = new ArrayList<>();
+            while (next < chunks.size() && System.nanoTime() < deadline)
+            {
+                final ChunkPos pos = chunks.get(next++);
+                final ChunkLoadStorage storage = claim.claim(pos.x, pos.z);
+                if (storage != null)
                 {
-                    continue;
+                    storages.add(new Tuple<>(pos, storage));
                 }
+            }
 
-
-                final boolean owning = i >= chunkX - range && j >= chunkZ - range && i <= chunkX + range && j <= chunkZ + range;
-                @NotNull final ChunkLoadStorage newStorage = new ChunkLoadStorage(colonyId, ChunkPos.asLong(i, j), add, dimension, owning);
-                if (!chunkManager.addChunkStorage(i, j, newStorage))
+            int additionalChunksToLoad = 0;
+            final ChunkOwnershipIndex index = colonyManager.getChunkOwnershipIndex();
+            for (final Tuple<ChunkPos, ChunkLoadStorage> storage : storages)
+            {
+                if (!chunkManager.addChunkStorage(storage.getFirst().x, storage.getFirst().z, storage.getSecond()))
                 {
                     additionalChunksToLoad++;
                 }
+                index.applyStorage(storage.getFirst().x, storage.getFirst().z, storage.getSecond());
             }
+            colonyManager.setMissingChunksToLoad(colonyManager.getMissingChunksToLoad() + additionalChunksToLoad);
+
+            return next >= chunks.size();
         }
-        final IColonyManagerCapability cap = FMLCommonHandler.instance().getMinecraftServerInstance().getWorld(dimension).getCapability(COLONY_MANAGER_CAP, null);
-        cap.setMissingChunksToLoad(cap.getMissingChunksToLoad() + additionalChunksToLoad);
     }
 
     /**
@@ -451,7 +628,8 @@ public final class ChunkDataHelper
         }
 
         chunk.markDirty();
-        MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+        updateOwnershipIndex(world, chunk);
+        ChunkCapabilitySyncTracker.onChunkChanged(world, chunk);
         return true;
     }
 
@@ -491,7 +669,57 @@ public final class ChunkDataHelper
         }
 
         chunk.markDirty();
-        MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+        updateOwnershipIndex(world, chunk);
+        ChunkCapabilitySyncTracker.onChunkChanged(world, chunk);
         return true;
     }
+
+    /**
+     * Copy the claims of a loaded chunk into the ownership index of its world.
+     *
+     * @param world the world of the chunk.
+     * @param chunk the chunk.
+     */
+    public static void updateOwnershipIndex(@NotNull final World world, @NotNull final Chunk chunk)
+    {
+        if (world.isRemote)
+        {
+            return;
+        }
+
+        final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
+        if (cap != null)
+        {
+            cap.getChunkOwnershipIndex().update(chunk);
+        }
+    }
+
+    /**
+     * Get the colony claims at a position without loading its chunk.
+     * Loaded chunks are read directly, unloaded chunks are looked up in the ownership index of the world.
+     * The result must not be changed.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the claims or null if the chunk is unloaded and not claimed.
+     */
+    @Nullable
+    public static IColonyTagCapability getClaims(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final int chunkX = pos.getX() >> 4;
+        final int chunkZ = pos.getZ() >> 4;
+        final Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk != null)
+        {
+            return chunk.getCapability(CLOSE_COLONY_CAP, null);
+        }
+
+        if (world.isRemote)
+        {
+            return null;
+        }
+
+        final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
+        return cap == null ? null : cap.getChunkOwnershipIndex().getClaims(chunkX, chunkZ);
+    }
 }
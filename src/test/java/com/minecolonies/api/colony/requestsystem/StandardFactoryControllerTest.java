@@ -10,11 +10,16 @@ import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.coremod.colony.requestsystem.locations.StaticLocation;
 import com.minecolonies.coremod.colony.requestsystem.requests.StandardRequestFactories;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.*;
@@ -110,4 +115,52 @@ public class StandardFactoryControllerTest
 
         assertEquals(output, token);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBufferRoundTrip()
+    {
+        final IToken token = new StandardToken(UUID.randomUUID());
+
+        final ByteBuf buffer = Unpooled.buffer();
+        StandardFactoryController.getInstance().writeToBuffer(buffer, token);
+        final IToken read = StandardFactoryController.getInstance().readFromBuffer(buffer);
+
+        assertEquals(token, read);
+        assertEquals(0, buffer.readableBytes());
+    }
+
+    @Test
+    public void testBufferRoundTripWithRemappedTypeIds()
+    {
+        StandardFactoryController.getInstance().registerNewFactory(new StaticLocation.Factory());
+        final List<String> localTable = StandardFactoryController.getInstance().getTypeTable();
+
+        //The server registered the same factories in the opposite order.
+        StandardFactoryController.getInstance().setRemoteTypeTable(Arrays.asList(localTable.get(1), localTable.get(0)));
+
+        final IToken token = new StandardToken(UUID.randomUUID());
+        final ByteBuf buffer = Unpooled.buffer();
+        StandardFactoryController.getInstance().writeToBuffer(buffer, token);
+
+        assertEquals(1, ByteBufUtils.readVarInt(buffer.copy(), 5));
+        assertEquals(token, StandardFactoryController.getInstance().readFromBuffer(buffer));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadTypeUnknownToClient()
+    {
+        StandardFactoryController.getInstance().setRemoteTypeTable(Arrays.asList("com.minecolonies.UnknownType", StandardToken.class.getName()));
+
+        final ByteBuf buffer = Unpooled.buffer();
+        ByteBufUtils.writeVarInt(buffer, 0, 5);
+        StandardFactoryController.getInstance().readFromBuffer(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriteTypeUnknownToServer()
+    {
+        StandardFactoryController.getInstance().setRemoteTypeTable(Arrays.asList("com.minecolonies.UnknownType"));
+
+        StandardFactoryController.getInstance().writeToBuffer(Unpooled.buffer(), new StandardToken(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.minecolonies.api.colony.requestsystem.token;
+
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test for the serialization of the {@link SequenceToken} by the {@link SequenceTokenFactory}.
+ */
+public class SequenceTokenFactoryTest
+{
+    private static final long[] SEQUENCES = {0, 1, 127, 128, 300, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+
+    @Before
+    public void setUp()
+    {
+        StandardFactoryController.getInstance().registerNewFactory(new StandardTokenFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new SequenceTokenFactory());
+    }
+
+    @After
+    public void tearDown()
+    {
+        StandardFactoryController.reset();
+    }
+
+    @Test
+    public void testNBTRoundTrip()
+    {
+        for (final long sequence : SEQUENCES)
+        {
+            final IToken<?> token = new SequenceToken(sequence);
+            final NBTTagCompound compound = StandardFactoryController.getInstance().serialize(token);
+
+            assertEquals(token, StandardFactoryController.getInstance().deserialize(compound));
+        }
+    }
+
+    @Test
+    public void testBufferRoundTrip()
+    {
+        for (final long sequence : SEQUENCES)
+        {
+            final IToken<?> token = new SequenceToken(sequence);
+            final ByteBuf buffer = Unpooled.buffer();
+            StandardFactoryController.getInstance().writeToBuffer(buffer, token);
+
+            assertEquals(token, StandardFactoryController.getInstance().readFromBuffer(buffer));
+            assertEquals(0, buffer.readableBytes());
+        }
+    }
+
+    @Test
+    public void testSmallSequencesWrittenCompactly()
+    {
+        final ByteBuf buffer = Unpooled.buffer();
+        new SequenceTokenFactory().serialize(StandardFactoryController.getInstance(), new SequenceToken(127), buffer);
+
+        assertEquals(1, buffer.readableBytes());
+    }
+
+    @Test
+    public void testReadLegacyUUIDToken()
+    {
+        //Saves from before sequence tokens hold standard tokens, written with the standard token factory.
+        final StandardToken legacyToken = new StandardToken(UUID.randomUUID());
+        final NBTTagCompound compound = StandardFactoryController.getInstance().serialize(legacyToken);
+
+        final IToken<?> read = StandardFactoryController.getInstance().deserialize(compound);
+
+        assertTrue(read instanceof StandardToken);
+        assertEquals(legacyToken, read);
+        assertNotEquals(new SequenceToken(0), read);
+    }
+}
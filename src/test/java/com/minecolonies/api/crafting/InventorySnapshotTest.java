@@ -0,0 +1,214 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemStackHandler;
+import org.jetbrains.annotations.NotNull;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link InventorySnapshot} class.
+ * Checks the snapshot against counting every handler separately, the way recipes were checked before.
+ */
+public class InventorySnapshotTest
+{
+    /**
+     * The amount of random inventories to compare.
+     */
+    private static final int RANDOM_SCENARIOS = 500;
+
+    /**
+     * Size of the handlers of the random inventories.
+     */
+    private static final int HANDLER_SIZE = 6;
+
+    @BeforeClass
+    public static void setUpClass()
+    {
+        Bootstrap.register();
+    }
+
+    @Test
+    public void testCountOverSeveralHandlers()
+    {
+        final InventorySnapshot snapshot = new InventorySnapshot(
+          handler(new ItemStack(Items.STICK, 3), new ItemStack(Items.COAL, 2, 1)),
+          handler(new ItemStack(Items.STICK, 5)),
+          null);
+
+        assertEquals(8, snapshot.getCount(new ItemStack(Items.STICK)));
+        assertEquals(2, snapshot.getCount(new ItemStack(Items.COAL, 1, 1)));
+        assertEquals(0, snapshot.getCount(new ItemStack(Items.COAL)));
+        assertEquals(0, snapshot.getCount(ItemStack.EMPTY));
+    }
+
+    @Test
+    public void testCountIgnoresNBT()
+    {
+        final InventorySnapshot snapshot = new InventorySnapshot(handler(new ItemStack(Items.STICK, 2), withTag(new ItemStack(Items.STICK, 3))));
+
+        assertEquals(5, snapshot.getCount(new ItemStack(Items.STICK)));
+        assertEquals(5, snapshot.getCount(withTag(new ItemStack(Items.STICK))));
+    }
+
+    @Test
+    public void testFullFillableAmount()
+    {
+        final IRecipeStorage recipe = recipe(new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.COAL));
+
+        assertEquals(2, new InventorySnapshot(handler(new ItemStack(Items.STICK, 3), new ItemStack(Items.COAL, 2)),
+          handler(new ItemStack(Items.STICK, 2))).getFullFillableAmount(recipe));
+        assertEquals(0, new InventorySnapshot(handler(new ItemStack(Items.STICK, 1), new ItemStack(Items.COAL, 5))).getFullFillableAmount(recipe));
+        assertEquals(0, new InventorySnapshot(handler(new ItemStack(Items.STICK, 8), new ItemStack(Items.COAL, 5, 1))).getFullFillableAmount(recipe));
+    }
+
+    @Test
+    public void testIngredientsDifferingInNBTAreCountedTogether()
+    {
+        final IRecipeStorage recipe = recipe(new ItemStack(Items.STICK), withTag(new ItemStack(Items.STICK)));
+
+        assertEquals(1, recipe.getCleanedInput().size());
+        assertEquals(2, recipe.getCleanedInput().get(0).getAmount());
+        assertFalse(new InventorySnapshot(handler(new ItemStack(Items.STICK))).canFullFill(recipe));
+        assertTrue(new InventorySnapshot(handler(new ItemStack(Items.STICK)), handler(withTag(new ItemStack(Items.STICK)))).canFullFill(recipe));
+    }
+
+    @Test
+    public void testCanFullFillMatchesPerHandlerCount()
+    {
+        final Random random = new Random(42);
+        final List<ItemStack> pool = Arrays.asList(
+          new ItemStack(Items.STICK),
+          new ItemStack(Items.COAL),
+          new ItemStack(Items.COAL, 1, 1),
+          new ItemStack(Blocks.PLANKS),
+          new ItemStack(Blocks.PLANKS, 1, 2),
+          withTag(new ItemStack(Items.STICK)));
+
+        for (int scenario = 0; scenario < RANDOM_SCENARIOS; scenario++)
+        {
+            final List<IItemHandler> handlers = new ArrayList<>();
+            final int handlerCount = 1 + random.nextInt(4);
+            for (int i = 0; i < handlerCount; i++)
+            {
+                final ItemStackHandler handler = new ItemStackHandler(HANDLER_SIZE);
+                for (int slot = 0; slot < HANDLER_SIZE; slot++)
+                {
+                    if (random.nextBoolean())
+                    {
+                        final ItemStack stack = pool.get(random.nextInt(pool.size())).copy();
+                        stack.setCount(1 + random.nextInt(4));
+                        handler.setStackInSlot(slot, stack);
+                    }
+                }
+                handlers.add(handler);
+            }
+
+            final List<ItemStack> input = new ArrayList<>();
+            for (int slot = 0; slot < 9; slot++)
+            {
+                input.add(random.nextInt(3) == 0 ? ItemStack.EMPTY : pool.get(random.nextInt(pool.size())).copy());
+            }
+            final IRecipeStorage recipe = new RecipeStorage(new StandardToken(), input, 3, new ItemStack(Items.BOWL), null);
+
+            assertEquals("Scenario " + scenario, canFullFillPerHandler(recipe, handlers), new InventorySnapshot(handlers).canFullFill(recipe));
+        }
+    }
+
+    /**
+     * Check a recipe by counting every ingredient in every handler separately.
+     *
+     * @param recipe   the recipe.
+     * @param handlers the handlers.
+     * @return true if every ingredient is found often enough.
+     */
+    private static boolean canFullFillPerHandler(@NotNull final IRecipeStorage recipe, @NotNull final List<IItemHandler> handlers)
+    {
+        for (final ItemStorage storage : recipe.getCleanedInput())
+        {
+            int amountNeeded = storage.getAmount();
+            boolean hasStack = false;
+            for (final IItemHandler handler : handlers)
+            {
+                int count = 0;
+                for (int slot = 0; slot < handler.getSlots(); slot++)
+                {
+                    final ItemStack stack = handler.getStackInSlot(slot);
+                    if (!stack.isEmpty() && stack.isItemEqual(storage.getItemStack()))
+                    {
+                        count += stack.getCount();
+                    }
+                }
+
+                if (count >= amountNeeded)
+                {
+                    hasStack = true;
+                    break;
+                }
+                amountNeeded -= count;
+            }
+
+            if (!hasStack)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create a 2x2 recipe of the ingredients, filled with empty slots.
+     *
+     * @param ingredients the ingredients.
+     * @return the recipe.
+     */
+    private static IRecipeStorage recipe(@NotNull final ItemStack... ingredients)
+    {
+        final List<ItemStack> input = new ArrayList<>(Arrays.asList(ingredients));
+        while (input.size() < 4)
+        {
+            input.add(ItemStack.EMPTY);
+        }
+        return new RecipeStorage(new StandardToken(), input, 2, new ItemStack(Items.BOWL), null);
+    }
+
+    /**
+     * Create a handler holding the stacks.
+     *
+     * @param stacks the stacks.
+     * @return the handler.
+     */
+    private static IItemHandler handler(@NotNull final ItemStack... stacks)
+    {
+        final ItemStackHandler handler = new ItemStackHandler(stacks.length);
+        for (int slot = 0; slot < stacks.length; slot++)
+        {
+            handler.setStackInSlot(slot, stacks[slot]);
+        }
+        return handler;
+    }
+
+    /**
+     * Give a stack some NBT.
+     *
+     * @param stack the stack.
+     * @return the same stack.
+     */
+    private static ItemStack withTag(@NotNull final ItemStack stack)
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("name", "test");
+        stack.setTagCompound(compound);
+        return stack;
+    }
+}
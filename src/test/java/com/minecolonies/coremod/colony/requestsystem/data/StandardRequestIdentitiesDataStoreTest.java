@@ -0,0 +1,69 @@
+package com.minecolonies.coremod.colony.requestsystem.data;
+
+import com.google.common.collect.HashBiMap;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.token.SequenceTokenFactory;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardTokenFactory;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test for the persistence of the token sequence of the {@link StandardRequestIdentitiesDataStore}.
+ */
+public class StandardRequestIdentitiesDataStoreTest
+{
+    private StandardRequestIdentitiesDataStore.Factory factory;
+
+    @Before
+    public void setUp()
+    {
+        StandardFactoryController.getInstance().registerNewFactory(new StandardTokenFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new SequenceTokenFactory());
+        factory = new StandardRequestIdentitiesDataStore.Factory();
+    }
+
+    @After
+    public void tearDown()
+    {
+        StandardFactoryController.reset();
+    }
+
+    private static StandardRequestIdentitiesDataStore createStore()
+    {
+        return new StandardRequestIdentitiesDataStore(new StandardToken(UUID.randomUUID()), HashBiMap.create(), 1);
+    }
+
+    @Test
+    public void testSequenceContinuesAfterLoad()
+    {
+        final StandardRequestIdentitiesDataStore store = createStore();
+        assertEquals(1, store.getNextTokenSequence());
+        assertEquals(2, store.getNextTokenSequence());
+        assertEquals(3, store.getNextTokenSequence());
+
+        final NBTTagCompound compound = factory.serialize(StandardFactoryController.getInstance(), store);
+        final StandardRequestIdentitiesDataStore loaded = factory.deserialize(StandardFactoryController.getInstance(), compound);
+
+        assertEquals(store.getId(), loaded.getId());
+        assertEquals(4, loaded.getNextTokenSequence());
+    }
+
+    @Test
+    public void testLegacyStoreStartsAtOne()
+    {
+        final NBTTagCompound compound = factory.serialize(StandardFactoryController.getInstance(), createStore());
+        //Stores saved before sequence tokens existed have no sequence.
+        compound.removeTag("NextSequence");
+
+        final StandardRequestIdentitiesDataStore loaded = factory.deserialize(StandardFactoryController.getInstance(), compound);
+
+        assertEquals(1, loaded.getNextTokenSequence());
+    }
+}
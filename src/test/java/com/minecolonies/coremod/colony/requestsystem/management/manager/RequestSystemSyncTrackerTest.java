@@ -0,0 +1,205 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.google.common.collect.Lists;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardTokenFactory;
+import com.minecolonies.coremod.colony.requestsystem.data.StandardProviderRequestResolverAssignmentDataStore;
+import com.minecolonies.coremod.colony.requestsystem.data.StandardRequestIdentitiesDataStore;
+import com.minecolonies.coremod.colony.requestsystem.data.StandardRequestResolverRequestAssignmentDataStore;
+import com.minecolonies.coremod.colony.requestsystem.data.StandardRequestResolversIdentitiesDataStore;
+import com.minecolonies.coremod.colony.requestsystem.locations.StaticLocation;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.requesters.BuildingBasedRequester;
+import com.minecolonies.coremod.colony.requestsystem.requesters.factories.BuildingBasedRequesterFactory;
+import com.minecolonies.coremod.colony.requestsystem.requests.StandardRequestFactories;
+import com.minecolonies.coremod.colony.requestsystem.requests.StandardRequests;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the {@link RequestSystemSyncTracker} class.
+ * Checks that a delta written on the server restores the requests and their resolvers on the client.
+ */
+public class RequestSystemSyncTrackerTest
+{
+    /**
+     * More than one varint byte and more than a stack, to check the count is not clamped.
+     */
+    private static final int COUNT = 200;
+
+    private IStandardRequestManager server;
+    private IStandardRequestManager client;
+    private RequestSystemSyncTracker tracker;
+
+    @BeforeClass
+    public static void setUpClass()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        StandardFactoryController.getInstance().registerNewFactory(new StandardTokenFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new StaticLocation.Factory());
+        StandardFactoryController.getInstance().registerNewFactory(new BuildingBasedRequesterFactory());
+        StandardFactoryController.getInstance().registerNewFactory(new StandardRequestFactories.ItemStackRequestFactory());
+
+        server = mockManager();
+        client = mockManager();
+        tracker = new RequestSystemSyncTracker();
+    }
+
+    @After
+    public void tearDown()
+    {
+        StandardFactoryController.reset();
+    }
+
+    @Test
+    public void testDeltaRestoresRequestAndResolver()
+    {
+        final IRequest<Stack> request = addRequest(RequestState.IN_PROGRESS);
+        final IToken<?> resolver = new StandardToken(UUID.randomUUID());
+        server.getRequestResolverRequestAssignmentDataStore().getAssignments().put(resolver, Collections.singletonList(request.getToken()));
+
+        sync();
+
+        final IRequest<?> read = client.getRequestIdentitiesDataStore().getIdentities().get(request.getToken());
+        assertNotNull(read);
+        assertEquals(request.getToken(), read.getToken());
+        assertEquals(RequestState.IN_PROGRESS, read.getState());
+        assertEquals(request.getRequester().getRequesterId(), read.getRequester().getRequesterId());
+        assertEquals(request.getRequester().getRequesterLocation().getInDimensionLocation(), read.getRequester().getRequesterLocation().getInDimensionLocation());
+
+        final Stack stack = (Stack) read.getRequest();
+        assertEquals(Items.COAL, stack.getStack().getItem());
+        assertEquals(COUNT, stack.getCount());
+
+        assertEquals(Collections.singleton(request.getToken()), client.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver));
+    }
+
+    @Test
+    public void testUnchangedRequestsAreNotResent()
+    {
+        addRequest(RequestState.IN_PROGRESS);
+        sync();
+
+        final ByteBuf buf = Unpooled.buffer();
+        assertTrue(tracker.writeDelta(server, buf));
+        assertFalse(RequestSystemSyncTracker.hasChanges(buf));
+    }
+
+    @Test
+    public void testChangedStateIsResent()
+    {
+        final IRequest<Stack> request = addRequest(RequestState.IN_PROGRESS);
+        sync();
+
+        request.setState(server, RequestState.COMPLETED);
+        sync();
+
+        assertEquals(RequestState.COMPLETED, client.getRequestIdentitiesDataStore().getIdentities().get(request.getToken()).getState());
+    }
+
+    @Test
+    public void testRemovedRequestIsRemoved()
+    {
+        final IRequest<Stack> request = addRequest(RequestState.IN_PROGRESS);
+        final IToken<?> resolver = new StandardToken(UUID.randomUUID());
+        server.getRequestResolverRequestAssignmentDataStore().getAssignments().put(resolver, Collections.singletonList(request.getToken()));
+        sync();
+
+        server.getRequestIdentitiesDataStore().getIdentities().remove(request.getToken());
+        server.getRequestResolverRequestAssignmentDataStore().getAssignments().clear();
+        sync();
+
+        assertTrue(client.getRequestIdentitiesDataStore().getIdentities().isEmpty());
+        assertTrue(client.getRequestResolverRequestAssignmentDataStore().getAssignments().isEmpty());
+    }
+
+    @Test
+    public void testDeltaWithRemappedTypeIds()
+    {
+        final IRequest<Stack> request = addRequest(RequestState.IN_PROGRESS);
+
+        final ByteBuf buf = Unpooled.buffer();
+        assertTrue(tracker.writeDelta(server, buf));
+
+        final ByteBuf remapped = Unpooled.buffer();
+        StandardFactoryController.getInstance().setRemoteTypeTable(Lists.reverse(StandardFactoryController.getInstance().getTypeTable()));
+        new RequestSystemSyncTracker().writeDelta(server, remapped);
+
+        assertNotEquals(buf, remapped);
+        remapped.readInt();
+        remapped.readInt();
+        RequestSystemSyncTracker.readDelta(client, remapped);
+
+        assertEquals(COUNT, ((Stack) client.getRequestIdentitiesDataStore().getIdentities().get(request.getToken()).getRequest()).getCount());
+        assertFalse(remapped.isReadable());
+    }
+
+    /**
+     * Write a delta on the server and apply it to the client.
+     */
+    private void sync()
+    {
+        final ByteBuf buf = Unpooled.buffer();
+        assertTrue(tracker.writeDelta(server, buf));
+        assertTrue(RequestSystemSyncTracker.hasChanges(buf));
+
+        buf.readInt();
+        buf.readInt();
+        RequestSystemSyncTracker.readDelta(client, buf);
+        assertFalse(buf.isReadable());
+    }
+
+    @NotNull
+    private IRequest<Stack> addRequest(@NotNull final RequestState state)
+    {
+        final StaticLocation location = new StaticLocation.Factory().getNewInstance(StandardFactoryController.getInstance(), new BlockPos(10, 64, -20));
+        final BuildingBasedRequester requester = new BuildingBasedRequester(location, new StandardToken(UUID.randomUUID()));
+        final Stack stack = new Stack(new ItemStack(Items.COAL));
+        stack.setCount(COUNT);
+
+        final IRequest<Stack> request = new StandardRequests.ItemStackRequest(requester, new StandardToken(UUID.randomUUID()), state, stack);
+        server.getRequestIdentitiesDataStore().getIdentities().put(request.getToken(), request);
+        return request;
+    }
+
+    @NotNull
+    private static IStandardRequestManager mockManager()
+    {
+        final IStandardRequestManager manager = mock(IStandardRequestManager.class);
+        final StandardRequestIdentitiesDataStore identities = new StandardRequestIdentitiesDataStore();
+        final StandardRequestResolversIdentitiesDataStore resolvers = new StandardRequestResolversIdentitiesDataStore();
+        final StandardProviderRequestResolverAssignmentDataStore providers = new StandardProviderRequestResolverAssignmentDataStore();
+        final StandardRequestResolverRequestAssignmentDataStore assignments = new StandardRequestResolverRequestAssignmentDataStore();
+        when(manager.getRequestIdentitiesDataStore()).thenReturn(identities);
+        when(manager.getRequestResolverIdentitiesDataStore()).thenReturn(resolvers);
+        when(manager.getProviderResolverAssignmentDataStore()).thenReturn(providers);
+        when(manager.getRequestResolverRequestAssignmentDataStore()).thenReturn(assignments);
+        return manager;
+    }
+}
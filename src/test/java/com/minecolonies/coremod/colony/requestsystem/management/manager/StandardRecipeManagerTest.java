@@ -0,0 +1,192 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.RecipeStorage;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link StandardRecipeManager} class.
+ * Checks that the content and output indexes agree with the equals of the recipe storage.
+ */
+public class StandardRecipeManagerTest
+{
+    /**
+     * The amount of random recipes to compare.
+     */
+    private static final int RANDOM_RECIPES = 200;
+
+    private StandardRecipeManager manager;
+
+    @BeforeClass
+    public static void setUpClass()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        manager = new StandardRecipeManager();
+    }
+
+    @Test
+    public void testEqualRecipeGetsSameToken()
+    {
+        final IRecipeStorage recipe = recipe(new ItemStack(Items.COAL), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+        final IRecipeStorage equalRecipe = recipe(new ItemStack(Items.COAL, 4),
+          withTag(new ItemStack(Items.STICK)), new ItemStack(Items.STICK, 2), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+
+        assertEquals(recipe, equalRecipe);
+
+        final IToken token = manager.checkOrAddRecipe(recipe);
+        assertEquals(recipe.getToken(), token);
+        assertEquals(token, manager.getRecipeId(equalRecipe));
+        assertEquals(token, manager.checkOrAddRecipe(equalRecipe));
+        assertEquals(1, manager.getRecipes().size());
+        assertSame(recipe, manager.getRecipe(token));
+    }
+
+    @Test
+    public void testOutputDurabilityIsIgnored()
+    {
+        final IRecipeStorage recipe = recipe(new ItemStack(Items.WOODEN_SWORD), new ItemStack(Blocks.PLANKS), new ItemStack(Blocks.PLANKS), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+        final IRecipeStorage damagedRecipe = recipe(new ItemStack(Items.WOODEN_SWORD, 1, 10), new ItemStack(Blocks.PLANKS), new ItemStack(Blocks.PLANKS), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+
+        assertEquals(recipe, damagedRecipe);
+        assertEquals(manager.checkOrAddRecipe(recipe), manager.checkOrAddRecipe(damagedRecipe));
+    }
+
+    @Test
+    public void testDifferentRecipesGetDifferentTokens()
+    {
+        final IRecipeStorage recipe = recipe(new ItemStack(Items.COAL), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+        final IRecipeStorage otherInput = recipe(new ItemStack(Items.COAL), new ItemStack(Blocks.PLANKS), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+        final IRecipeStorage otherOrder = recipe(new ItemStack(Items.COAL), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Blocks.PLANKS));
+        final IRecipeStorage otherIntermediate = new RecipeStorage(new StandardToken(), recipe.getInput(), 2, new ItemStack(Items.COAL), Blocks.FURNACE);
+
+        final Set<IToken> tokens = new HashSet<>();
+        tokens.add(manager.checkOrAddRecipe(recipe));
+        tokens.add(manager.checkOrAddRecipe(otherInput));
+        tokens.add(manager.checkOrAddRecipe(otherOrder));
+        tokens.add(manager.checkOrAddRecipe(otherIntermediate));
+
+        assertEquals(4, tokens.size());
+        assertEquals(4, manager.getRecipes().size());
+        assertNull(manager.getRecipe(new StandardToken()));
+    }
+
+    @Test
+    public void testContentIndexAgreesWithEquals()
+    {
+        final Random random = new Random(42);
+        final List<ItemStack> pool = Arrays.asList(
+          new ItemStack(Items.STICK),
+          withTag(new ItemStack(Items.STICK)),
+          new ItemStack(Items.COAL),
+          new ItemStack(Items.COAL, 1, 1),
+          new ItemStack(Blocks.PLANKS));
+        final List<ItemStack> outputs = Arrays.asList(new ItemStack(Items.BOWL), new ItemStack(Items.BOWL, 3), new ItemStack(Items.WOODEN_SWORD), new ItemStack(Items.WOODEN_SWORD, 1, 5));
+
+        final List<IRecipeStorage> added = new ArrayList<>();
+        for (int i = 0; i < RANDOM_RECIPES; i++)
+        {
+            final List<ItemStack> input = new ArrayList<>();
+            for (int slot = 0; slot < 4; slot++)
+            {
+                input.add(pool.get(random.nextInt(2) == 0 ? 0 : random.nextInt(pool.size())).copy());
+            }
+            final IRecipeStorage recipe = new RecipeStorage(new StandardToken(), input, 2, outputs.get(random.nextInt(outputs.size())).copy(), null);
+
+            IRecipeStorage expected = recipe;
+            for (final IRecipeStorage storage : added)
+            {
+                if (storage.equals(recipe))
+                {
+                    expected = storage;
+                    break;
+                }
+            }
+
+            assertEquals("Recipe " + i, expected.getToken(), manager.checkOrAddRecipe(recipe));
+            if (expected == recipe)
+            {
+                added.add(recipe);
+            }
+        }
+
+        assertEquals(added.size(), manager.getRecipes().size());
+    }
+
+    @Test
+    public void testRecipesForOutput()
+    {
+        final IRecipeStorage first = recipe(new ItemStack(Items.COAL), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+        final IRecipeStorage second = recipe(withTag(new ItemStack(Items.COAL, 2)), new ItemStack(Blocks.PLANKS), new ItemStack(Blocks.PLANKS), new ItemStack(Blocks.PLANKS), new ItemStack(Blocks.PLANKS));
+        final IRecipeStorage charcoal = recipe(new ItemStack(Items.COAL, 1, 1), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+
+        manager.addRecipe(first);
+        manager.addRecipe(second);
+        manager.addRecipe(charcoal);
+
+        assertEquals(Arrays.asList(first.getToken(), second.getToken()), manager.getRecipesForOutput(new ItemStack(Items.COAL)));
+        assertEquals(Arrays.asList(first.getToken(), second.getToken()), manager.getRecipesForOutput(withTag(new ItemStack(Items.COAL, 5))));
+        assertEquals(Collections.singletonList(charcoal.getToken()), manager.getRecipesForOutput(new ItemStack(Items.COAL, 1, 1)));
+        assertTrue(manager.getRecipesForOutput(new ItemStack(Items.STICK)).isEmpty());
+    }
+
+    @Test
+    public void testReplacedRecipeIsReindexed()
+    {
+        final IRecipeStorage recipe = recipe(new ItemStack(Items.COAL), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK), new ItemStack(Items.STICK));
+        final IRecipeStorage replacement = new RecipeStorage(recipe.getToken(), recipe.getInput(), 2, new ItemStack(Items.BOWL), null);
+
+        manager.addRecipe(recipe);
+        manager.addRecipe(replacement);
+
+        assertTrue(manager.getRecipesForOutput(new ItemStack(Items.COAL)).isEmpty());
+        assertEquals(Collections.singletonList(recipe.getToken()), manager.getRecipesForOutput(new ItemStack(Items.BOWL)));
+        assertSame(replacement, manager.getRecipe(recipe.getToken()));
+        assertNull(manager.getRecipeId(recipe));
+        assertEquals(recipe.getToken(), manager.getRecipeId(replacement));
+    }
+
+    /**
+     * Create a 2x2 recipe.
+     *
+     * @param output the output.
+     * @param input  the four ingredients.
+     * @return the recipe.
+     */
+    private static IRecipeStorage recipe(@NotNull final ItemStack output, @NotNull final ItemStack... input)
+    {
+        return new RecipeStorage(new StandardToken(), Arrays.asList(input), 2, output, null);
+    }
+
+    /**
+     * Give a stack some NBT.
+     *
+     * @param stack the stack.
+     * @return the same stack.
+     */
+    private static ItemStack withTag(@NotNull final ItemStack stack)
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("name", "test");
+        stack.setTagCompound(compound);
+        return stack;
+    }
+}
@@ -0,0 +1,174 @@
+package com.minecolonies.coremod.colony.requestsystem.resolvers;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.minecolonies.api.colony.requestsystem.location.ILocation;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.configuration.Configurations;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Test for the retry schedule of the {@link StandardRetryingRequestResolver}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StandardRetryingRequestResolverTest
+{
+    @Mock
+    private IRequestManager manager;
+
+    @Mock
+    private ILocation location;
+
+    private final IToken<?> resolverId    = new StandardToken(UUID.randomUUID());
+    private final IToken<?> otherResolver = new StandardToken(UUID.randomUUID());
+
+    /**
+     * The requests passed to the manager for reassignment, in call order.
+     */
+    private final List<IToken<?>> reassigned = new ArrayList<>();
+
+    /**
+     * The black lists passed to the manager, in call order.
+     */
+    private final List<Collection<IToken<?>>> blackLists = new ArrayList<>();
+
+    private StandardRetryingRequestResolver resolver;
+
+    private int maximalRetries;
+    private int maximalRetriesPerTick;
+
+    @Before
+    public void setUp()
+    {
+        maximalRetries = Configurations.requestSystem.maximalRetries;
+        maximalRetriesPerTick = Configurations.requestSystem.maximalRetriesPerTick;
+
+        resolver = new StandardRetryingRequestResolver(resolverId, location);
+        resolver.updateManager(manager);
+        doAnswer(invocation ->
+        {
+            reassigned.add((IToken<?>) invocation.getArguments()[0]);
+            blackLists.add(new ArrayList<>((Collection<IToken<?>>) invocation.getArguments()[1]));
+            return otherResolver;
+        }).when(manager).reassignRequest(any(), any());
+    }
+
+    @After
+    public void tearDown()
+    {
+        Configurations.requestSystem.maximalRetries = maximalRetries;
+        Configurations.requestSystem.maximalRetriesPerTick = maximalRetriesPerTick;
+    }
+
+    private static IToken<?> createToken()
+    {
+        return new StandardToken(UUID.randomUUID());
+    }
+
+    @Test
+    public void testRetriesRunInDueTickOrder()
+    {
+        final IToken<?> first = createToken();
+        final IToken<?> second = createToken();
+        final IToken<?> third = createToken();
+        resolver.updateData(ImmutableMap.of(first, 1, second, 1, third, 1), ImmutableMap.of(third, 3, first, 1, second, 2));
+
+        resolver.update();
+        assertEquals(Collections.singletonList(first), reassigned);
+
+        resolver.update();
+        resolver.update();
+        assertEquals(Arrays.asList(first, second, third), reassigned);
+        assertTrue(resolver.getAllAssignedRequests().isEmpty());
+        assertEquals(3, resolver.getSuccessCount());
+    }
+
+    @Test
+    public void testRetriesNotRunBeforeTheyAreDue()
+    {
+        final IToken<?> token = createToken();
+        resolver.updateData(ImmutableMap.of(token, 1), ImmutableMap.of(token, 5));
+
+        for (int i = 0; i < 4; i++)
+        {
+            resolver.update();
+        }
+        assertTrue(reassigned.isEmpty());
+        assertEquals(1, (int) resolver.getDelays().get(token));
+
+        resolver.update();
+        assertEquals(Collections.singletonList(token), reassigned);
+    }
+
+    @Test
+    public void testBudgetCarriesRetriesOverToNextTick()
+    {
+        Configurations.requestSystem.maximalRetriesPerTick = 2;
+
+        final Map<IToken<?>, Integer> assigned = new HashMap<>();
+        final Map<IToken<?>, Integer> delays = new HashMap<>();
+        for (int i = 0; i < 5; i++)
+        {
+            final IToken<?> token = createToken();
+            assigned.put(token, 1);
+            delays.put(token, 1);
+        }
+        resolver.updateData(assigned, delays);
+
+        resolver.update();
+        assertEquals(2, reassigned.size());
+
+        resolver.update();
+        assertEquals(4, reassigned.size());
+
+        resolver.update();
+        assertEquals(5, reassigned.size());
+        assertEquals(assigned.keySet(), new HashSet<>(reassigned));
+        assertEquals(5, resolver.getRetryCount());
+    }
+
+    @Test
+    public void testGiveUpAfterMaximalRetries()
+    {
+        Configurations.requestSystem.maximalRetries = 2;
+        //Without a black list the request comes back to the retrying resolver, with it no resolver is left.
+        doAnswer(invocation ->
+        {
+            reassigned.add((IToken<?>) invocation.getArguments()[0]);
+            final Collection<IToken<?>> blackList = (Collection<IToken<?>>) invocation.getArguments()[1];
+            blackLists.add(new ArrayList<>(blackList));
+            if (blackList.isEmpty())
+            {
+                return resolverId;
+            }
+            throw new IllegalArgumentException("No resolver found");
+        }).when(manager).reassignRequest(any(), any());
+
+        final IToken<?> retrying = createToken();
+        final IToken<?> exhausted = createToken();
+        resolver.updateData(ImmutableMap.of(retrying, 1, exhausted, 2), ImmutableMap.of(retrying, 1, exhausted, 2));
+
+        resolver.update();
+        resolver.update();
+
+        assertEquals(Arrays.asList(retrying, exhausted), reassigned);
+        assertTrue(blackLists.get(0).isEmpty());
+        assertEquals(ImmutableSet.of(resolverId), new HashSet<>(blackLists.get(1)));
+        assertEquals(Collections.singletonList(retrying), resolver.getAllAssignedRequests());
+        assertEquals(2, (int) resolver.getAssignedRequests().get(retrying));
+        assertEquals(1, resolver.getGiveUpCount());
+    }
+}
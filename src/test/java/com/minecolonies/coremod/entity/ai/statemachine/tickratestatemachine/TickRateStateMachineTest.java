@@ -0,0 +1,166 @@
+package com.minecolonies.coremod.entity.ai.statemachine.tickratestatemachine;
+
+import com.minecolonies.coremod.entity.ai.statemachine.AIEventTarget;
+import com.minecolonies.coremod.entity.ai.statemachine.AIOneTimeEventTarget;
+import com.minecolonies.coremod.entity.ai.statemachine.AITarget;
+import com.minecolonies.coremod.entity.ai.statemachine.states.AIBlockingEventType;
+import com.sun.management.ThreadMXBean;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.minecolonies.coremod.entity.ai.statemachine.states.AIWorkerState.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TickRateStateMachineTest
+{
+    /**
+     * Ticks run before measuring the allocations.
+     */
+    private static final int WARMUP_TICKS = 20_000;
+
+    /**
+     * Ticks measured for the allocations.
+     */
+    private static final int STEADY_TICKS = 200_000;
+
+    /**
+     * Bytes the measurement itself may allocate, far below a single object per tick.
+     */
+    private static final long ALLOCATION_TOLERANCE = 16 * 1024;
+
+    private TickRateStateMachine stateMachine;
+
+    @Before
+    public void setUp()
+    {
+        stateMachine = new TickRateStateMachine(IDLE, e -> {
+            throw e;
+        });
+    }
+
+    @Test
+    public void testTransitionsCheckedInRegistrationOrder()
+    {
+        stateMachine.addTransition(new AITarget(IDLE, () -> START_WORKING));
+        stateMachine.addTransition(new AITarget(IDLE, () -> DECIDE));
+        stateMachine.tick();
+
+        assertEquals(START_WORKING, stateMachine.getState());
+    }
+
+    @Test
+    public void testEventsBeforeStateTransitions()
+    {
+        stateMachine.addTransition(new AITarget(IDLE, () -> START_WORKING));
+        stateMachine.addTransition(new AIEventTarget(AIBlockingEventType.STATE_BLOCKING, () -> true, () -> DECIDE, 1));
+        stateMachine.tick();
+
+        assertEquals(DECIDE, stateMachine.getState());
+    }
+
+    @Test
+    public void testTransitionsOnlyCheckedAtTheirTickRate()
+    {
+        final AtomicInteger checks = new AtomicInteger();
+        stateMachine.addTransition(new AITarget(IDLE, () -> checks.incrementAndGet() < 0, () -> START_WORKING, 5));
+        for (int i = 0; i < 20; i++)
+        {
+            stateMachine.tick();
+        }
+
+        assertEquals(4, checks.get());
+        assertEquals(IDLE, stateMachine.getState());
+    }
+
+    @Test
+    public void testOneTimeEventRemovedAfterUse()
+    {
+        final AtomicInteger fired = new AtomicInteger();
+        stateMachine.addTransition(new AIOneTimeEventTarget(() -> fired.incrementAndGet() > 0, START_WORKING));
+        stateMachine.addTransition(new AITarget(IDLE, () -> IDLE));
+        stateMachine.addTransition(new AITarget(START_WORKING, () -> IDLE));
+
+        stateMachine.tick();
+        assertEquals(START_WORKING, stateMachine.getState());
+
+        stateMachine.tick();
+        stateMachine.tick();
+        assertEquals(1, fired.get());
+        assertEquals(IDLE, stateMachine.getState());
+    }
+
+    @Test
+    public void testTransitionAddedAfterTickIsChecked()
+    {
+        stateMachine.addTransition(new AITarget(IDLE, () -> IDLE));
+        stateMachine.tick();
+        stateMachine.addTransition(new AIEventTarget(AIBlockingEventType.AI_BLOCKING, () -> true, () -> DECIDE, 1));
+        stateMachine.tick();
+
+        assertEquals(DECIDE, stateMachine.getState());
+    }
+
+    @Test
+    public void testSkippedTicksKeepTickRate()
+    {
+        final AtomicInteger checks = new AtomicInteger();
+        stateMachine.addTransition(new AITarget(IDLE, () -> checks.incrementAndGet() < 0, () -> START_WORKING, 5));
+        for (int i = 0; i < 10; i++)
+        {
+            stateMachine.tick(2);
+        }
+
+        assertEquals(4, checks.get());
+
+        stateMachine.tick(7);
+        assertEquals(5, checks.get());
+    }
+
+    /**
+     * A tick of a statemachine shaped like a worker AI, with a handful of events and a few targets per state at mixed tickrates, must not allocate once warmed up.
+     */
+    @Test
+    public void testTickDoesNotAllocate()
+    {
+        final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final AtomicInteger transitions = new AtomicInteger();
+        for (int i = 0; i < 6; i++)
+        {
+            stateMachine.addTransition(new AIEventTarget(AIBlockingEventType.AI_BLOCKING, () -> false, () -> IDLE, 1 + i % 3));
+        }
+        stateMachine.addTransition(new AIEventTarget(AIBlockingEventType.STATE_BLOCKING, () -> false, () -> IDLE, 20));
+
+        stateMachine.addTransition(new AITarget(IDLE, () -> false, () -> DECIDE, 10));
+        stateMachine.addTransition(new AITarget(IDLE, () -> START_WORKING, 2));
+        stateMachine.addTransition(new AITarget(START_WORKING, () -> false, () -> IDLE, 5));
+        stateMachine.addTransition(new AITarget(START_WORKING, () -> DECIDE, 1));
+        stateMachine.addTransition(new AITarget(DECIDE, () -> {
+            transitions.incrementAndGet();
+            return IDLE;
+        }, 3));
+
+        for (int i = 0; i < WARMUP_TICKS; i++)
+        {
+            stateMachine.tick();
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < STEADY_TICKS; i++)
+        {
+            stateMachine.tick();
+        }
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(transitions.get() > 0);
+        assertTrue("Allocated " + allocated + " bytes in " + STEADY_TICKS + " ticks", allocated < ALLOCATION_TOLERANCE);
+    }
+}
@@ -0,0 +1,135 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.minecolonies.api.configuration.Configurations;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link CitizenAIScheduler} class.
+ * Runs more evaluations than fit into the budget and checks that no citizen is left out.
+ */
+public class CitizenAISchedulerTest
+{
+    /**
+     * The amount of citizens competing for the budget.
+     */
+    private static final int CITIZENS = 20;
+
+    /**
+     * The amount of server ticks simulated.
+     */
+    private static final int TICKS = 100;
+
+    /**
+     * The budget used in the test, in milliseconds.
+     */
+    private static final int BUDGET_MILLIS = 1;
+
+    /**
+     * The time each evaluation takes, more than the whole budget.
+     */
+    private static final long EVALUATION_NANOS = TimeUnit.MICROSECONDS.toNanos(1100);
+
+    /**
+     * The server tick to start at, far from the ticks of other tests as the spent time is shared.
+     */
+    private static final long START_TICK = 1_000_000L;
+
+    private int budget;
+
+    private CitizenAIScheduler scheduler;
+
+    @Before
+    public void setUp()
+    {
+        budget = Configurations.gameplay.citizenAITickBudget;
+        Configurations.gameplay.citizenAITickBudget = BUDGET_MILLIS;
+        scheduler = new CitizenAIScheduler();
+    }
+
+    @After
+    public void tearDown()
+    {
+        Configurations.gameplay.citizenAITickBudget = budget;
+    }
+
+    @Test
+    public void testUrgentEvaluationsAlwaysRun()
+    {
+        assertTrue(scheduler.runEvaluation(START_TICK, CitizenAIScheduler.Priority.NORMAL, 0, CitizenAISchedulerTest::spend));
+        assertFalse(scheduler.runEvaluation(START_TICK, CitizenAIScheduler.Priority.NORMAL, 0, CitizenAISchedulerTest::spend));
+        assertFalse(scheduler.runEvaluation(START_TICK, CitizenAIScheduler.Priority.LOW, 0, CitizenAISchedulerTest::spend));
+        assertTrue(scheduler.runEvaluation(START_TICK, CitizenAIScheduler.Priority.URGENT, 0, CitizenAISchedulerTest::spend));
+        assertTrue(scheduler.runEvaluation(START_TICK, CitizenAIScheduler.Priority.LOW, CitizenAIScheduler.MAX_DEFERRALS, CitizenAISchedulerTest::spend));
+        assertEquals(2, scheduler.getDeferredEvaluations());
+
+        assertTrue(scheduler.runEvaluation(START_TICK + 1, CitizenAIScheduler.Priority.NORMAL, 0, () -> {}));
+    }
+
+    @Test
+    public void testNoCitizenStarvesWhenDemandExceedsBudget()
+    {
+        final long[] nextTick = new long[CITIZENS];
+        final long[] lastRun = new long[CITIZENS];
+        final int[] deferrals = new int[CITIZENS];
+        final int[] runs = new int[CITIZENS];
+
+        int maxRetryDelay = 0;
+        for (int citizen = 0; citizen < CITIZENS; citizen++)
+        {
+            nextTick[citizen] = START_TICK;
+            lastRun[citizen] = START_TICK;
+            maxRetryDelay = Math.max(maxRetryDelay, scheduler.getRetryDelay(citizen));
+        }
+        final long maxGap = 1 + CitizenAIScheduler.MAX_DEFERRALS * maxRetryDelay;
+
+        for (long tick = START_TICK; tick < START_TICK + TICKS; tick++)
+        {
+            // Always in the same order, so the first citizens would take the whole budget without aging.
+            for (int citizen = 0; citizen < CITIZENS; citizen++)
+            {
+                if (tick < nextTick[citizen])
+                {
+                    continue;
+                }
+
+                if (scheduler.runEvaluation(tick, CitizenAIScheduler.Priority.NORMAL, deferrals[citizen], CitizenAISchedulerTest::spend))
+                {
+                    assertTrue("Citizen " + citizen + " waited " + (tick - lastRun[citizen]) + " ticks", tick - lastRun[citizen] <= maxGap);
+                    lastRun[citizen] = tick;
+                    nextTick[citizen] = tick + 1;
+                    deferrals[citizen] = 0;
+                    runs[citizen]++;
+                }
+                else
+                {
+                    nextTick[citizen] = tick + scheduler.getRetryDelay(citizen);
+                    deferrals[citizen]++;
+                }
+            }
+        }
+
+        assertTrue(scheduler.getDeferredEvaluations() > 0);
+        for (int citizen = 0; citizen < CITIZENS; citizen++)
+        {
+            assertTrue("Citizen " + citizen + " ran " + runs[citizen] + " times", runs[citizen] >= TICKS / maxGap);
+        }
+    }
+
+    /**
+     * Spend the time of an evaluation which takes more than the whole budget.
+     */
+    private static void spend()
+    {
+        final long start = System.nanoTime();
+        while (System.nanoTime() - start < EVALUATION_NANOS)
+        {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class NodeHeapTest
+{
+    /**
+     * More nodes than the initial capacity of the heap.
+     */
+    private static final int MANY_NODES = 2_000;
+
+    private NodeHeap heap;
+
+    @Before
+    public void setUp()
+    {
+        heap = new NodeHeap();
+    }
+
+    /**
+     * Create a node with a score, the counter breaks ties between equal scores.
+     */
+    private static Node createNode(final int index, final double score)
+    {
+        final Node node = new Node(null, new BlockPos(index, 0, 0), 0, 0, score);
+        node.setCounterAdded(index);
+        return node;
+    }
+
+    @Test
+    public void testPollReturnsNodesByScore()
+    {
+        final Random random = new Random(42);
+        final List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < MANY_NODES; i++)
+        {
+            final Node node = createNode(i, random.nextInt(100));
+            nodes.add(node);
+            heap.offer(node);
+        }
+        assertEquals(MANY_NODES, heap.size());
+
+        nodes.sort(Node::compareTo);
+        for (final Node expected : nodes)
+        {
+            assertSame(expected, heap.poll());
+        }
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testEqualScoresPolledInInsertionOrder()
+    {
+        final Node first = createNode(1, 5);
+        final Node second = createNode(2, 5);
+        heap.offer(second);
+        heap.offer(first);
+
+        assertSame(first, heap.poll());
+        assertSame(second, heap.poll());
+    }
+
+    @Test
+    public void testDecreaseKeyMovesNodeUp()
+    {
+        for (int i = 0; i < 100; i++)
+        {
+            heap.offer(createNode(i, 10 + i));
+        }
+        final Node node = createNode(100, 500);
+        heap.offer(node);
+
+        node.setScore(1);
+        heap.decreaseKey(node);
+
+        assertSame(node, heap.poll());
+        assertEquals(100, heap.size());
+        double last = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty())
+        {
+            final double score = heap.poll().getScore();
+            assertTrue(score >= last);
+            last = score;
+        }
+    }
+
+    @Test
+    public void testPollRemovesNode()
+    {
+        final Node node = createNode(1, 1);
+        heap.offer(node);
+        assertTrue(heap.contains(node));
+
+        assertSame(node, heap.poll());
+        assertFalse(heap.contains(node));
+        assertEquals(-1, node.getHeapIndex());
+        assertTrue(heap.isEmpty());
+        assertNull(heap.poll());
+    }
+
+    @Test
+    public void testClearEmptiesHeap()
+    {
+        final Node node = createNode(1, 1);
+        heap.offer(node);
+        heap.offer(createNode(2, 2));
+        heap.clear();
+
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(node));
+        assertNull(heap.poll());
+    }
+}
@@ -0,0 +1,108 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class NodeTableTest
+{
+    /**
+     * More nodes than the initial capacity of the table.
+     */
+    private static final int MANY_NODES = 5_000;
+
+    private NodeTable table;
+
+    @Before
+    public void setUp()
+    {
+        table = new NodeTable();
+    }
+
+    private static Node createNode(final BlockPos pos)
+    {
+        return new Node(pos, 0);
+    }
+
+    @Test
+    public void testPutAndGet()
+    {
+        final BlockPos pos = new BlockPos(10, 64, -10);
+        final Node node = createNode(pos);
+        table.put(pos.toLong(), node);
+
+        assertSame(node, table.get(pos.toLong()));
+        assertNull(table.get(pos.up().toLong()));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testPutReplacesExistingKey()
+    {
+        final BlockPos pos = new BlockPos(1, 2, 3);
+        table.put(pos.toLong(), createNode(pos));
+        final Node replacement = createNode(pos);
+        table.put(pos.toLong(), replacement);
+
+        assertSame(replacement, table.get(pos.toLong()));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testGrowthKeepsAllNodes()
+    {
+        final Node[] nodes = new Node[MANY_NODES];
+        for (int i = 0; i < MANY_NODES; i++)
+        {
+            final BlockPos pos = new BlockPos(i % 100, 64 + i / 1000, (i / 100) % 10);
+            nodes[i] = createNode(pos);
+            table.put(pos.toLong(), nodes[i]);
+        }
+
+        assertEquals(MANY_NODES, table.size());
+        for (int i = 0; i < MANY_NODES; i++)
+        {
+            assertSame(nodes[i], table.get(new BlockPos(i % 100, 64 + i / 1000, (i / 100) % 10).toLong()));
+        }
+    }
+
+    @Test
+    public void testCollidingKeys()
+    {
+        // Keys which only differ in the high bits, or by a multiple of the table size, end up close together.
+        final long[] keys = new long[MANY_NODES];
+        for (int i = 0; i < MANY_NODES; i++)
+        {
+            keys[i] = (i % 2 == 0) ? ((long) i << 40) : (long) i * 1024;
+        }
+        keys[0] = 0;
+        keys[1] = -1;
+
+        final Node[] nodes = new Node[MANY_NODES];
+        for (int i = 0; i < MANY_NODES; i++)
+        {
+            nodes[i] = createNode(new BlockPos(i, 0, 0));
+            table.put(keys[i], nodes[i]);
+        }
+
+        assertEquals(MANY_NODES, table.size());
+        for (int i = 0; i < MANY_NODES; i++)
+        {
+            assertSame(nodes[i], table.get(keys[i]));
+        }
+        assertNull(table.get(1L << 62));
+    }
+
+    @Test
+    public void testClearRemovesNodes()
+    {
+        final BlockPos pos = new BlockPos(5, 5, 5);
+        table.put(pos.toLong(), createNode(pos));
+        table.clear();
+
+        assertEquals(0, table.size());
+        assertNull(table.get(pos.toLong()));
+    }
+}
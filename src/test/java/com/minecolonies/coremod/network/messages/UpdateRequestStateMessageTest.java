@@ -0,0 +1,89 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.google.common.collect.Lists;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardTokenFactory;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.colony.requestsystem.locations.StaticLocation;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests for the {@link UpdateRequestStateMessage} class.
+ * Checks that the message reads back exactly what it wrote, with the token in the buffer codec of the factory controller.
+ */
+public class UpdateRequestStateMessageTest
+{
+    @BeforeClass
+    public static void setUpClass()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        StandardFactoryController.getInstance().registerNewFactory(new StaticLocation.Factory());
+        StandardFactoryController.getInstance().registerNewFactory(new StandardTokenFactory());
+    }
+
+    @After
+    public void tearDown()
+    {
+        StandardFactoryController.reset();
+    }
+
+    @Test
+    public void testRoundTrip()
+    {
+        assertRoundTrip(new UpdateRequestStateMessage(1, new StandardToken(UUID.randomUUID()), RequestState.COMPLETED, ItemStackUtils.EMPTY));
+    }
+
+    @Test
+    public void testRoundTripWithItemStack()
+    {
+        assertRoundTrip(new UpdateRequestStateMessage(1, new StandardToken(UUID.randomUUID()), RequestState.OVERRULED, new ItemStack(Items.COAL, 12)));
+    }
+
+    @Test
+    public void testRoundTripWithRemappedTypeIds()
+    {
+        StandardFactoryController.getInstance().setRemoteTypeTable(Lists.reverse(StandardFactoryController.getInstance().getTypeTable()));
+        assertRoundTrip(new UpdateRequestStateMessage(1, new StandardToken(UUID.randomUUID()), RequestState.CANCELLED, ItemStackUtils.EMPTY));
+    }
+
+    /**
+     * Write a message, read it into a new one and check that this one writes the same bytes.
+     *
+     * @param message the message to check.
+     */
+    private static void assertRoundTrip(@NotNull final UpdateRequestStateMessage message)
+    {
+        final ByteBuf written = Unpooled.buffer();
+        message.toBytes(written);
+
+        final ByteBuf received = written.copy();
+        final UpdateRequestStateMessage read = new UpdateRequestStateMessage();
+        read.fromBytes(received);
+        assertFalse(received.isReadable());
+
+        final ByteBuf rewritten = Unpooled.buffer();
+        read.toBytes(rewritten);
+        assertEquals(written, rewritten);
+    }
+}